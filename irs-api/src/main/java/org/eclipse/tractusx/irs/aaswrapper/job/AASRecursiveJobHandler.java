@@ -23,23 +23,39 @@
  ********************************************************************************/
 package org.eclipse.tractusx.irs.aaswrapper.job;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.irs.component.PartChainIdentificationKey;
 import org.eclipse.tractusx.irs.connector.job.MultiTransferJob;
 import org.eclipse.tractusx.irs.connector.job.RecursiveJobHandler;
+import org.eclipse.tractusx.irs.services.MeterRegistryService;
 
 /**
- * Recursive job handler for AAS data
+ * Recursive job handler for AAS data.
+ * Every item is only requested once per job: items which are reached again through another parent or through
+ * a cycle are not requested again. Their relationship to the additional parent is still part of the result.
+ * Items are identified by global asset ID and BPN. An item reached again at a smaller depth than before is requested
+ * again, since its subtree may have been cut off by the depth limit when it was requested the first time.
  */
 @Slf4j
 public class AASRecursiveJobHandler implements RecursiveJobHandler<ItemDataRequest, AASTransferProcess> {
 
     private final TreeRecursiveLogic logic;
 
-    public AASRecursiveJobHandler(final TreeRecursiveLogic logic) {
+    private final MeterRegistryService meterService;
+
+    /**
+     * The items already requested by each running job.
+     */
+    private final Map<String, VisitedNodes> visitedNodesByJobId = new ConcurrentHashMap<>();
+
+    public AASRecursiveJobHandler(final TreeRecursiveLogic logic, final MeterRegistryService meterService) {
         this.logic = logic;
+        this.meterService = meterService;
     }
 
     @Override
@@ -49,6 +65,9 @@ public class AASRecursiveJobHandler implements RecursiveJobHandler<ItemDataReque
         final var bpn = job.getJobParameter().getBpn();
         final var dataRequest = ItemDataRequest.rootNode(
                 PartChainIdentificationKey.builder().globalAssetId(partId).bpn(bpn).build());
+        final VisitedNodes visitedNodes = new VisitedNodes();
+        visitedNodes.add(partId, bpn, dataRequest.getDepth());
+        visitedNodesByJobId.put(job.getJobIdString(), visitedNodes);
         return Stream.of(dataRequest);
     }
 
@@ -56,9 +75,35 @@ public class AASRecursiveJobHandler implements RecursiveJobHandler<ItemDataReque
     public Stream<ItemDataRequest> recurse(final MultiTransferJob job, final AASTransferProcess transferProcess) {
         log.info("Starting recursive request for job {}", job.getJobIdString());
 
-        return transferProcess.getIdsToProcess()
-                              .stream()
-                              .map(itemId -> ItemDataRequest.nextDepthNode(itemId, transferProcess.getDepth()));
+        final VisitedNodes visitedNodes = visitedNodesByJobId.computeIfAbsent(job.getJobIdString(),
+                jobId -> new VisitedNodes());
+        final List<PartChainIdentificationKey> idsToProcess = transferProcess.getIdsToProcess();
+        final List<ItemDataRequest> requests = idsToProcess.stream()
+                                                           .map(itemId -> ItemDataRequest.nextDepthNode(itemId,
+                                                                   transferProcess.getDepth()))
+                                                           .filter(request -> isNotVisited(visitedNodes, request))
+                                                           .toList();
+
+        final int skipped = idsToProcess.size() - requests.size();
+        if (skipped > 0) {
+            log.info("Skipping {} items already requested in job {}", skipped, job.getJobIdString());
+            meterService.incrementSkippedItemRequests(skipped);
+        }
+        return requests.stream();
+    }
+
+    private static boolean isNotVisited(final VisitedNodes visitedNodes, final ItemDataRequest request) {
+        final PartChainIdentificationKey itemId = request.getItemId();
+        return itemId.getGlobalAssetId() == null || visitedNodes.add(itemId.getGlobalAssetId(), itemId.getBpn(),
+                request.getDepth());
+    }
+
+    @Override
+    public void finish(final String jobId) {
+        final VisitedNodes visitedNodes = visitedNodesByJobId.remove(jobId);
+        if (visitedNodes != null) {
+            log.debug("Job {} visited {} items", jobId, visitedNodes.size());
+        }
     }
 
     @Override
@@ -23,59 +23,156 @@
  ********************************************************************************/
 package org.eclipse.tractusx.irs.aaswrapper.job;
 
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
-import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
+import com.fasterxml.jackson.databind.SequenceWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.irs.component.Bpn;
 import org.eclipse.tractusx.irs.component.Relationship;
-import org.eclipse.tractusx.irs.component.Shell;
-import org.eclipse.tractusx.irs.component.Submodel;
-import org.eclipse.tractusx.irs.component.Tombstone;
+import org.eclipse.tractusx.irs.util.JsonUtil;
 
 /**
  * Assembles multiple partial item graphs into one overall item graph.
+ * <p>
+ * The partial item graphs are consumed one at a time. Their shells, submodels, relationships and tombstones are
+ * streamed into temporary files right away, so neither the overall item graph nor its JSON representation are
+ * held in memory. Only the relationships (for deduplication) and the BPNs are kept.
  */
 @Slf4j
 @RequiredArgsConstructor
 public class ItemTreesAssembler {
 
+    private final JsonUtil jsonUtil;
+
     /**
      * Assembles multiple partial item graphs into one overall item graph.
      *
      * @param partialGraph partial item graph.
-     * @return An item graph containing all the items from {@code partialGraph}, with deduplication.
+     * @return An item graph containing all the items from {@code partialGraph}, with deduplication,
+     * serialized in the JSON representation of {@link ItemContainer}.
+     * @throws IOException if the item graph could not be written to the temporary files
      */
-    /* package */ ItemContainer retrieveItemGraph(final Stream<ItemContainer> partialGraph) {
-        final var relationships = new LinkedHashSet<Relationship>();
+    /* package */ AssembledItemGraph retrieveItemGraph(final Stream<ItemContainer> partialGraph) throws IOException {
         final var numberOfPartialTrees = new AtomicInteger();
-        final ArrayList<Tombstone> tombstones = new ArrayList<>();
-        final ArrayList<Shell> shells = new ArrayList<>();
-        final ArrayList<Submodel> submodels = new ArrayList<>();
+        final Set<Relationship> relationships = new HashSet<>();
         final Set<Bpn> bpns = new HashSet<>();
 
-        partialGraph.forEachOrdered(itemGraph -> {
-            relationships.addAll(itemGraph.getRelationships());
-            numberOfPartialTrees.incrementAndGet();
-            tombstones.addAll(itemGraph.getTombstones());
-            shells.addAll(itemGraph.getShells());
-            submodels.addAll(itemGraph.getSubmodels());
-            bpns.addAll(itemGraph.getBpnsWithManufacturerName());
-        });
+        final AssembledItemGraph itemGraph = new AssembledItemGraph();
+        try {
+            try (var relationshipWriter = itemGraph.section("relationships");
+                 var tombstoneWriter = itemGraph.section("tombstones");
+                 var shellWriter = itemGraph.section("shells");
+                 var submodelWriter = itemGraph.section("submodels")) {
+
+                for (final ItemContainer partial : (Iterable<ItemContainer>) partialGraph::iterator) {
+                    numberOfPartialTrees.incrementAndGet();
+                    for (final Relationship relationship : partial.getRelationships()) {
+                        if (relationships.add(relationship)) {
+                            relationshipWriter.write(relationship);
+                        }
+                    }
+                    tombstoneWriter.writeAll(partial.getTombstones());
+                    shellWriter.writeAll(partial.getShells());
+                    submodelWriter.writeAll(partial.getSubmodels());
+                    bpns.addAll(partial.getBpnsWithManufacturerName());
+                }
+            }
+            itemGraph.complete(ItemContainer.builder().bpns(bpns).build());
+        } catch (IOException | RuntimeException e) {
+            itemGraph.close();
+            throw e;
+        }
 
         log.info("Assembled item graph from {} partial graphs", numberOfPartialTrees);
+        return itemGraph;
+    }
+
+    /**
+     * An assembled item graph, backed by temporary files which are deleted on {@link #close()}.
+     */
+    /* package */ final class AssembledItemGraph implements Closeable {
+
+        private final List<Path> sectionFiles = new ArrayList<>();
+        private final List<String> sectionNames = new ArrayList<>();
+        private byte[] suffix;
+
+        private SequenceWriter section(final String name) throws IOException {
+            final Path file = Files.createTempFile("irs-item-graph-" + name, ".json");
+            sectionFiles.add(file);
+            sectionNames.add(name);
+            return jsonUtil.arrayWriter(new BufferedOutputStream(Files.newOutputStream(file)));
+        }
+
+        /**
+         * Serializes the remaining fields of the item container, i.e. all fields except the streamed sections,
+         * with the same mapper as the sections.
+         */
+        private void complete(final ItemContainer remainingFields) {
+            final Map<String, Object> fields = new LinkedHashMap<>(jsonUtil.asMap(remainingFields));
+            sectionNames.forEach(fields::remove);
+            final String fieldsJson = jsonUtil.asString(fields);
+            final String suffixJson = fields.isEmpty() ? "}" : "," + fieldsJson.substring(1);
+            this.suffix = suffixJson.getBytes(StandardCharsets.UTF_8);
+        }
+
+        /**
+         * @return the number of bytes of the JSON representation
+         * @throws IOException if the temporary files cannot be accessed
+         */
+        /* package */ long getSize() throws IOException {
+            long size = 0;
+            for (int i = 0; i < sectionFiles.size(); i++) {
+                size += prefix(i).length + Files.size(sectionFiles.get(i));
+            }
+            return size + suffix.length;
+        }
+
+        /**
+         * @return a stream of the JSON representation, which is read from the temporary files
+         * @throws IOException if the temporary files cannot be opened
+         */
+        /* package */ InputStream getContent() throws IOException {
+            final List<InputStream> parts = new ArrayList<>();
+            for (int i = 0; i < sectionFiles.size(); i++) {
+                parts.add(new ByteArrayInputStream(prefix(i)));
+                parts.add(Files.newInputStream(sectionFiles.get(i)));
+            }
+            parts.add(new ByteArrayInputStream(suffix));
+            return new SequenceInputStream(Collections.enumeration(parts));
+        }
+
+        private byte[] prefix(final int section) {
+            final String separator = section == 0 ? "{" : ",";
+            return (separator + "\"" + sectionNames.get(section) + "\":").getBytes(StandardCharsets.UTF_8);
+        }
 
-        return ItemContainer.builder()
-                            .relationships(relationships)
-                            .tombstones(tombstones)
-                            .shells(shells)
-                            .submodels(submodels)
-                            .bpns(bpns)
-                            .build();
+        @Override
+        public void close() {
+            sectionFiles.forEach(file -> {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    log.warn("Could not delete temporary file {}", file, e);
+                }
+            });
+        }
     }
 }
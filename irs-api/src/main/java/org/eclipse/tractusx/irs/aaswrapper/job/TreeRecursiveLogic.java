@@ -25,7 +25,8 @@ package org.eclipse.tractusx.irs.aaswrapper.job;
 
 import static org.eclipse.tractusx.irs.configuration.JobConfiguration.JOB_BLOB_PERSISTENCE;
 
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 import lombok.extern.slf4j.Slf4j;
@@ -81,18 +82,16 @@ public class TreeRecursiveLogic {
             final String targetBlobName) {
         final var partialTrees = completedTransfers.stream()
                                                    .map(this::downloadPartialItemGraphBlobs)
-                                                   .map(payload -> jsonUtil.fromString(
-                                                           new String(payload, StandardCharsets.UTF_8),
-                                                           ItemContainer.class));
-        final var assembledTree = assembler.retrieveItemGraph(partialTrees);
-        final String json = jsonUtil.asString(assembledTree);
-        final var blob = json.getBytes(StandardCharsets.UTF_8);
-
-        log.info("Uploading assembled item graph to {}", targetBlobName);
-        try {
-            blobStoreApi.putBlob(targetBlobName, blob);
+                                                   .map(payload -> jsonUtil.fromBytes(payload, ItemContainer.class));
+        try (var assembledTree = assembler.retrieveItemGraph(partialTrees)) {
+            log.info("Uploading assembled item graph to {}", targetBlobName);
+            try (InputStream content = assembledTree.getContent()) {
+                blobStoreApi.putBlob(targetBlobName, content, assembledTree.getSize());
+            }
         } catch (BlobPersistenceException e) {
             log.error("Could not store blob", e);
+        } catch (IOException e) {
+            log.error("Could not assemble item graph", e);
         }
     }
 
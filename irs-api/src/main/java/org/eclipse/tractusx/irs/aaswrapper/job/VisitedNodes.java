@@ -0,0 +1,159 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.aaswrapper.job;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * The items visited in a job by global asset ID and BPN, with the smallest depth at which each item was requested.
+ * The keys are stored as 128-bit values in an open addressing hash table, which takes at most 40 bytes per item
+ * instead of several hundred for a map of strings. The key of an item is the MD5 hash of its exact global asset ID
+ * and BPN, so IDs which differ in any character, e.g. in case or by a "urn:uuid:" prefix, are different items.
+ */
+/* package */ final class VisitedNodes {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private static final byte BPN_SEPARATOR = 0;
+
+    private static final byte NO_BPN = 1;
+
+    private static final int NOT_VISITED = Integer.MAX_VALUE;
+
+    /**
+     * Pairs of most and least significant bits, (0, 0) marks an empty slot.
+     */
+    private long[] table = new long[INITIAL_CAPACITY * 2];
+
+    /**
+     * The smallest depth at which the item in the same slot of {@link #table} was requested.
+     */
+    private int[] depths = new int[INITIAL_CAPACITY];
+
+    private final MessageDigest digest = md5();
+
+    private int nilKeyDepth = NOT_VISITED;
+
+    private int size;
+
+    /**
+     * @param globalAssetId the global asset ID of the item
+     * @param bpn           the BPN of the item, may be null
+     * @param depth         the depth at which the item is requested
+     * @return true if the item was not visited yet or only at a greater depth, so that its subtree may have been
+     *         cut off by the depth limit
+     */
+    /* package */ synchronized boolean add(final String globalAssetId, final String bpn, final int depth) {
+        final ByteBuffer key = ByteBuffer.wrap(key(globalAssetId, bpn));
+        final long mostSigBits = key.getLong();
+        final long leastSigBits = key.getLong();
+        if (mostSigBits == 0 && leastSigBits == 0) {
+            if (depth >= nilKeyDepth) {
+                return false;
+            }
+            size += nilKeyDepth == NOT_VISITED ? 1 : 0;
+            nilKeyDepth = depth;
+            return true;
+        }
+        if ((size + 1) * 2 > depths.length) {
+            rehash(depths.length * 2);
+        }
+        final int slot = find(table, mostSigBits, leastSigBits);
+        if (isEmpty(table, slot)) {
+            table[slot * 2] = mostSigBits;
+            table[slot * 2 + 1] = leastSigBits;
+            depths[slot] = depth;
+            size++;
+            return true;
+        }
+        if (depth < depths[slot]) {
+            depths[slot] = depth;
+            return true;
+        }
+        return false;
+    }
+
+    /* package */ synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @return the slot of the given key, or the empty slot where it would be inserted
+     */
+    private static int find(final long[] table, final long mostSigBits, final long leastSigBits) {
+        final int mask = table.length / 2 - 1;
+        int slot = hash(mostSigBits, leastSigBits) & mask;
+        while (!isEmpty(table, slot)) {
+            if (table[slot * 2] == mostSigBits && table[slot * 2 + 1] == leastSigBits) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static boolean isEmpty(final long[] table, final int slot) {
+        return table[slot * 2] == 0 && table[slot * 2 + 1] == 0;
+    }
+
+    private void rehash(final int capacity) {
+        final long[] newTable = new long[capacity * 2];
+        final int[] newDepths = new int[capacity];
+        for (int slot = 0; slot < depths.length; slot++) {
+            if (!isEmpty(table, slot)) {
+                final int newSlot = find(newTable, table[slot * 2], table[slot * 2 + 1]);
+                newTable[newSlot * 2] = table[slot * 2];
+                newTable[newSlot * 2 + 1] = table[slot * 2 + 1];
+                newDepths[newSlot] = depths[slot];
+            }
+        }
+        table = newTable;
+        depths = newDepths;
+    }
+
+    private static int hash(final long mostSigBits, final long leastSigBits) {
+        long hash = mostSigBits * 31 + leastSigBits;
+        hash ^= hash >>> 33;
+        hash *= 0xff51_afd7_ed55_8ccdL;
+        hash ^= hash >>> 33;
+        return (int) hash;
+    }
+
+    private byte[] key(final String globalAssetId, final String bpn) {
+        digest.update(globalAssetId.getBytes(StandardCharsets.UTF_8));
+        if (bpn == null) {
+            digest.update(NO_BPN);
+        } else {
+            digest.update(BPN_SEPARATOR);
+            digest.update(bpn.getBytes(StandardCharsets.UTF_8));
+        }
+        return digest.digest();
+    }
+
+    private static MessageDigest md5() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 is required to be supported by every Java platform", e);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.aaswrapper.job.delegate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.irs.component.Shell;
+import org.eclipse.tractusx.irs.registryclient.DigitalTwinRegistryKey;
+import org.eclipse.tractusx.irs.registryclient.DigitalTwinRegistryService;
+import org.eclipse.tractusx.irs.registryclient.exceptions.RegistryServiceException;
+import org.eclipse.tractusx.irs.registryclient.exceptions.ShellNotFoundException;
+
+/**
+ * Fetches shells of the same BPN requested at nearly the same time with a single
+ * {@link DigitalTwinRegistryService#fetchShellsByKey(Collection)} call. The children of a node are started at once,
+ * so their requests are collected into one batch, which discovers the connectors and acquires the registry EDR
+ * only once instead of once per child.
+ * The first request of a batch waits for the batch window or until the batch is full and then fetches the shells
+ * of all requests in the batch, the other requests wait for its result. A request without siblings therefore waits
+ * the whole window, which is why batching is disabled unless a window is configured.
+ */
+@Slf4j
+public class BatchingShellFetcher {
+
+    private final DigitalTwinRegistryService digitalTwinRegistryService;
+
+    private final Duration batchWindow;
+
+    private final int maxBatchSize;
+
+    private final Map<String, Batch> openBatches = new HashMap<>();
+
+    /**
+     * @param digitalTwinRegistryService the service fetching the shells
+     * @param batchWindow                how long requests are collected for a batch, zero to fetch every shell
+     *                                   on its own
+     * @param maxBatchSize               the maximum number of shells fetched in one batch
+     */
+    public BatchingShellFetcher(final DigitalTwinRegistryService digitalTwinRegistryService,
+            final Duration batchWindow, final int maxBatchSize) {
+        this.digitalTwinRegistryService = digitalTwinRegistryService;
+        this.batchWindow = batchWindow;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Fetches the shell for the given key, together with the shells of other keys of the same BPN
+     * requested within the batch window.
+     *
+     * @param key the key of the shell
+     * @return the shell
+     * @throws RegistryServiceException if the shell could not be fetched
+     */
+    public Shell fetchShell(final DigitalTwinRegistryKey key) throws RegistryServiceException {
+        if (batchWindow.isZero() || maxBatchSize <= 1) {
+            return digitalTwinRegistryService.fetchShells(List.of(key)).stream().findFirst().orElseThrow();
+        }
+
+        final Batch batch;
+        final CompletableFuture<Shell> shell;
+        final boolean leader;
+        synchronized (openBatches) {
+            final Batch openBatch = openBatches.get(key.bpn());
+            leader = openBatch == null;
+            batch = leader ? new Batch() : openBatch;
+            if (leader) {
+                openBatches.put(key.bpn(), batch);
+            }
+            shell = batch.add(key);
+            if (batch.size() >= maxBatchSize) {
+                openBatches.remove(key.bpn(), batch);
+                batch.full.countDown();
+            }
+        }
+
+        if (leader) {
+            batch.awaitFull(batchWindow);
+            synchronized (openBatches) {
+                openBatches.remove(key.bpn(), batch);
+            }
+            fetchShells(batch);
+        }
+        return awaitShell(shell);
+    }
+
+    private void fetchShells(final Batch batch) {
+        final Map<DigitalTwinRegistryKey, CompletableFuture<Shell>> requestedShells;
+        synchronized (openBatches) {
+            requestedShells = Map.copyOf(batch.shells);
+        }
+        log.info("Fetching {} shell(s) of bpn '{}' in one batch", requestedShells.size(),
+                requestedShells.keySet().iterator().next().bpn());
+
+        try {
+            final Map<DigitalTwinRegistryKey, Shell> shells = digitalTwinRegistryService.fetchShellsByKey(
+                    requestedShells.keySet());
+            requestedShells.forEach((key, shell) -> complete(shell, key, shells.get(key)));
+        } catch (RegistryServiceException | RuntimeException e) {
+            requestedShells.values().forEach(shell -> shell.completeExceptionally(e));
+        }
+    }
+
+    private static void complete(final CompletableFuture<Shell> shell, final DigitalTwinRegistryKey key,
+            final Shell fetchedShell) {
+        if (fetchedShell == null) {
+            shell.completeExceptionally(new ShellNotFoundException("Unable to find shell for key " + key, List.of()));
+        } else {
+            shell.complete(fetchedShell);
+        }
+    }
+
+    private static Shell awaitShell(final CompletableFuture<Shell> shell) throws RegistryServiceException {
+        try {
+            return shell.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RegistryServiceException registryServiceException) {
+                throw registryServiceException;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * The shells requested for one BPN within the batch window.
+     */
+    private static final class Batch {
+        private final Map<DigitalTwinRegistryKey, CompletableFuture<Shell>> shells = new LinkedHashMap<>();
+        private final CountDownLatch full = new CountDownLatch(1);
+
+        private CompletableFuture<Shell> add(final DigitalTwinRegistryKey key) {
+            return shells.computeIfAbsent(key, k -> new CompletableFuture<>());
+        }
+
+        private int size() {
+            return shells.size();
+        }
+
+        private void awaitFull(final Duration batchWindow) {
+            try {
+                if (!full.await(batchWindow.toMillis(), TimeUnit.MILLISECONDS)) {
+                    log.debug("Batch window elapsed before the batch was full");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
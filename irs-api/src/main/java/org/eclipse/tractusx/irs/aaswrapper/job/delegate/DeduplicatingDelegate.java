@@ -0,0 +1,171 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.aaswrapper.job.delegate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.irs.aaswrapper.job.AASTransferProcess;
+import org.eclipse.tractusx.irs.aaswrapper.job.ItemContainer;
+import org.eclipse.tractusx.irs.component.JobParameter;
+import org.eclipse.tractusx.irs.component.PartChainIdentificationKey;
+import org.eclipse.tractusx.irs.component.enums.BomLifecycle;
+import org.eclipse.tractusx.irs.component.enums.Direction;
+
+/**
+ * Shares the processing of an item between concurrent transfers of different jobs.
+ * Transfers which request the same item with the same job parameters while it is being processed wait for
+ * the running processing and reuse its result instead of requesting the item again. Results without tombstones
+ * are additionally kept for a short time, so that near-simultaneous requests of the same item are served as well.
+ */
+@Slf4j
+public class DeduplicatingDelegate extends AbstractDelegate {
+
+    private final Duration ttl;
+
+    private final Clock clock;
+
+    private final Map<NodeKey, SharedFetch> fetches = new ConcurrentHashMap<>();
+
+    private final AtomicReference<Instant> nextCleanup;
+
+    /**
+     * @param nextStep the delegate processing the items
+     * @param ttl      how long results are kept after processing has finished, zero to only share running processing
+     * @param clock    the clock used to expire results
+     */
+    public DeduplicatingDelegate(final AbstractDelegate nextStep, final Duration ttl, final Clock clock) {
+        super(nextStep);
+        this.ttl = ttl;
+        this.clock = clock;
+        this.nextCleanup = new AtomicReference<>(clock.instant().plus(ttl));
+    }
+
+    @Override
+    public ItemContainer process(final ItemContainer.ItemContainerBuilder itemContainerBuilder,
+            final JobParameter jobData, final AASTransferProcess aasTransferProcess,
+            final PartChainIdentificationKey itemId) {
+        final Instant now = clock.instant();
+        removeExpiredFetches(now);
+
+        final NodeKey key = NodeKey.of(jobData, aasTransferProcess, itemId);
+        final SharedFetch newFetch = new SharedFetch();
+        final SharedFetch fetch = fetches.compute(key,
+                (k, existing) -> existing == null || existing.isExpired(now) ? newFetch : existing);
+
+        final NodeResult result;
+        if (fetch == newFetch) {
+            result = fetchNode(key, newFetch, jobData, aasTransferProcess, itemId);
+        } else {
+            log.debug("Reusing processing of item {} from another transfer", itemId);
+            result = awaitResult(fetch);
+        }
+
+        aasTransferProcess.addIdsToProcess(result.idsToProcess());
+        final ItemContainer container = result.container();
+        return itemContainerBuilder.relationships(container.getRelationships())
+                                   .tombstones(container.getTombstones())
+                                   .shells(container.getShells())
+                                   .submodels(container.getSubmodels())
+                                   .bpns(container.getBpns())
+                                   .metrics(container.getMetrics())
+                                   .build();
+    }
+
+    private NodeResult fetchNode(final NodeKey key, final SharedFetch fetch, final JobParameter jobData,
+            final AASTransferProcess aasTransferProcess, final PartChainIdentificationKey itemId) {
+        final AASTransferProcess process = new AASTransferProcess(aasTransferProcess.getId(),
+                aasTransferProcess.getDepth());
+        try {
+            final ItemContainer container = next(ItemContainer.builder(), jobData, process, itemId);
+            final NodeResult result = new NodeResult(container, List.copyOf(process.getIdsToProcess()));
+            if (container.getTombstones().isEmpty()) {
+                fetch.expiresAt = clock.instant().plus(ttl);
+            } else {
+                fetches.remove(key, fetch);
+            }
+            fetch.result.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            fetches.remove(key, fetch);
+            fetch.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static NodeResult awaitResult(final SharedFetch fetch) {
+        try {
+            return fetch.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private void removeExpiredFetches(final Instant now) {
+        final Instant cleanup = nextCleanup.get();
+        if (now.isAfter(cleanup) && nextCleanup.compareAndSet(cleanup, now.plus(ttl))) {
+            fetches.values().removeIf(fetch -> fetch.isExpired(now));
+        }
+    }
+
+    /**
+     * Identifies the processing of an item, i.e. all inputs of the delegates which influence the result.
+     */
+    private record NodeKey(String globalAssetId, String bpn, BomLifecycle bomLifecycle, Direction direction,
+                           Set<String> aspects, boolean collectAspects, boolean auditContractNegotiation,
+                           boolean depthReached) {
+
+        /* package */ static NodeKey of(final JobParameter jobData, final AASTransferProcess aasTransferProcess,
+                final PartChainIdentificationKey itemId) {
+            final boolean depthReached = jobData.getDepth() != null && aasTransferProcess.getDepth() != null
+                    && aasTransferProcess.getDepth() >= jobData.getDepth();
+            return new NodeKey(itemId.getGlobalAssetId(), itemId.getBpn(), jobData.getBomLifecycle(),
+                    jobData.getDirection(), new TreeSet<>(jobData.getAspects()), jobData.isCollectAspects(),
+                    jobData.isAuditContractNegotiation(), depthReached);
+        }
+    }
+
+    private record NodeResult(ItemContainer container, List<PartChainIdentificationKey> idsToProcess) {
+    }
+
+    /**
+     * The result of processing an item, which expires after the processing has finished.
+     */
+    private static final class SharedFetch {
+        private final CompletableFuture<NodeResult> result = new CompletableFuture<>();
+        private volatile Instant expiresAt = Instant.MAX;
+
+        private boolean isExpired(final Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+}
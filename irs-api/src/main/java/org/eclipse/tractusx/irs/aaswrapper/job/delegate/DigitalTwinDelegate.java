@@ -23,7 +23,7 @@
  ********************************************************************************/
 package org.eclipse.tractusx.irs.aaswrapper.job.delegate;
 
-import java.util.List;
+import java.time.Duration;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -45,12 +45,16 @@ import org.eclipse.tractusx.irs.registryclient.exceptions.RegistryServiceExcepti
 @Slf4j
 public class DigitalTwinDelegate extends AbstractDelegate {
 
-    private final DigitalTwinRegistryService digitalTwinRegistryService;
+    private final BatchingShellFetcher shellFetcher;
 
     public DigitalTwinDelegate(final AbstractDelegate nextStep,
             final DigitalTwinRegistryService digitalTwinRegistryService) {
+        this(nextStep, new BatchingShellFetcher(digitalTwinRegistryService, Duration.ZERO, 1));
+    }
+
+    public DigitalTwinDelegate(final AbstractDelegate nextStep, final BatchingShellFetcher shellFetcher) {
         super(nextStep);
-        this.digitalTwinRegistryService = digitalTwinRegistryService;
+        this.shellFetcher = shellFetcher;
     }
 
     @Override
@@ -68,11 +72,8 @@ public class DigitalTwinDelegate extends AbstractDelegate {
         }
 
         try {
-            final var dtrKeys = List.of(new DigitalTwinRegistryKey(itemId.getGlobalAssetId(), itemId.getBpn()));
-            final Shell shell = digitalTwinRegistryService.fetchShells(dtrKeys).stream()
-                                                          // we use findFirst here,  because we query only for one
-                                                          // DigitalTwinRegistryKey here
-                                                          .findFirst().orElseThrow();
+            final Shell shell = shellFetcher.fetchShell(
+                    new DigitalTwinRegistryKey(itemId.getGlobalAssetId(), itemId.getBpn()));
 
             itemContainerBuilder.shell(
                     jobData.isAuditContractNegotiation() ? shell : shell.withoutContractAgreementId());
@@ -25,6 +25,7 @@ package org.eclipse.tractusx.irs.configuration;
 
 import lombok.Getter;
 import lombok.Setter;
+import org.eclipse.tractusx.irs.common.persistence.MinioBlobPersistence;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
@@ -40,4 +41,7 @@ public class BlobstoreConfiguration {
     private String accessKey;
     private String secretKey;
     private String bucketName;
+    private String contractAgreementBucketName;
+    private int contractAgreementDaysToLive;
+    private int fetchConcurrency = MinioBlobPersistence.DEFAULT_FETCH_CONCURRENCY;
 }
@@ -25,18 +25,25 @@ package org.eclipse.tractusx.irs.configuration;
 
 import java.time.Clock;
 import java.time.Duration;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import io.github.resilience4j.retry.RetryRegistry;
 import io.micrometer.core.aop.TimedAspect;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 import org.eclipse.tractusx.irs.aaswrapper.job.AASRecursiveJobHandler;
 import org.eclipse.tractusx.irs.aaswrapper.job.AASTransferProcess;
 import org.eclipse.tractusx.irs.aaswrapper.job.AASTransferProcessManager;
 import org.eclipse.tractusx.irs.aaswrapper.job.ItemDataRequest;
 import org.eclipse.tractusx.irs.aaswrapper.job.ItemTreesAssembler;
 import org.eclipse.tractusx.irs.aaswrapper.job.TreeRecursiveLogic;
+import org.eclipse.tractusx.irs.aaswrapper.job.delegate.BatchingShellFetcher;
+import org.eclipse.tractusx.irs.aaswrapper.job.delegate.DeduplicatingDelegate;
 import org.eclipse.tractusx.irs.aaswrapper.job.delegate.DigitalTwinDelegate;
 import org.eclipse.tractusx.irs.aaswrapper.job.delegate.RelationshipDelegate;
 import org.eclipse.tractusx.irs.aaswrapper.job.delegate.SubmodelDelegate;
@@ -57,7 +64,10 @@ import org.eclipse.tractusx.irs.edc.client.EdcSubmodelClient;
 import org.eclipse.tractusx.irs.edc.client.EdcSubmodelClientImpl;
 import org.eclipse.tractusx.irs.edc.client.EdcSubmodelClientLocalStub;
 import org.eclipse.tractusx.irs.edc.client.EdcSubmodelFacade;
+import org.eclipse.tractusx.irs.edc.client.cache.contractagreement.ContractAgreementCache;
+import org.eclipse.tractusx.irs.edc.client.cache.contractagreement.PersistentContractAgreementCache;
 import org.eclipse.tractusx.irs.edc.client.cache.endpointdatareference.EndpointDataReferenceCacheService;
+import org.eclipse.tractusx.irs.edc.client.cache.endpointdatareference.EndpointDataReferenceRefresher;
 import org.eclipse.tractusx.irs.registryclient.DigitalTwinRegistryService;
 import org.eclipse.tractusx.irs.registryclient.central.DigitalTwinRegistryClient;
 import org.eclipse.tractusx.irs.registryclient.central.DigitalTwinRegistryClientLocalStub;
@@ -72,6 +82,7 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
 /**
  * Spring configuration for job-related beans.
@@ -82,8 +93,11 @@ import org.springframework.context.annotation.Profile;
 })
 public class JobConfiguration {
     public static final String JOB_BLOB_PERSISTENCE = "JobPersistence";
+    public static final String CONTRACT_AGREEMENT_BLOB_PERSISTENCE = "ContractAgreementPersistence";
+    public static final String TRANSFER_EXECUTOR = "transferExecutor";
     public static final int EXECUTOR_CORE_POOL_SIZE = 5;
     private static final Integer EXPIRE_AFTER_DAYS = 7;
+    private static final int EDR_REFRESH_POOL_SIZE = 2;
 
     @Bean
     public OutboundMeterRegistryService outboundMeterRegistryService(final MeterRegistry meterRegistry,
@@ -97,17 +111,40 @@ public class JobConfiguration {
             @Qualifier(JOB_BLOB_PERSISTENCE) final BlobPersistence blobStore, final JobStore jobStore,
             final MeterRegistryService meterService, final ApplicationEventPublisher applicationEventPublisher,
             @Value("${irs.job.jobstore.ttl.failed:}") final Duration ttlFailedJobs,
-            @Value("${irs.job.jobstore.ttl.completed:}") final Duration ttlCompletedJobs, final JsonUtil jsonUtil) {
+            @Value("${irs.job.jobstore.ttl.completed:}") final Duration ttlCompletedJobs, final JsonUtil jsonUtil,
+            @Qualifier(TRANSFER_EXECUTOR) final ExecutorService transferExecutor,
+            @Value("${irs.job.transfer.deduplication.ttl:PT10S}") final Duration deduplicationTtl, final Clock clock) {
 
-        final var manager = new AASTransferProcessManager(digitalTwinDelegate, Executors.newCachedThreadPool(),
-                blobStore, jsonUtil);
-        final var logic = new TreeRecursiveLogic(blobStore, jsonUtil, new ItemTreesAssembler());
-        final var handler = new AASRecursiveJobHandler(logic);
+        final var delegate = new DeduplicatingDelegate(digitalTwinDelegate, deduplicationTtl, clock);
+        final var manager = new AASTransferProcessManager(delegate, transferExecutor, blobStore, jsonUtil);
+        final var logic = new TreeRecursiveLogic(blobStore, jsonUtil, new ItemTreesAssembler(jsonUtil));
+        final var handler = new AASRecursiveJobHandler(logic, meterService);
         final JobTTL jobTTL = new JobTTL(ttlCompletedJobs, ttlFailedJobs);
 
         return new JobOrchestrator<>(manager, jobStore, handler, meterService, applicationEventPublisher, jobTTL);
     }
 
+    /**
+     * Executor for the transfers of all jobs. It runs at most poolSize transfers in parallel, further transfers
+     * wait in the queue. The queue is unbounded, since the workers start the transfers of the child items
+     * themselves: a bounded queue would either have to drop transfers or let the workers block on each other.
+     * Queue depth, active workers and the time transfers wait in the queue are exported as executor metrics
+     * with the tag name=irs.transfer.
+     *
+     * @param meterRegistry the registry for the executor metrics
+     * @param poolSize      the maximum number of transfers executed in parallel
+     * @return the executor
+     */
+    @Bean(TRANSFER_EXECUTOR)
+    @SuppressWarnings("PMD.DoNotUseThreads")
+    public ExecutorService transferExecutor(final MeterRegistry meterRegistry,
+            @Value("${irs.job.transfer.poolSize:50}") final int poolSize) {
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 1, TimeUnit.MINUTES,
+                new LinkedBlockingQueue<>(), new CustomizableThreadFactory("irs-transfer-"));
+        executor.allowCoreThreadTimeOut(true);
+        return ExecutorServiceMetrics.monitor(meterRegistry, executor, "irs.transfer");
+    }
+
     @Bean
     public ScheduledExecutorService scheduledExecutorService() {
         return Executors.newScheduledThreadPool(EXECUTOR_CORE_POOL_SIZE);
@@ -122,7 +159,31 @@ public class JobConfiguration {
     @Bean(JOB_BLOB_PERSISTENCE)
     public BlobPersistence blobStore(final BlobstoreConfiguration config) throws BlobPersistenceException {
         return new MinioBlobPersistence(config.getEndpoint(), config.getAccessKey(), config.getSecretKey(),
-                config.getBucketName(), EXPIRE_AFTER_DAYS);
+                config.getBucketName(), EXPIRE_AFTER_DAYS, config.getFetchConcurrency());
+    }
+
+    /**
+     * Separate store for negotiated contract agreements, since they may be valid longer than the jobs are kept
+     * in the job store.
+     *
+     * @param config the blob store configuration
+     * @return the blob store for contract agreements
+     * @throws BlobPersistenceException if the bucket cannot be created
+     */
+    @Profile("!test")
+    @Bean(CONTRACT_AGREEMENT_BLOB_PERSISTENCE)
+    public BlobPersistence contractAgreementBlobStore(final BlobstoreConfiguration config)
+            throws BlobPersistenceException {
+        return new MinioBlobPersistence(config.getEndpoint(), config.getAccessKey(), config.getSecretKey(),
+                config.getContractAgreementBucketName(), config.getContractAgreementDaysToLive(),
+                config.getFetchConcurrency());
+    }
+
+    @Bean
+    public ContractAgreementCache contractAgreementCache(
+            @Qualifier(CONTRACT_AGREEMENT_BLOB_PERSISTENCE) final BlobPersistence blobStore,
+            @Value("${irs-edc-client.controlplane.contract-agreement.ttl:P1D}") final Duration timeToLive) {
+        return new PersistentContractAgreementCache(blobStore, timeToLive);
     }
 
     @Bean
@@ -137,8 +198,11 @@ public class JobConfiguration {
 
     @Bean
     public DigitalTwinDelegate digitalTwinDelegate(final RelationshipDelegate relationshipDelegate,
-            final DigitalTwinRegistryService digitalTwinRegistryService) {
-        return new DigitalTwinDelegate(relationshipDelegate, digitalTwinRegistryService);
+            final DigitalTwinRegistryService digitalTwinRegistryService,
+            @Value("${irs.job.transfer.shell-batching.window:PT0S}") final Duration batchWindow,
+            @Value("${irs.job.transfer.shell-batching.max-size:50}") final int maxBatchSize) {
+        return new DigitalTwinDelegate(relationshipDelegate,
+                new BatchingShellFetcher(digitalTwinRegistryService, batchWindow, maxBatchSize));
     }
 
     @Bean
@@ -178,8 +242,20 @@ public class JobConfiguration {
             final ContractNegotiationService contractNegotiationService, final EdcDataPlaneClient edcDataPlaneClient,
             final AsyncPollingService pollingService, final RetryRegistry retryRegistry,
             final EDCCatalogFacade catalogFacade,
-            final EndpointDataReferenceCacheService endpointDataReferenceCacheService) {
+            final EndpointDataReferenceCacheService endpointDataReferenceCacheService,
+            final MeterRegistry meterRegistry, final EndpointDataReferenceRefresher endpointDataReferenceRefresher) {
         return new EdcSubmodelClientImpl(edcConfiguration, contractNegotiationService, edcDataPlaneClient,
-                pollingService, retryRegistry, catalogFacade, endpointDataReferenceCacheService);
+                pollingService, retryRegistry, catalogFacade, endpointDataReferenceCacheService, meterRegistry,
+                endpointDataReferenceRefresher);
+    }
+
+    @Profile({ "!local && !stubtest" })
+    @Bean
+    public EndpointDataReferenceRefresher endpointDataReferenceRefresher(final EdcConfiguration edcConfiguration,
+            final MeterRegistry meterRegistry) {
+        final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("edr-refresher-");
+        threadFactory.setDaemon(true);
+        return new EndpointDataReferenceRefresher(edcConfiguration.getControlplane().getDatareference(),
+                meterRegistry, Executors.newScheduledThreadPool(EDR_REFRESH_POOL_SIZE, threadFactory));
     }
 }
@@ -23,9 +23,12 @@
  ********************************************************************************/
 package org.eclipse.tractusx.irs.configuration;
 
+import java.util.concurrent.ExecutorService;
+
 import org.eclipse.tractusx.irs.edc.client.EdcConfiguration;
 import org.eclipse.tractusx.irs.edc.client.EdcSubmodelFacade;
 import org.eclipse.tractusx.irs.edc.client.exceptions.EdcClientException;
+import org.eclipse.tractusx.irs.registryclient.DefaultConfiguration;
 import org.eclipse.tractusx.irs.registryclient.central.CentralDigitalTwinRegistryService;
 import org.eclipse.tractusx.irs.registryclient.central.DigitalTwinRegistryClient;
 import org.eclipse.tractusx.irs.registryclient.central.DigitalTwinRegistryClientImpl;
@@ -34,6 +37,8 @@ import org.eclipse.tractusx.irs.registryclient.decentral.DecentralDigitalTwinReg
 import org.eclipse.tractusx.irs.registryclient.decentral.EdcEndpointReferenceRetriever;
 import org.eclipse.tractusx.irs.registryclient.decentral.EdcRetrieverException;
 import org.eclipse.tractusx.irs.registryclient.decentral.EndpointDataForConnectorsService;
+import org.eclipse.tractusx.irs.registryclient.decentral.ShellDescriptorCache;
+import org.eclipse.tractusx.irs.registryclient.decentral.ShellIdCache;
 import org.eclipse.tractusx.irs.registryclient.discovery.ConnectorEndpointsService;
 import org.eclipse.tractusx.irs.registryclient.discovery.DiscoveryFinderClient;
 import org.eclipse.tractusx.irs.registryclient.discovery.DiscoveryFinderClientImpl;
@@ -74,7 +79,9 @@ public class RegistryConfiguration {
             final ConnectorEndpointsService connectorEndpointsService, final EdcSubmodelFacade facade,
             @Value("${digitalTwinRegistry.shellDescriptorTemplate:}") final String shellDescriptorTemplate,
             @Value("${digitalTwinRegistry.lookupShellsTemplate:}") final String lookupShellsTemplate,
-            final EdcConfiguration edcConfiguration) {
+            final EdcConfiguration edcConfiguration, final ShellIdCache shellIdCache,
+            final ShellDescriptorCache shellDescriptorCache,
+            @Qualifier(DefaultConfiguration.REGISTRY_EXECUTOR) final ExecutorService registryExecutor) {
 
         final EdcEndpointReferenceRetriever endpointReferenceRetriever = (edcConnectorEndpoint, bpn) -> {
             try {
@@ -85,13 +92,13 @@ public class RegistryConfiguration {
         };
 
         final DecentralDigitalTwinRegistryClient digitalTwinRegistryClient = new DecentralDigitalTwinRegistryClient(
-                edcRestTemplate, shellDescriptorTemplate, lookupShellsTemplate);
+                edcRestTemplate, shellDescriptorTemplate, lookupShellsTemplate, shellDescriptorCache);
 
         final EndpointDataForConnectorsService endpointDataForConnectorsService = new EndpointDataForConnectorsService(
                 endpointReferenceRetriever);
 
         return new DecentralDigitalTwinRegistryService(connectorEndpointsService, endpointDataForConnectorsService,
-                digitalTwinRegistryClient, edcConfiguration);
+                digitalTwinRegistryClient, edcConfiguration, shellIdCache, registryExecutor);
     }
 
     @Bean
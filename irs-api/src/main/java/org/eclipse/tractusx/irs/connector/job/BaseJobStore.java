@@ -26,21 +26,39 @@ package org.eclipse.tractusx.irs.connector.job;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.irs.component.enums.JobState;
 import org.jetbrains.annotations.Nullable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 /**
  * Base class for all JobStores, implementing the Job transition logic and handling locking.
+ * Modifications are serialized per job using a fixed set of lock stripes, so that updates of different jobs
+ * can proceed in parallel. Implementations must therefore support concurrent access to different jobs.
  */
 @Slf4j
 @SuppressWarnings("PMD.TooManyMethods")
@@ -52,9 +70,43 @@ public abstract class BaseJobStore implements JobStore {
     private static final int TIMEOUT = 30_000;
 
     /**
-     * A lock to synchronize access to the collection of stored jobs.
+     * The number of lock stripes, must be a power of two.
      */
-    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private static final int LOCK_STRIPES = 256;
+
+    /**
+     * Locks to synchronize modifications of a single job. The lock for a job is selected by the hash of its ID.
+     */
+    private final Lock[] jobLocks = createLocks();
+
+    /**
+     * A lock to synchronize the initial load of the transfer process index.
+     */
+    private final Lock processIndexLock = new ReentrantLock();
+
+    /**
+     * Index of the owning job ID for every transfer process which has not yet completed.
+     * Built lazily from the stored jobs on first access and maintained on every transfer change afterwards.
+     */
+    private final Map<String, String> jobIdsByProcessId = new ConcurrentHashMap<>();
+
+    private volatile boolean processIndexLoaded;
+
+    /**
+     * A lock to synchronize the initial load of the job summary index.
+     */
+    private final Lock summaryIndexLock = new ReentrantLock();
+
+    /**
+     * Summaries of all stored jobs, by job ID and by state. The summaries of each state are ordered by
+     * {@link JobSummary#NEWEST_FIRST}. Built lazily from {@link #getAllSummaries()} on first access
+     * and maintained on every job change afterwards.
+     */
+    private final Map<String, JobSummary> summariesByJobId = new ConcurrentHashMap<>();
+
+    private final Map<JobState, NavigableSet<JobSummary>> summariesByState = createStateIndex();
+
+    private volatile boolean summaryIndexLoaded;
 
     protected abstract Optional<MultiTransferJob> get(String jobId);
 
@@ -64,18 +116,47 @@ public abstract class BaseJobStore implements JobStore {
 
     protected abstract Optional<MultiTransferJob> remove(String jobId);
 
+    /**
+     * Loads the summaries of all stored jobs to build the summary index. Implementations should override this
+     * if summaries can be loaded without loading the complete jobs.
+     *
+     * @return the summaries of all stored jobs
+     */
+    protected Collection<JobSummary> getAllSummaries() {
+        return getAll().stream().map(JobSummary::of).toList();
+    }
+
+    /**
+     * Called while holding the job lock when a transfer process has been added to a job,
+     * before the modified job is stored with {@link #put(String, MultiTransferJob)}.
+     *
+     * @param jobId     the job identifier
+     * @param processId the identifier of the added transfer process
+     */
+    protected void transferProcessAdded(final String jobId, final String processId) {
+        // no additional handling by default
+    }
+
+    /**
+     * Called while holding the job lock when a transfer process of a job has been completed,
+     * before the modified job is stored with {@link #put(String, MultiTransferJob)}.
+     *
+     * @param jobId   the job identifier
+     * @param process the completed transfer process
+     */
+    protected void transferProcessCompleted(final String jobId, final TransferProcess process) {
+        // no additional handling by default
+    }
+
     @Override
     public Optional<MultiTransferJob> find(final String jobId) {
-        return readLock(() -> get(jobId));
+        return get(jobId);
     }
 
     @Override
     public List<MultiTransferJob> findByStateAndCompletionDateOlderThan(final JobState jobState,
             final ZonedDateTime dateTime) {
-        return readLock(() -> getAll().stream()
-                                      .filter(hasState(jobState))
-                                      .filter(isCompletionDateBefore(dateTime))
-                                      .toList());
+        return getAll().stream().filter(hasState(jobState)).filter(isCompletionDateBefore(dateTime)).toList();
     }
 
     private Predicate<MultiTransferJob> hasState(final JobState jobState) {
@@ -91,15 +172,21 @@ public abstract class BaseJobStore implements JobStore {
 
     @Override
     public Optional<MultiTransferJob> findByProcessId(final String processId) {
-        return getAll().stream().filter(j -> j.getTransferProcessIds().contains(processId)).findFirst();
+        loadProcessIndex();
+        final String jobId = jobIdsByProcessId.get(processId);
+        if (jobId == null) {
+            return Optional.empty();
+        }
+        return find(jobId).filter(job -> job.getTransferProcessIds().contains(processId));
     }
 
     @Override
     public void create(final MultiTransferJob job) {
-        writeLock(() -> {
+        lockJob(job.getJobIdString(), () -> {
             final var newJob = job.toBuilder().transitionInitial().build();
             log.info("Adding new job into jobstore: {}", newJob);
             put(job.getJobIdString(), newJob);
+            indexSummary(newJob);
             return null;
         });
     }
@@ -107,34 +194,60 @@ public abstract class BaseJobStore implements JobStore {
     @Override
     public void addTransferProcess(final String jobId, final String processId) {
         log.info("Adding transfer process {} to job {}", processId, jobId);
-        modifyJob(jobId, job -> job.toBuilder().transferProcessId(processId).transitionInProgress().build());
+        modifyJob(jobId, job -> {
+            final MultiTransferJob newJob;
+            if (job.getJob().getState() == JobState.RUNNING) {
+                job.addTransferProcessId(processId);
+                newJob = job;
+            } else {
+                newJob = job.toBuilder().transferProcessId(processId).transitionInProgress().build();
+            }
+            transferProcessAdded(jobId, processId);
+            return newJob;
+        }).ifPresent(job -> jobIdsByProcessId.put(processId, jobId));
     }
 
     @Override
     public List<MultiTransferJob> findAll() {
-        return readLock(() -> new ArrayList<>(getAll()));
+        return new ArrayList<>(getAll());
     }
 
     @Override
     public void completeTransferProcess(final String jobId, final TransferProcess process) {
         log.info("Completing transfer process {} for job {}", process.getId(), jobId);
         modifyJob(jobId, job -> {
-            final var remainingTransfers = job.getTransferProcessIds()
-                                              .stream()
-                                              .filter(id -> !id.equals(process.getId()))
-                                              .toList();
-            final var newJob = job.toBuilder()
-                                  .clearTransferProcessIds()
-                                  .transferProcessIds(remainingTransfers)
-                                  .completedTransfer(process);
-            if (remainingTransfers.isEmpty()) {
+            if (job.getJob().getState() != JobState.RUNNING) {
+                return completeTransferProcessOfStoppedJob(jobId, job, process);
+            }
+            // the job is modified in place, only the final transition creates a new instance
+            final int remainingTransfers = job.completeTransferProcess(process);
+            transferProcessCompleted(jobId, process);
+            if (remainingTransfers == 0) {
                 log.info("Job {} has no remaining transfers, transitioning to TRANSFERS_FINISHED", jobId);
-                newJob.transitionTransfersFinished();
-            } else {
-                log.info("Job {} has {} remaining transfers, cannot finish it.", jobId, remainingTransfers.size());
+                return job.toBuilder().transitionTransfersFinished().build();
             }
-            return newJob.build();
+            log.info("Job {} has {} remaining transfers, cannot finish it.", jobId, remainingTransfers);
+            return job;
         });
+        jobIdsByProcessId.remove(process.getId());
+    }
+
+    private MultiTransferJob completeTransferProcessOfStoppedJob(final String jobId, final MultiTransferJob job,
+            final TransferProcess process) {
+        final var remainingTransfers = job.getTransferProcessIds()
+                                          .stream()
+                                          .filter(id -> !id.equals(process.getId()))
+                                          .toList();
+        final var newJob = job.toBuilder()
+                              .clearTransferProcessIds()
+                              .transferProcessIds(remainingTransfers)
+                              .completedTransfer(process);
+        if (remainingTransfers.isEmpty()) {
+            // fails, a job can only finish its transfers while it is running
+            newJob.transitionTransfersFinished();
+        }
+        transferProcessCompleted(jobId, process);
+        return newJob.build();
     }
 
     @Override
@@ -160,67 +273,215 @@ public abstract class BaseJobStore implements JobStore {
 
     @Override
     public List<MultiTransferJob> findByStates(final List<JobState> jobStates) {
-        return readLock(() -> getAll().stream().filter(hasState(jobStates)).toList());
+        return getAll().stream().filter(hasState(jobStates)).toList();
     }
 
     private Predicate<MultiTransferJob> hasState(final List<JobState> jobStates) {
         return job -> jobStates.contains(job.getJob().getState());
     }
 
+    @Override
+    public Page<JobSummary> findSummariesByStates(final List<JobState> jobStates, final Pageable pageable) {
+        loadSummaryIndex();
+        final List<JobState> states = jobStates.isEmpty() ? List.of(JobState.values()) : List.copyOf(
+                EnumSet.copyOf(jobStates));
+        final Sort.Order order = pageable.getSortOr(Sort.by(Sort.Direction.DESC, "startedOn"))
+                                         .stream()
+                                         .findFirst()
+                                         .orElseThrow();
+        final long total = states.stream().mapToLong(state -> summariesByState.get(state).size()).sum();
+
+        // same as PagedListHolder, requesting a page after the last one returns the last page
+        final int lastPage = (int) Math.max(0, (total - 1) / pageable.getPageSize());
+        final Pageable page = PageRequest.of(Math.min(pageable.getPageNumber(), lastPage), pageable.getPageSize(),
+                Sort.by(order));
+
+        Stream<JobSummary> summaries = states.stream().map(summariesByState::get).flatMap(Collection::stream);
+        final boolean indexOrder = states.size() == 1 && order.isDescending() && "startedOn".equalsIgnoreCase(
+                order.getProperty());
+        if (!indexOrder) {
+            final Comparator<JobSummary> comparator = JobSummary.comparing(order.getProperty())
+                                                                .map(c -> order.isAscending() ? c : c.reversed())
+                                                                .orElse(JobSummary.NEWEST_FIRST);
+            summaries = summaries.sorted(comparator);
+        }
+        final List<JobSummary> content = summaries.skip(page.getOffset()).limit(page.getPageSize()).toList();
+        return new PageImpl<>(content, page, total);
+    }
+
+    @Override
+    public Map<JobState, Long> countByState() {
+        loadSummaryIndex();
+        return summariesByState.entrySet()
+                               .stream()
+                               .filter(entry -> !entry.getValue().isEmpty())
+                               .collect(Collectors.toMap(Map.Entry::getKey, entry -> (long) entry.getValue().size(),
+                                       (a, b) -> a, () -> new EnumMap<>(JobState.class)));
+    }
+
     @Override
     public Optional<MultiTransferJob> deleteJob(final String jobId) {
-        return writeLock(() -> remove(jobId));
+        final Optional<MultiTransferJob> deletedJob = lockJob(jobId, () -> {
+            final Optional<MultiTransferJob> removedJob = remove(jobId);
+            final JobSummary summary = summariesByJobId.remove(jobId);
+            if (summary != null) {
+                summariesByState.get(summary.state()).remove(summary);
+            }
+            return removedJob;
+        });
+        deletedJob.ifPresent(job -> job.getTransferProcessIds().forEach(jobIdsByProcessId::remove));
+        return deletedJob;
     }
 
     @Override
     public Optional<MultiTransferJob> cancelJob(final String jobId) {
-        modifyJob(jobId, job -> job.toBuilder().transitionCancel().build());
+        return modifyJob(jobId, job -> job.toBuilder().transitionCancel().build());
+    }
 
-        return this.get(jobId);
+    private void loadProcessIndex() {
+        if (!processIndexLoaded) {
+            withLock(processIndexLock, () -> {
+                if (!processIndexLoaded) {
+                    getAll().forEach(job -> job.getTransferProcessIds()
+                                               .forEach(processId -> jobIdsByProcessId.putIfAbsent(processId,
+                                                       job.getJobIdString())));
+                    log.info("Loaded transfer process index with {} entries", jobIdsByProcessId.size());
+                    processIndexLoaded = true;
+                }
+                return null;
+            });
+        }
     }
 
-    private void modifyJob(final String jobId, final UnaryOperator<MultiTransferJob> action) {
-        writeLock(() -> {
+    private Optional<MultiTransferJob> modifyJob(final String jobId, final UnaryOperator<MultiTransferJob> action) {
+        return lockJob(jobId, () -> {
             final var job = get(jobId);
             if (job.isEmpty()) {
                 log.warn("Job not found: {}", jobId);
-            } else {
-                final MultiTransferJob multiTransferJob = job.get();
-                put(multiTransferJob.getJobIdString(), action.apply(multiTransferJob));
+                return Optional.empty();
             }
-            return null;
+            final MultiTransferJob modifiedJob = action.apply(job.get());
+            put(modifiedJob.getJobIdString(), modifiedJob);
+            indexSummary(modifiedJob);
+            return Optional.of(modifiedJob);
         });
     }
 
-    private <T> T readLock(final Supplier<T> work) {
-        try {
-            if (!lock.readLock().tryLock(TIMEOUT, TimeUnit.MILLISECONDS)) {
-                throw new JobException("Timeout acquiring read lock");
+    private void loadSummaryIndex() {
+        if (!summaryIndexLoaded) {
+            withLock(summaryIndexLock, () -> {
+                if (!summaryIndexLoaded) {
+                    // summaries indexed since startup are newer than the loaded ones and take precedence
+                    getAllSummaries().forEach(summary -> lockJob(summary.id().toString(), () -> {
+                        if (summariesByJobId.putIfAbsent(summary.id().toString(), summary) == null) {
+                            summariesByState.get(summary.state()).add(summary);
+                        }
+                        return null;
+                    }));
+                    log.info("Loaded job summary index with {} entries", summariesByJobId.size());
+                    summaryIndexLoaded = true;
+                }
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Drops the summaries of jobs which are no longer stored from the summary index, e.g. because the blob store
+     * removed them on expiry without going through {@link #deleteJob(String)}.
+     *
+     * @param storedSummaries the summaries of all currently stored jobs
+     */
+    protected void pruneSummaryIndex(final Collection<JobSummary> storedSummaries) {
+        if (!summaryIndexLoaded) {
+            return;
+        }
+        final Set<String> storedJobIds = storedSummaries.stream()
+                                                        .map(summary -> summary.id().toString())
+                                                        .collect(Collectors.toSet());
+        final List<String> missingJobIds = summariesByJobId.keySet()
+                                                           .stream()
+                                                           .filter(jobId -> !storedJobIds.contains(jobId))
+                                                           .toList();
+        missingJobIds.forEach(jobId -> lockJob(jobId, () -> {
+            // the job may have been created after the summaries were loaded
+            if (!isStored(jobId)) {
+                final JobSummary summary = summariesByJobId.remove(jobId);
+                if (summary != null) {
+                    summariesByState.get(summary.state()).remove(summary);
+                    log.info("Removed summary of deleted job {} from the summary index", jobId);
+                }
             }
-            try {
-                return work.get();
-            } finally {
-                lock.readLock().unlock();
+            return null;
+        }));
+    }
+
+    /**
+     * Called while holding the job lock to check whether a job is still stored before its summary is pruned.
+     * Implementations should return true if this cannot be determined.
+     *
+     * @param jobId the job identifier
+     * @return whether the job is still stored
+     */
+    protected boolean isStored(final String jobId) {
+        return get(jobId).isPresent();
+    }
+
+    /**
+     * Must be called while holding the job lock.
+     */
+    private void indexSummary(final MultiTransferJob job) {
+        final JobSummary summary = JobSummary.of(job);
+        final JobSummary previous = summariesByJobId.put(job.getJobIdString(), summary);
+        if (!summary.equals(previous)) {
+            if (previous != null) {
+                summariesByState.get(previous.state()).remove(previous);
             }
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new JobException("Job Interrupted", e);
+            summariesByState.get(summary.state()).add(summary);
         }
     }
 
-    private <T> T writeLock(final Supplier<T> work) {
+    /**
+     * Runs the given work while holding the lock of the job with the given ID.
+     *
+     * @param jobId the job identifier
+     * @param work  the work to perform
+     * @param <T>   the result type
+     * @return the result of the work
+     */
+    protected <T> T lockJob(final String jobId, final Supplier<T> work) {
+        return withLock(jobLocks[jobId.hashCode() & (LOCK_STRIPES - 1)], work);
+    }
+
+    private static <T> T withLock(final Lock lock, final Supplier<T> work) {
         try {
-            if (!lock.writeLock().tryLock(TIMEOUT, TimeUnit.MILLISECONDS)) {
-                throw new JobException("Timeout acquiring write lock");
+            if (!lock.tryLock(TIMEOUT, TimeUnit.MILLISECONDS)) {
+                throw new JobException("Timeout acquiring job lock");
             }
             try {
                 return work.get();
             } finally {
-                lock.writeLock().unlock();
+                lock.unlock();
             }
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new JobException("Job Interrupted", e);
         }
     }
+
+    private static Map<JobState, NavigableSet<JobSummary>> createStateIndex() {
+        final Map<JobState, NavigableSet<JobSummary>> index = new EnumMap<>(JobState.class);
+        for (final JobState state : JobState.values()) {
+            index.put(state, new ConcurrentSkipListSet<>(JobSummary.NEWEST_FIRST));
+        }
+        return index;
+    }
+
+    private static Lock[] createLocks() {
+        final Lock[] locks = new Lock[LOCK_STRIPES];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
+    }
 }
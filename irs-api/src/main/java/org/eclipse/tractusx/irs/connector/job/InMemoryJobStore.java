@@ -24,9 +24,10 @@
 package org.eclipse.tractusx.irs.connector.job;
 
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -45,8 +46,7 @@ public class InMemoryJobStore extends BaseJobStore {
     /**
      * The collection of stored jobs.
      */
-    @SuppressWarnings("PMD.UseConcurrentHashMap") // externally synchronized
-    private final Map<String, MultiTransferJob> jobsById = new HashMap<>();
+    private final Map<String, MultiTransferJob> jobsById = new ConcurrentHashMap<>();
 
     @Override
     protected Optional<MultiTransferJob> get(final String jobId) {
@@ -55,7 +55,7 @@ public class InMemoryJobStore extends BaseJobStore {
 
     @Override
     protected Collection<MultiTransferJob> getAll() {
-        return jobsById.values();
+        return List.copyOf(jobsById.values());
     }
 
     @Override
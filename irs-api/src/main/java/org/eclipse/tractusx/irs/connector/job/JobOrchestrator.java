@@ -42,6 +42,7 @@ import org.eclipse.tractusx.irs.component.JobParameter;
 import org.eclipse.tractusx.irs.component.enums.JobState;
 import org.eclipse.tractusx.irs.services.MeterRegistryService;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 
 /**
@@ -187,6 +188,16 @@ public class JobOrchestrator<T extends DataRequest, P extends TransferProcess> {
         callCompleteHandlerIfFinished(job.getJobIdString());
     }
 
+    /**
+     * Releases the state kept by the job handler once a job has ended.
+     *
+     * @param event the event published when a job was completed, has failed or was canceled
+     */
+    @EventListener
+    public void jobProcessingFinished(final JobProcessingFinishedEvent event) {
+        handler.finish(event.jobId());
+    }
+
     @IrsTimer("cleancompletedjobs")
     @Scheduled(cron = "${irs.job.cleanup.scheduler.completed}")
     public void findAndCleanupCompletedJobs() {
@@ -25,11 +25,14 @@ package org.eclipse.tractusx.irs.connector.job;
 
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
 
 import org.eclipse.tractusx.irs.component.enums.JobState;
 import org.jetbrains.annotations.Nullable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 /**
  * Manages storage of {@link MultiTransferJob} state.
@@ -62,6 +65,22 @@ public interface JobStore {
      */
     List<MultiTransferJob> findByStates(List<JobState> jobStates);
 
+    /**
+     * Retrieve a page of job summaries with requested states, without loading the jobs themselves.
+     *
+     * @param jobStates requested job states, all jobs are returned if empty
+     * @param pageable  the requested page and sort order, sorted by start date descending if unsorted
+     * @return the requested page of job summaries
+     */
+    Page<JobSummary> findSummariesByStates(List<JobState> jobStates, Pageable pageable);
+
+    /**
+     * Count the jobs in each state, without loading the jobs themselves.
+     *
+     * @return the number of jobs per state, states without jobs are omitted
+     */
+    Map<JobState, Long> countByState();
+
     /**
      * Retrieve a job given a transfer id. Only retrieves jobs
      * for which the transfer has not been completed
@@ -0,0 +1,67 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.connector.job;
+
+import java.time.ZonedDateTime;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.tractusx.irs.component.enums.JobState;
+
+/**
+ * The metadata of a {@link MultiTransferJob} needed to list jobs, stored and indexed separately from the job
+ * so that listing jobs does not require loading their transfers.
+ *
+ * @param id          the job identifier
+ * @param state       the current state of the job
+ * @param startedOn   timestamp when the job was started
+ * @param completedOn timestamp when the job was completed
+ */
+public record JobSummary(UUID id, JobState state, ZonedDateTime startedOn, ZonedDateTime completedOn) {
+
+    /**
+     * Order of the summaries in the state index: latest started first.
+     */
+    /* package */ static final Comparator<JobSummary> NEWEST_FIRST = Comparator.comparing(JobSummary::startedOn,
+            Comparator.nullsLast(Comparator.<ZonedDateTime>reverseOrder())).thenComparing(JobSummary::id);
+
+    public static JobSummary of(final MultiTransferJob job) {
+        return new JobSummary(job.getJob().getId(), job.getJob().getState(), job.getJob().getStartedOn(),
+                job.getJob().getCompletedOn());
+    }
+
+    /**
+     * @param property the name of a summary property
+     * @return an ascending comparator for the property, or empty if no such property exists
+     */
+    /* package */ static Optional<Comparator<JobSummary>> comparing(final String property) {
+        final Comparator<JobSummary> comparator = switch (property.toLowerCase(Locale.ROOT)) {
+            case "id" -> Comparator.comparing(JobSummary::id);
+            case "state" -> Comparator.comparing(JobSummary::state);
+            case "startedon" -> Comparator.comparing(JobSummary::startedOn, Comparator.nullsLast(
+                    Comparator.<ZonedDateTime>naturalOrder()));
+            case "completedon" -> Comparator.comparing(JobSummary::completedOn, Comparator.nullsLast(
+                    Comparator.<ZonedDateTime>naturalOrder()));
+            default -> null;
+        };
+        return Optional.ofNullable(comparator).map(c -> c.thenComparing(JobSummary::id));
+    }
+}
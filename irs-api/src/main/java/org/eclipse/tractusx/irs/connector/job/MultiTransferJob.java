@@ -27,6 +27,7 @@ import static java.lang.String.format;
 
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -34,6 +35,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
@@ -52,9 +54,10 @@ import org.jetbrains.annotations.Nullable;
 
 /**
  * Entity for recursive jobs that potentially comprise multiple transfers.
+ * State transitions create a new instance via {@link #toBuilder()}, while started and completed transfers
+ * of a running job are recorded in place, so that their cost does not depend on the size of the job.
  */
 @ToString
-@Builder(toBuilder = true)
 @Slf4j
 @JsonDeserialize(builder = MultiTransferJob.MultiTransferJobBuilder.class)
 public class MultiTransferJob {
@@ -62,7 +65,6 @@ public class MultiTransferJob {
     /**
      * Collection of transfer IDs that have not yet completed for the job.
      */
-    @Singular
     private final Set<String> transferProcessIds;
     /**
      * The attached job.
@@ -78,14 +80,60 @@ public class MultiTransferJob {
     /**
      * Collection of transfers that have completed for the job.
      */
+    private final List<TransferProcess> completedTransfers;
+
+    /**
+     * The sequence of the first transfer journal segment which is not contained in this job.
+     */
     @Getter
-    @Singular
-    private List<TransferProcess> completedTransfers;
+    private int journalSequence;
+
+    @Builder(toBuilder = true)
+    private MultiTransferJob(@Singular final Set<String> transferProcessIds, @NonNull final Job job,
+            final Optional<UUID> batchId, @Singular final List<TransferProcess> completedTransfers,
+            final int journalSequence) {
+        this.transferProcessIds = ConcurrentHashMap.newKeySet();
+        this.transferProcessIds.addAll(transferProcessIds);
+        this.job = job;
+        this.batchId = batchId;
+        this.completedTransfers = Collections.synchronizedList(new ArrayList<>(completedTransfers));
+        this.journalSequence = journalSequence;
+    }
 
     public Collection<String> getTransferProcessIds() {
         return Collections.unmodifiableSet(this.transferProcessIds);
     }
 
+    /**
+     * @return a snapshot of the transfers that have completed for the job
+     */
+    public List<TransferProcess> getCompletedTransfers() {
+        synchronized (completedTransfers) {
+            return List.copyOf(completedTransfers);
+        }
+    }
+
+    /**
+     * Records a started transfer in place. Must only be called while holding the lock of the job.
+     *
+     * @param processId the identifier of the started transfer process
+     */
+    /* package */ void addTransferProcessId(final String processId) {
+        transferProcessIds.add(processId);
+    }
+
+    /**
+     * Records a completed transfer in place. Must only be called while holding the lock of the job.
+     *
+     * @param process the completed transfer process
+     * @return the number of transfers which have not yet completed
+     */
+    /* package */ int completeTransferProcess(final TransferProcess process) {
+        transferProcessIds.remove(process.getId());
+        completedTransfers.add(process);
+        return transferProcessIds.size();
+    }
+
     @JsonIgnore
     public UUID getJobId() {
         return job.getId();
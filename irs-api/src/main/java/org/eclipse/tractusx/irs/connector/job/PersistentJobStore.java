@@ -28,11 +28,16 @@ import static org.eclipse.tractusx.irs.configuration.JobConfiguration.JOB_BLOB_P
 import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.irs.common.persistence.BlobPersistence;
 import org.eclipse.tractusx.irs.common.persistence.BlobPersistenceException;
@@ -40,11 +45,26 @@ import org.eclipse.tractusx.irs.component.enums.JobState;
 import org.eclipse.tractusx.irs.data.JsonParseException;
 import org.eclipse.tractusx.irs.services.MeterRegistryService;
 import org.eclipse.tractusx.irs.util.JsonUtil;
+import org.jetbrains.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 /**
  * Stores Job data using persistent blob storage.
+ * <p>
+ * Jobs in state {@link JobState#RUNNING} are additionally held in memory, which is the authoritative copy
+ * while the job is running. Updates which do not change the job state (e.g. added or completed transfers)
+ * are only applied in memory and written to the blob store in the background by {@link #flush()}, as segments
+ * of the append-only {@link TransferJournal} of the job. Every state transition writes a full snapshot of the job
+ * through immediately, as does every flush once the journal has grown to {@link #MAX_JOURNAL_SEGMENTS}.
+ * <p>
+ * Crash recovery: if the application terminates without a graceful shutdown, the transfer progress of running
+ * jobs since the last flush is lost, while their state is always persisted. Running jobs cannot be resumed after
+ * a restart anyway, since their transfers only exist in the memory of the terminated instance.
+ * <p>
+ * Additionally, a {@link JobSummary} is stored for every job with each snapshot, so that jobs can be listed
+ * and counted without loading them.
  */
 @Service
 @Slf4j
@@ -55,23 +75,65 @@ public class PersistentJobStore extends BaseJobStore {
      */
     private static final String JOB_PREFIX = "job:";
 
+    /**
+     * The prefix for job summaries used as key in the blobstore
+     */
+    private static final String SUMMARY_PREFIX = "job-summary:";
+
+    /**
+     * Marker blob which is written once the summaries of all jobs stored before summaries were introduced
+     * have been created
+     */
+    private static final String SUMMARIES_MIGRATED_MARKER = "job-summary-index";
+
+    /**
+     * The number of journal segments after which a flush writes a new snapshot of the job instead
+     */
+    private static final int MAX_JOURNAL_SEGMENTS = 50;
+
     private final BlobPersistence blobStore;
 
     private final JsonUtil json = new JsonUtil();
 
     private final MeterRegistryService meterService;
 
+    /**
+     * In-memory copy of all running jobs, see class comment.
+     */
+    private final Map<String, MultiTransferJob> runningJobs = new ConcurrentHashMap<>();
+
+    /**
+     * IDs of running jobs with changes which have not yet been written to the blob store.
+     */
+    private final Set<String> unflushedJobIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Transfers of running jobs which have not yet been written to the journal.
+     */
+    private final Map<String, TransferJournalSegment> pendingTransfers = new ConcurrentHashMap<>();
+
+    private final TransferJournal journal;
+
     public PersistentJobStore(@Qualifier(JOB_BLOB_PERSISTENCE) final BlobPersistence blobStore,
             final MeterRegistryService meterService) {
         super();
         this.blobStore = blobStore;
         this.meterService = meterService;
+        this.journal = new TransferJournal(blobStore, json);
     }
 
     @Override
     protected Optional<MultiTransferJob> get(final String jobId) {
+        final MultiTransferJob runningJob = runningJobs.get(jobId);
+        if (runningJob != null) {
+            return Optional.of(runningJob);
+        }
+        return load(jobId);
+    }
+
+    private Optional<MultiTransferJob> load(final String jobId) {
         try {
-            return blobStore.getBlob(toBlobId(jobId)).flatMap(this::toJob);
+            return blobStore.getBlob(toBlobId(jobId)).flatMap(this::toJob).map(this::withJournal);
         } catch (BlobPersistenceException e) {
             log.error("Error while trying to get job from blobstore", e);
             return Optional.empty();
@@ -82,30 +144,196 @@ public class PersistentJobStore extends BaseJobStore {
     protected Collection<MultiTransferJob> getAll() {
         try {
             final Collection<byte[]> allBlobs = blobStore.findBlobByPrefix(JOB_PREFIX);
-            return allBlobs.stream().map(this::toJob).flatMap(Optional::stream).toList();
+            final Map<String, MultiTransferJob> jobsById = new LinkedHashMap<>();
+            allBlobs.stream()
+                    .map(this::toJob)
+                    .flatMap(Optional::stream)
+                    .filter(job -> !runningJobs.containsKey(job.getJobIdString()))
+                    .map(this::withJournal)
+                    .forEach(job -> jobsById.put(job.getJobIdString(), job));
+            jobsById.putAll(runningJobs);
+            return List.copyOf(jobsById.values());
         } catch (BlobPersistenceException e) {
             log.error("Cannot search for jobs in blobstore", e);
             return Collections.emptyList();
         }
     }
 
+    /**
+     * Loads the summaries without the jobs. The first time this is called on a store which contains jobs without
+     * a summary, the summaries of all jobs are created from the complete jobs instead.
+     */
     @Override
-    protected void put(final String jobId, final MultiTransferJob job) {
-        final byte[] blob = toBlob(job);
+    protected Collection<JobSummary> getAllSummaries() {
+        try {
+            if (blobStore.getBlob(SUMMARIES_MIGRATED_MARKER).isEmpty()) {
+                final List<JobSummary> summaries = getAll().stream().map(JobSummary::of).toList();
+                for (final JobSummary summary : summaries) {
+                    blobStore.putBlob(toSummaryBlobId(summary.id().toString()), toBlob(summary));
+                }
+                blobStore.putBlob(SUMMARIES_MIGRATED_MARKER, new byte[0]);
+                log.info("Created summaries for {} stored jobs", summaries.size());
+                return summaries;
+            }
+            return findSummaries();
+        } catch (BlobPersistenceException e) {
+            log.error("Cannot load job summaries from blobstore", e);
+            return Collections.emptyList();
+        }
+    }
+
+    private List<JobSummary> findSummaries() throws BlobPersistenceException {
+        return blobStore.findBlobByPrefix(SUMMARY_PREFIX)
+                        .stream()
+                        .map(blob -> fromBlob(blob, JobSummary.class))
+                        .flatMap(Optional::stream)
+                        .toList();
+    }
+
+    /**
+     * Removes jobs which were deleted by the lifecycle of the blob store bucket from the summary index.
+     */
+    @Scheduled(fixedDelayString = "${irs.job.jobstore.summaryIndex.pruneInterval:PT1H}")
+    public void pruneDeletedJobs() {
         try {
-            if (!isLastStateSameAsCurrentState(jobId, job.getJob().getState())) {
-                meterService.recordJobStateMetric(job.getJob().getState());
+            pruneSummaryIndex(findSummaries());
+        } catch (BlobPersistenceException e) {
+            log.error("Cannot load job summaries from blobstore, keeping the summary index", e);
+        }
+    }
+
+    @Override
+    protected boolean isStored(final String jobId) {
+        try {
+            return runningJobs.containsKey(jobId) || blobStore.getBlob(toBlobId(jobId)).isPresent();
+        } catch (BlobPersistenceException e) {
+            log.warn("Cannot check whether job {} is still stored", jobId, e);
+            return true;
+        }
+    }
+
+    @Override
+    protected void put(final String jobId, final MultiTransferJob job) {
+        final JobState state = job.getJob().getState();
+        final boolean stateChanged = !isLastStateSameAsCurrentState(jobId, state);
+        if (stateChanged) {
+            meterService.recordJobStateMetric(state);
+        }
+
+        if (state == JobState.RUNNING && !stateChanged) {
+            runningJobs.put(jobId, job);
+            unflushedJobIds.add(jobId);
+            return;
+        }
+
+        unflushedJobIds.remove(jobId);
+        pendingTransfers.remove(jobId);
+        writeSummary(jobId, job);
+        if (writeSnapshot(jobId, job) && state == JobState.RUNNING) {
+            runningJobs.put(jobId, job);
+        } else {
+            runningJobs.remove(jobId);
+        }
+    }
+
+    @Override
+    protected void transferProcessAdded(final String jobId, final String processId) {
+        pendingTransfers.computeIfAbsent(jobId, id -> TransferJournalSegment.empty()).startedTransfers().add(processId);
+    }
+
+    @Override
+    protected void transferProcessCompleted(final String jobId, final TransferProcess process) {
+        pendingTransfers.computeIfAbsent(jobId, id -> TransferJournalSegment.empty()).completedTransfers().add(process);
+    }
+
+    /**
+     * Writes the in-memory changes of all running jobs to the blob store.
+     */
+    @Scheduled(fixedDelayString = "${irs.job.jobstore.flushInterval:PT5S}")
+    @PreDestroy
+    public void flush() {
+        final List<String> jobIds = List.copyOf(unflushedJobIds);
+        jobIds.forEach(jobId -> lockJob(jobId, () -> {
+            final MultiTransferJob runningJob = runningJobs.get(jobId);
+            if (unflushedJobIds.remove(jobId) && runningJob != null) {
+                final TransferJournalSegment transfers = pendingTransfers.remove(jobId);
+                if (!writeProgress(jobId, runningJob, transfers)) {
+                    unflushedJobIds.add(jobId);
+                    if (transfers != null) {
+                        pendingTransfers.put(jobId, transfers);
+                    }
+                }
             }
-            blobStore.putBlob(toBlobId(jobId), blob);
+            return null;
+        }));
+        if (!jobIds.isEmpty()) {
+            log.debug("Flushed {} running jobs to the blob store", jobIds.size());
+        }
+    }
+
+    private boolean writeProgress(final String jobId, final MultiTransferJob job,
+            @Nullable final TransferJournalSegment transfers) {
+        if (transfers == null || transfers.isEmpty() || journal.segmentCount(jobId) >= MAX_JOURNAL_SEGMENTS) {
+            return writeSnapshot(jobId, job);
+        }
+        try {
+            journal.append(jobId, transfers);
+            return true;
+        } catch (BlobPersistenceException e) {
+            log.error("Cannot append transfers of job {} to journal", jobId, e);
+            return false;
+        }
+    }
+
+    private boolean writeSnapshot(final String jobId, final MultiTransferJob job) {
+        final int journalSequence = journal.nextSequence(jobId);
+        try {
+            blobStore.putBlob(toBlobId(jobId), toBlob(job.toBuilder().journalSequence(journalSequence).build()));
         } catch (BlobPersistenceException e) {
             log.error("Cannot create job in BlobStore", e);
+            return false;
+        }
+        try {
+            if (job.getJob().getState() == JobState.RUNNING) {
+                journal.truncate(jobId, journalSequence);
+            } else {
+                journal.clear(jobId);
+            }
+        } catch (BlobPersistenceException e) {
+            log.warn("Cannot delete journal of job {}, it is skipped when the job is loaded", jobId, e);
+        }
+        return true;
+    }
+
+    private void writeSummary(final String jobId, final MultiTransferJob job) {
+        try {
+            blobStore.putBlob(toSummaryBlobId(jobId), toBlob(JobSummary.of(job)));
+        } catch (BlobPersistenceException e) {
+            log.error("Cannot store summary of job {} in BlobStore", jobId, e);
+        }
+    }
+
+    private MultiTransferJob withJournal(final MultiTransferJob job) {
+        if (job.getJob().getState() != JobState.RUNNING) {
+            return job;
+        }
+        try {
+            return journal.replay(job);
+        } catch (BlobPersistenceException e) {
+            log.error("Cannot replay journal of job {}", job.getJobIdString(), e);
+            return job;
         }
     }
 
     @Override
     protected Optional<MultiTransferJob> remove(final String jobId) {
         try {
-            final Optional<MultiTransferJob> job = blobStore.getBlob(toBlobId(jobId)).flatMap(this::toJob);
+            unflushedJobIds.remove(jobId);
+            pendingTransfers.remove(jobId);
+            final MultiTransferJob runningJob = runningJobs.remove(jobId);
+            final Optional<MultiTransferJob> job = runningJob == null
+                    ? blobStore.getBlob(toBlobId(jobId)).flatMap(this::toJob).map(this::withJournal)
+                    : Optional.of(runningJob);
 
             if (job.isPresent()) {
                 final List<String> ids = Stream.concat(job.get().getTransferProcessIds().stream(),
@@ -114,6 +342,8 @@ public class PersistentJobStore extends BaseJobStore {
                 ids.add(jobId);
 
                 blobStore.delete(toBlobId(jobId), ids);
+                blobStore.delete(toSummaryBlobId(jobId), List.of());
+                journal.clear(jobId);
             }
             return job;
         } catch (BlobPersistenceException e) {
@@ -122,23 +352,31 @@ public class PersistentJobStore extends BaseJobStore {
     }
 
     private Optional<MultiTransferJob> toJob(final byte[] blob) {
+        return fromBlob(blob, MultiTransferJob.class);
+    }
+
+    private <T> Optional<T> fromBlob(final byte[] blob, final Class<T> type) {
         try {
-            return Optional.of(json.fromString(new String(blob, StandardCharsets.UTF_8), MultiTransferJob.class));
+            return Optional.of(json.fromString(new String(blob, StandardCharsets.UTF_8), type));
         } catch (JsonParseException exception) {
-            log.warn("Stored Job could not be parsed to Job object.");
+            log.warn("Stored {} could not be parsed.", type.getSimpleName());
             return Optional.empty();
         }
     }
 
-    private byte[] toBlob(final MultiTransferJob job) {
-        final String jobString = this.json.asString(job);
-        return jobString.getBytes(StandardCharsets.UTF_8);
+    private byte[] toBlob(final Object value) {
+        final String jsonString = this.json.asString(value);
+        return jsonString.getBytes(StandardCharsets.UTF_8);
     }
 
     private String toBlobId(final String jobId) {
         return JOB_PREFIX + jobId;
     }
 
+    private String toSummaryBlobId(final String jobId) {
+        return SUMMARY_PREFIX + jobId;
+    }
+
     private boolean isLastStateSameAsCurrentState(final String jobId, final JobState state) {
         final Optional<MultiTransferJob> optJob = get(jobId);
         return optJob.isPresent() && optJob.get().getJob().getState().equals(state);
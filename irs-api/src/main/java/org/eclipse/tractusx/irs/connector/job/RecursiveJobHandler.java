@@ -54,4 +54,14 @@ public interface RecursiveJobHandler<T extends DataRequest, P extends TransferPr
      * @param job job definition.
      */
     void complete(MultiTransferJob job);
+
+    /**
+     * Called when the processing of the job has ended, i.e. the job was completed, has failed or was canceled.
+     * Releases any state kept for the job.
+     *
+     * @param jobId the job identifier.
+     */
+    default void finish(final String jobId) {
+        // no state kept by default
+    }
 }
@@ -0,0 +1,221 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.connector.job;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.irs.common.persistence.BlobPersistence;
+import org.eclipse.tractusx.irs.common.persistence.BlobPersistenceException;
+import org.eclipse.tractusx.irs.data.JsonParseException;
+import org.eclipse.tractusx.irs.util.JsonUtil;
+
+/**
+ * Append-only journal of the transfers started and completed for a running job.
+ * Each segment only contains the changes since the previous one, so the bytes written per transfer do not
+ * depend on the size of the job. The journal is replayed on top of the last job snapshot when the job is loaded
+ * and truncated whenever a new snapshot is written.
+ * <p>
+ * Segments are numbered with a sequence which keeps increasing for the lifetime of the job. A snapshot records
+ * the sequence of the first segment it does not contain, so segments which could not be deleted after the
+ * snapshot was written are skipped on replay instead of being applied twice.
+ */
+@Slf4j
+/* package */ class TransferJournal {
+
+    /**
+     * The prefix for journal segments used as key in the blobstore
+     */
+    private static final String JOURNAL_PREFIX = "job-journal:";
+
+    private final BlobPersistence blobStore;
+
+    private final JsonUtil json;
+
+    /**
+     * The segments per job which have been written and not yet deleted.
+     */
+    private final Map<String, SegmentRange> segmentRanges = new ConcurrentHashMap<>();
+
+    /* package */ TransferJournal(final BlobPersistence blobStore, final JsonUtil json) {
+        this.blobStore = blobStore;
+        this.json = json;
+    }
+
+    /**
+     * Appends the segment to the journal of the job.
+     *
+     * @param jobId   the job identifier
+     * @param segment the transfers to append
+     * @throws BlobPersistenceException if the segment could not be stored
+     */
+    /* package */ void append(final String jobId, final TransferJournalSegment segment)
+            throws BlobPersistenceException {
+        final SegmentRange range = segmentRanges.getOrDefault(jobId, SegmentRange.EMPTY);
+        final byte[] blob = json.asString(segment.withSequence(range.next())).getBytes(StandardCharsets.UTF_8);
+        blobStore.putBlob(toBlobId(jobId, range.next()), blob);
+        segmentRanges.put(jobId, new SegmentRange(range.first(), range.next() + 1));
+    }
+
+    /**
+     * @param jobId the job identifier
+     * @return the number of segments written since the journal was last truncated
+     */
+    /* package */ int segmentCount(final String jobId) {
+        final SegmentRange range = segmentRanges.getOrDefault(jobId, SegmentRange.EMPTY);
+        return range.next() - range.first();
+    }
+
+    /**
+     * @param jobId the job identifier
+     * @return the sequence the next segment of the job will get, to be recorded in a new snapshot
+     */
+    /* package */ int nextSequence(final String jobId) {
+        return segmentRanges.getOrDefault(jobId, SegmentRange.EMPTY).next();
+    }
+
+    /**
+     * Replays the journal segments of the job which are not yet contained in the given snapshot.
+     *
+     * @param snapshot the last persisted snapshot of the job
+     * @return the job including all journaled transfers
+     * @throws BlobPersistenceException if the segments could not be loaded
+     */
+    /* package */ MultiTransferJob replay(final MultiTransferJob snapshot) throws BlobPersistenceException {
+        final String jobId = snapshot.getJobIdString();
+        final List<TransferJournalSegment> storedSegments = blobStore.findBlobByPrefix(toPrefix(jobId))
+                                                                     .stream()
+                                                                     .map(this::toSegment)
+                                                                     .flatMap(Optional::stream)
+                                                                     .sorted(Comparator.comparingInt(
+                                                                             TransferJournalSegment::sequence))
+                                                                     .toList();
+        final int journalSequence = snapshot.getJournalSequence();
+        if (storedSegments.isEmpty()) {
+            segmentRanges.putIfAbsent(jobId, new SegmentRange(journalSequence, journalSequence));
+        } else {
+            final int lastSequence = storedSegments.get(storedSegments.size() - 1).sequence();
+            final int firstSequence = Math.min(storedSegments.get(0).sequence(), journalSequence);
+            segmentRanges.putIfAbsent(jobId,
+                    new SegmentRange(firstSequence, Math.max(lastSequence + 1, journalSequence)));
+        }
+
+        // segments before the sequence of the snapshot are already contained in it
+        final List<TransferJournalSegment> segments = storedSegments.stream()
+                                                                    .filter(segment -> segment.sequence()
+                                                                            >= journalSequence)
+                                                                    .toList();
+        if (segments.isEmpty()) {
+            return snapshot;
+        }
+
+        final var builder = snapshot.toBuilder();
+        final Set<String> completedIds = new HashSet<>();
+        segments.forEach(segment -> {
+            builder.transferProcessIds(segment.startedTransfers());
+            segment.completedTransfers().forEach(process -> {
+                builder.completedTransfer(process);
+                completedIds.add(process.getId());
+            });
+        });
+        final Collection<String> remainingTransfers = builder.build()
+                                                             .getTransferProcessIds()
+                                                             .stream()
+                                                             .filter(id -> !completedIds.contains(id))
+                                                             .toList();
+        log.info("Replayed {} journal segments for job {}", segments.size(), jobId);
+        return builder.clearTransferProcessIds().transferProcessIds(remainingTransfers).build();
+    }
+
+    /**
+     * Deletes the journal segments of the job before the given sequence, because a new snapshot containing them
+     * has been written. Segments which cannot be deleted are retried with the next truncation.
+     *
+     * @param jobId    the job identifier
+     * @param sequence the sequence recorded in the new snapshot
+     * @throws BlobPersistenceException if the segments could not be deleted
+     */
+    /* package */ void truncate(final String jobId, final int sequence) throws BlobPersistenceException {
+        final SegmentRange range = segmentRanges.getOrDefault(jobId, SegmentRange.EMPTY);
+        final int truncatedSequence = Math.max(range.first(), Math.min(sequence, range.next()));
+        delete(jobId, range.first(), truncatedSequence);
+        segmentRanges.put(jobId, new SegmentRange(truncatedSequence, range.next()));
+    }
+
+    /**
+     * Deletes all journal segments of the job and forgets the job, e.g. because it is not running anymore.
+     *
+     * @param jobId the job identifier
+     * @throws BlobPersistenceException if the segments could not be deleted
+     */
+    /* package */ void clear(final String jobId) throws BlobPersistenceException {
+        final SegmentRange range = segmentRanges.remove(jobId);
+        if (range != null) {
+            delete(jobId, range.first(), range.next());
+        }
+    }
+
+    private void delete(final String jobId, final int fromSequence, final int toSequence)
+            throws BlobPersistenceException {
+        if (fromSequence < toSequence) {
+            final List<String> segmentIds = IntStream.range(fromSequence + 1, toSequence)
+                                                     .mapToObj(i -> toBlobId(jobId, i))
+                                                     .toList();
+            blobStore.delete(toBlobId(jobId, fromSequence), segmentIds);
+        }
+    }
+
+    private Optional<TransferJournalSegment> toSegment(final byte[] blob) {
+        try {
+            return Optional.of(json.fromString(new String(blob, StandardCharsets.UTF_8), TransferJournalSegment.class));
+        } catch (JsonParseException exception) {
+            log.warn("Stored journal segment could not be parsed.");
+            return Optional.empty();
+        }
+    }
+
+    private static String toPrefix(final String jobId) {
+        return JOURNAL_PREFIX + jobId + ":";
+    }
+
+    private static String toBlobId(final String jobId, final int sequence) {
+        return toPrefix(jobId) + String.format(Locale.ROOT, "%08d", sequence);
+    }
+
+    /**
+     * The sequences of the segments of a job which have been written and not yet deleted.
+     *
+     * @param first the sequence of the first segment not yet deleted
+     * @param next  the sequence of the next segment to write
+     */
+    private record SegmentRange(int first, int next) {
+
+        private static final SegmentRange EMPTY = new SegmentRange(0, 0);
+    }
+}
@@ -0,0 +1,52 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.connector.job;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * A segment of the {@link TransferJournal} of a job, containing the transfers which were started and completed
+ * since the previous segment.
+ *
+ * @param sequence           the position of the segment in the journal
+ * @param startedTransfers   IDs of the started transfer processes
+ * @param completedTransfers the completed transfer processes
+ */
+public record TransferJournalSegment(int sequence, List<String> startedTransfers,
+                                     List<TransferProcess> completedTransfers) {
+
+    /**
+     * @return a new segment without transfers, which is not yet part of a journal
+     */
+    public static TransferJournalSegment empty() {
+        return new TransferJournalSegment(-1, new ArrayList<>(), new ArrayList<>());
+    }
+
+    @JsonIgnore
+    public boolean isEmpty() {
+        return startedTransfers.isEmpty() && completedTransfers.isEmpty();
+    }
+
+    /* package */ TransferJournalSegment withSequence(final int sequence) {
+        return new TransferJournalSegment(sequence, startedTransfers, completedTransfers);
+    }
+}
@@ -33,8 +33,6 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
@@ -65,6 +63,7 @@ import org.eclipse.tractusx.irs.component.enums.JobState;
 import org.eclipse.tractusx.irs.connector.job.JobInitiateResponse;
 import org.eclipse.tractusx.irs.connector.job.JobOrchestrator;
 import org.eclipse.tractusx.irs.connector.job.JobStore;
+import org.eclipse.tractusx.irs.connector.job.JobSummary;
 import org.eclipse.tractusx.irs.connector.job.MultiTransferJob;
 import org.eclipse.tractusx.irs.connector.job.ResponseStatus;
 import org.eclipse.tractusx.irs.connector.job.TransferProcess;
@@ -72,13 +71,10 @@ import org.eclipse.tractusx.irs.semanticshub.AspectModel;
 import org.eclipse.tractusx.irs.semanticshub.SemanticsHubFacade;
 import org.eclipse.tractusx.irs.services.validation.SchemaNotFoundException;
 import org.eclipse.tractusx.irs.util.JsonUtil;
-import org.jetbrains.annotations.NotNull;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.beans.support.MutableSortDefinition;
-import org.springframework.beans.support.PagedListHolder;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
@@ -120,40 +116,23 @@ public class IrsItemGraphQueryService implements IIrsItemGraphQueryService {
 
     @Override
     public PageResult getJobsByState(@NonNull final List<JobState> states, final Pageable pageable) {
-        final List<MultiTransferJob> jobs = filterJobs(states);
-        final List<JobStatusResult> jobStatusResults = jobs.stream()
-                                                           .map(job -> JobStatusResult.builder()
-                                                                                      .id(job.getJob().getId())
-                                                                                      .state(job.getJob().getState())
-                                                                                      .startedOn(job.getJob()
-                                                                                                    .getStartedOn())
-                                                                                      .completedOn(job.getJob()
-                                                                                                      .getCompletedOn())
-                                                                                      .build())
-                                                           .toList();
-
-        return new PageResult(paginateAndSortResults(pageable, jobStatusResults));
+        final Page<JobSummary> summaries = jobStore.findSummariesByStates(states, pageable);
+        final List<JobStatusResult> jobStatusResults = summaries.stream()
+                                                                .map(IrsItemGraphQueryService::toJobStatusResult)
+                                                                .toList();
+
+        // an empty result still has one (empty) page, as with the former PagedListHolder
+        return new PageResult(jobStatusResults, summaries.getNumber(), Math.max(1, summaries.getTotalPages()),
+                summaries.getSize(), (int) summaries.getTotalElements());
     }
 
-    private List<MultiTransferJob> filterJobs(final @NotNull List<JobState> states) {
-        return states.isEmpty() ? jobStore.findAll() : jobStore.findByStates(states);
-    }
-
-    private PagedListHolder<JobStatusResult> paginateAndSortResults(final Pageable pageable,
-            final List<JobStatusResult> results) {
-        final PagedListHolder<JobStatusResult> pageListHolder = new PagedListHolder<>(new ArrayList<>(results));
-
-        final Sort sort = pageable.getSortOr(Sort.by(Sort.Direction.DESC, "startedOn"));
-        if (sort.isSorted()) {
-            sort.stream().findFirst().ifPresent(order -> {
-                pageListHolder.setSort(new MutableSortDefinition(order.getProperty(), true, order.isAscending()));
-                pageListHolder.resort();
-            });
-        }
-        pageListHolder.setPage(pageable.getPageNumber());
-        pageListHolder.setPageSize(pageable.getPageSize());
-
-        return pageListHolder;
+    private static JobStatusResult toJobStatusResult(final JobSummary summary) {
+        return JobStatusResult.builder()
+                              .id(summary.id())
+                              .state(summary.state())
+                              .startedOn(summary.startedOn())
+                              .completedOn(summary.completedOn())
+                              .build();
     }
 
     @Override
@@ -270,17 +249,11 @@ public class IrsItemGraphQueryService implements IIrsItemGraphQueryService {
 
     @Scheduled(cron = "${irs.job.jobstore.cron.expression}")
     public void updateJobsInJobStoreMetrics() {
-        final List<MultiTransferJob> jobs = jobStore.findAll();
-        final long numberOfJobs = jobs.size();
+        final Map<JobState, Long> stateCount = jobStore.countByState();
+        final long numberOfJobs = stateCount.values().stream().mapToLong(Long::longValue).sum();
         log.trace("Number(s) of job in JobStore: {}", numberOfJobs);
         meterRegistryService.setNumberOfJobsInJobStore(numberOfJobs);
 
-        final Map<JobState, Long> stateCount = jobs.stream()
-                                                   .map(MultiTransferJob::getJob)
-                                                   .map(Job::getState)
-                                                   .collect(Collectors.groupingBy(Function.identity(),
-                                                           Collectors.counting()));
-
         for (final JobState state : JobState.values()) {
             meterRegistryService.setStateSnapShot(state, stateCount.getOrDefault(state, 0L));
         }
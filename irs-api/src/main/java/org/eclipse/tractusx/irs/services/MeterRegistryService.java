@@ -93,6 +93,9 @@ public class MeterRegistryService {
                                                       .description("Number of jobs exceptions")
                                                       .tags(JOB_STATE_TAG, "exception")
                                                       .register(meterRegistry))
+                                    .skippedItemRequests(Counter.builder("jobs.items.skipped")
+                                                                .description("Number of skipped item requests")
+                                                                .register(meterRegistry))
                                     .jobSuccessSnapshot(Gauge.builder("jobs.snapshot.success", snapshotCompletedValue,
                                                                      AtomicLong::get)
                                                              .description("Snapshot of completed jobs")
@@ -145,6 +148,10 @@ public class MeterRegistryService {
         jobMetrics.getException().increment();
     }
 
+    public void incrementSkippedItemRequests(final long count) {
+        jobMetrics.getSkippedItemRequests().increment(count);
+    }
+
     public void recordJobStateMetric(final JobState state) {
         switch (state) {
             case COMPLETED:
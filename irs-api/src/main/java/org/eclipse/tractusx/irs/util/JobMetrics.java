@@ -84,6 +84,11 @@ public class JobMetrics {
      */
     private Counter exception;
 
+    /**
+     * Number of item requests skipped because the item was already requested in the same job
+     */
+    private Counter skippedItemRequests;
+
     /**
      * take snapshot of successful job
      */
@@ -23,12 +23,15 @@
  ********************************************************************************/
 package org.eclipse.tractusx.irs.util;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Map;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
@@ -110,4 +113,33 @@ public class JsonUtil {
             throw new JsonParseException(e);
         }
     }
+
+    /**
+     * Deserialize an object from UTF-8 encoded JSON bytes.
+     *
+     * @param input the JSON bytes to deserialize.
+     * @param type  the type to return.
+     * @param <T>   the type to return.
+     * @return deserialized object.
+     * @throws RuntimeException on deserialization error.
+     */
+    public <T> T fromBytes(final byte[] input, final Class<T> type) {
+        try {
+            return MAPPER.readValue(input, type);
+        } catch (IOException e) {
+            throw new JsonParseException(e);
+        }
+    }
+
+    /**
+     * Create a writer which serializes objects one by one as elements of a JSON array to the given stream.
+     * The array is terminated and the stream closed when the writer is closed.
+     *
+     * @param output the stream to write to.
+     * @return the writer.
+     * @throws IOException if the array could not be started.
+     */
+    public SequenceWriter arrayWriter(final OutputStream output) throws IOException {
+        return MAPPER.writer().writeValuesAsArray(output);
+    }
 }
@@ -39,6 +39,11 @@ public class TestConfig {
         return new InMemoryBlobStore();
     }
 
+    @Bean(JobConfiguration.CONTRACT_AGREEMENT_BLOB_PERSISTENCE)
+    public BlobPersistence inMemoryContractAgreementBlobStore() {
+        return new InMemoryBlobStore();
+    }
+
     @Bean(PolicyConfiguration.POLICY_BLOB_PERSISTENCE)
     public BlobPersistence inMemoryBlobStore2() {
         return new InMemoryBlobStore();
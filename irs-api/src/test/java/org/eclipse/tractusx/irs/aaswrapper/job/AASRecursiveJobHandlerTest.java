@@ -0,0 +1,182 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.aaswrapper.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.tractusx.irs.component.PartChainIdentificationKey;
+import org.eclipse.tractusx.irs.component.enums.JobState;
+import org.eclipse.tractusx.irs.connector.job.MultiTransferJob;
+import org.eclipse.tractusx.irs.services.MeterRegistryService;
+import org.eclipse.tractusx.irs.util.TestMother;
+import org.junit.jupiter.api.Test;
+
+class AASRecursiveJobHandlerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AASRecursiveJobHandler handler = new AASRecursiveJobHandler(mock(TreeRecursiveLogic.class),
+            new MeterRegistryService(meterRegistry));
+    private final MultiTransferJob job = new TestMother().job(JobState.RUNNING);
+
+    @Test
+    void shouldRequestItemReachedThroughSeveralParentsOnlyOnce() {
+        // Arrange
+        handler.initiate(job);
+        final PartChainIdentificationKey sharedChild = key(UUID.randomUUID());
+
+        // Act
+        final List<ItemDataRequest> firstParent = handler.recurse(job,
+                transferWithChildren(sharedChild, key(UUID.randomUUID()))).toList();
+        final List<ItemDataRequest> secondParent = handler.recurse(job, transferWithChildren(sharedChild)).toList();
+
+        // Assert
+        assertThat(firstParent).hasSize(2);
+        assertThat(secondParent).isEmpty();
+        assertThat(meterRegistry.get("jobs.items.skipped").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotRequestRootItemAgainInCycle() {
+        // Arrange
+        handler.initiate(job);
+        final PartChainIdentificationKey root = PartChainIdentificationKey.builder()
+                                                                          .globalAssetId(job.getGlobalAssetId())
+                                                                          .bpn(job.getJobParameter().getBpn())
+                                                                          .build();
+
+        // Act
+        final List<ItemDataRequest> requests = handler.recurse(job, transferWithChildren(root)).toList();
+
+        // Assert
+        assertThat(requests).isEmpty();
+    }
+
+    @Test
+    void shouldRequestItemAgainWhenReachedAtSmallerDepth() {
+        // Arrange
+        handler.initiate(job);
+        final PartChainIdentificationKey child = key(UUID.randomUUID());
+
+        // Act
+        final List<ItemDataRequest> atDepthThree = handler.recurse(job, transferWithChildren(2, child)).toList();
+        final List<ItemDataRequest> atDepthOne = handler.recurse(job, transferWithChildren(0, child)).toList();
+        final List<ItemDataRequest> atDepthTwo = handler.recurse(job, transferWithChildren(1, child)).toList();
+
+        // Assert
+        assertThat(atDepthThree).extracting(ItemDataRequest::getDepth).containsExactly(3);
+        assertThat(atDepthOne).extracting(ItemDataRequest::getDepth).containsExactly(1);
+        assertThat(atDepthTwo).isEmpty();
+    }
+
+    @Test
+    void shouldRequestSameItemOfDifferentBusinessPartners() {
+        // Arrange
+        handler.initiate(job);
+        final String globalAssetId = "urn:uuid:" + UUID.randomUUID();
+        final PartChainIdentificationKey first = PartChainIdentificationKey.builder()
+                                                                           .globalAssetId(globalAssetId)
+                                                                           .bpn("BPNL00000003AYRE")
+                                                                           .build();
+        final PartChainIdentificationKey second = PartChainIdentificationKey.builder()
+                                                                            .globalAssetId(globalAssetId)
+                                                                            .bpn("BPNL00000003B0Q0")
+                                                                            .build();
+
+        // Act
+        final List<ItemDataRequest> requests = handler.recurse(job, transferWithChildren(first, second)).toList();
+
+        // Assert
+        assertThat(requests).hasSize(2);
+    }
+
+    @Test
+    void shouldRequestItemsWhoseIdsDifferOnlyInNotation() {
+        // Arrange
+        handler.initiate(job);
+        final String uuid = UUID.randomUUID().toString();
+        final PartChainIdentificationKey[] children = Stream.of("urn:uuid:" + uuid, uuid,
+                                                                "urn:uuid:" + uuid.toUpperCase(Locale.ROOT))
+                                                            .map(AASRecursiveJobHandlerTest::key)
+                                                            .toArray(PartChainIdentificationKey[]::new);
+
+        // Act
+        final List<ItemDataRequest> requests = handler.recurse(job, transferWithChildren(children)).toList();
+
+        // Assert
+        assertThat(requests).hasSize(3);
+    }
+
+    @Test
+    void shouldRequestEveryDistinctItem() {
+        // Arrange
+        handler.initiate(job);
+        final PartChainIdentificationKey[] children = IntStream.range(0, 10_000)
+                                                               .mapToObj(i -> key(UUID.randomUUID()))
+                                                               .toArray(PartChainIdentificationKey[]::new);
+
+        // Act
+        final List<ItemDataRequest> requests = handler.recurse(job, transferWithChildren(children)).toList();
+        final List<ItemDataRequest> repeatedRequests = handler.recurse(job, transferWithChildren(children)).toList();
+
+        // Assert
+        assertThat(requests).hasSize(children.length);
+        assertThat(repeatedRequests).isEmpty();
+    }
+
+    @Test
+    void shouldForgetVisitedItemsWhenJobFinished() {
+        // Arrange
+        handler.initiate(job);
+        final PartChainIdentificationKey child = key(UUID.randomUUID());
+        handler.recurse(job, transferWithChildren(child)).toList();
+
+        // Act
+        handler.finish(job.getJobIdString());
+
+        // Assert
+        assertThat(handler.recurse(job, transferWithChildren(child))).hasSize(1);
+    }
+
+    private static AASTransferProcess transferWithChildren(final PartChainIdentificationKey... children) {
+        return transferWithChildren(1, children);
+    }
+
+    private static AASTransferProcess transferWithChildren(final int depth,
+            final PartChainIdentificationKey... children) {
+        final AASTransferProcess transferProcess = new AASTransferProcess(UUID.randomUUID().toString(), depth);
+        transferProcess.addIdsToProcess(List.of(children));
+        return transferProcess;
+    }
+
+    private static PartChainIdentificationKey key(final UUID uuid) {
+        return key("urn:uuid:" + uuid);
+    }
+
+    private static PartChainIdentificationKey key(final String globalAssetId) {
+        return PartChainIdentificationKey.builder().globalAssetId(globalAssetId).bpn("BPNL00000003AYRE").build();
+    }
+}
@@ -29,13 +29,22 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.eclipse.tractusx.irs.InMemoryBlobStore;
 import org.eclipse.tractusx.irs.aaswrapper.job.delegate.DigitalTwinDelegate;
+import org.eclipse.tractusx.irs.common.persistence.BlobPersistenceException;
 import org.eclipse.tractusx.irs.component.PartChainIdentificationKey;
+import org.eclipse.tractusx.irs.configuration.JobConfiguration;
 import org.eclipse.tractusx.irs.connector.job.ResponseStatus;
 import org.eclipse.tractusx.irs.connector.job.TransferInitiateResponse;
 import org.eclipse.tractusx.irs.util.JsonUtil;
@@ -49,8 +58,10 @@ class AASTransferProcessManagerTest {
     DigitalTwinDelegate digitalTwinProcessor = mock(DigitalTwinDelegate.class);
     ExecutorService pool = mock(ExecutorService.class);
 
-    final AASTransferProcessManager manager = new AASTransferProcessManager(digitalTwinProcessor, pool,
-            new InMemoryBlobStore(), new JsonUtil());
+    final InMemoryBlobStore blobStore = new InMemoryBlobStore();
+
+    final AASTransferProcessManager manager = new AASTransferProcessManager(digitalTwinProcessor, pool, blobStore,
+            new JsonUtil());
 
     @Test
     void shouldExecuteThreadForProcessing() {
@@ -83,4 +94,40 @@ class AASTransferProcessManagerTest {
         assertThat(initiateResponse.getStatus()).isEqualTo(ResponseStatus.OK);
     }
 
+    @Test
+    void shouldCompleteAllTransfersWhenMoreAreStartedThanWorkersAndFormerQueueCapacity()
+            throws InterruptedException, BlobPersistenceException {
+        // given
+        final int transfers = 1_100;
+        final ExecutorService transferExecutor = new JobConfiguration().transferExecutor(new SimpleMeterRegistry(),
+                2);
+        final AASTransferProcessManager boundedManager = new AASTransferProcessManager(digitalTwinProcessor,
+                transferExecutor, blobStore, new JsonUtil());
+        when(digitalTwinProcessor.process(any(), any(), any(), any())).thenReturn(ItemContainer.builder().build());
+        final CountDownLatch completed = new CountDownLatch(transfers);
+        final List<String> transferIds = new ArrayList<>();
+
+        // when
+        try {
+            for (int i = 0; i < transfers; i++) {
+                final ItemDataRequest itemDataRequest = ItemDataRequest.rootNode(
+                        PartChainIdentificationKey.builder().globalAssetId("urn:uuid:" + i).bpn("bpn123").build());
+                transferIds.add(boundedManager.initiateRequest(itemDataRequest, s -> {
+                }, process -> completed.countDown(), jobParameter()).getTransferId());
+            }
+
+            // then
+            assertThat(completed.await(30, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            transferExecutor.shutdownNow();
+        }
+        verify(digitalTwinProcessor, times(transfers)).process(any(), any(), any(), any());
+        for (final String transferId : transferIds) {
+            final ItemContainer itemContainer = new JsonUtil().fromString(
+                    new String(blobStore.getBlob(transferId).orElseThrow(), StandardCharsets.UTF_8),
+                    ItemContainer.class);
+            assertThat(itemContainer.getTombstones()).isEmpty();
+        }
+    }
+
 }
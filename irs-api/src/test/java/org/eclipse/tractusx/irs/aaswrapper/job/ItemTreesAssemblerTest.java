@@ -0,0 +1,107 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.aaswrapper.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.tractusx.irs.util.TestMother.relationship;
+import static org.eclipse.tractusx.irs.util.TestMother.shell;
+import static org.eclipse.tractusx.irs.util.TestMother.shellDescriptor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.eclipse.tractusx.irs.component.Bpn;
+import org.eclipse.tractusx.irs.component.Relationship;
+import org.eclipse.tractusx.irs.component.Shell;
+import org.eclipse.tractusx.irs.util.JsonUtil;
+import org.junit.jupiter.api.Test;
+
+class ItemTreesAssemblerTest {
+
+    private final JsonUtil jsonUtil = new JsonUtil();
+    private final ItemTreesAssembler sut = new ItemTreesAssembler(jsonUtil);
+
+    @Test
+    void shouldAssemblePartialItemGraphsWithoutDuplicateRelationships() throws IOException {
+        // Arrange
+        final Relationship sharedRelationship = relationship();
+        final Relationship otherRelationship = relationship();
+        final Shell firstShell = shell("", shellDescriptor(List.of()));
+        final Shell secondShell = shell("", shellDescriptor(List.of()));
+        final ItemContainer first = ItemContainer.builder()
+                                                 .relationship(sharedRelationship)
+                                                 .shell(firstShell)
+                                                 .bpn(Bpn.withManufacturerId("BPNL00000003AYRE")
+                                                         .updateManufacturerName("OEM A"))
+                                                 .build();
+        final ItemContainer second = ItemContainer.builder()
+                                                  .relationship(sharedRelationship)
+                                                  .relationship(otherRelationship)
+                                                  .shell(secondShell)
+                                                  .build();
+
+        // Act
+        final ItemContainer result;
+        try (var itemGraph = sut.retrieveItemGraph(Stream.of(first, second));
+             InputStream content = itemGraph.getContent()) {
+            final byte[] bytes = content.readAllBytes();
+            assertThat(bytes).hasSize((int) itemGraph.getSize());
+            result = jsonUtil.fromBytes(bytes, ItemContainer.class);
+        }
+
+        // Assert
+        assertThat(result.getRelationships()).containsExactly(sharedRelationship, otherRelationship);
+        assertThat(result.getShells()).hasSize(2);
+        assertThat(result.getTombstones()).isEmpty();
+        assertThat(result.getSubmodels()).isEmpty();
+        assertThat(result.getBpns()).extracting(Bpn::getManufacturerId).containsExactly("BPNL00000003AYRE");
+    }
+
+    @Test
+    void shouldAssembleEmptyItemGraph() throws IOException {
+        // Act
+        final ItemContainer result;
+        try (var itemGraph = sut.retrieveItemGraph(Stream.empty()); InputStream content = itemGraph.getContent()) {
+            result = jsonUtil.fromBytes(content.readAllBytes(), ItemContainer.class);
+        }
+
+        // Assert
+        assertThat(result.getRelationships()).isEmpty();
+        assertThat(result.getShells()).isEmpty();
+        assertThat(result.getBpns()).isEmpty();
+    }
+
+    @Test
+    void shouldWriteSameFieldsAsItemContainer() throws IOException {
+        // Arrange
+        final var expectedFields = jsonUtil.asMap(ItemContainer.builder().build()).keySet();
+
+        // Act
+        final Map<?, ?> result;
+        try (var itemGraph = sut.retrieveItemGraph(Stream.empty()); InputStream content = itemGraph.getContent()) {
+            result = jsonUtil.fromBytes(content.readAllBytes(), Map.class);
+        }
+
+        // Assert
+        assertThat(result.keySet()).containsExactlyInAnyOrderElementsOf(expectedFields);
+    }
+}
@@ -0,0 +1,178 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.aaswrapper.job.delegate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.eclipse.tractusx.irs.component.Shell;
+import org.eclipse.tractusx.irs.component.assetadministrationshell.AssetAdministrationShellDescriptor;
+import org.eclipse.tractusx.irs.registryclient.DigitalTwinRegistryKey;
+import org.eclipse.tractusx.irs.registryclient.DigitalTwinRegistryService;
+import org.eclipse.tractusx.irs.registryclient.exceptions.RegistryServiceException;
+import org.eclipse.tractusx.irs.registryclient.exceptions.ShellNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class BatchingShellFetcherTest {
+
+    private final DigitalTwinRegistryService digitalTwinRegistryService = mock(DigitalTwinRegistryService.class);
+    private final ExecutorService executor = Executors.newFixedThreadPool(3);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldFetchShellsOfSameBpnInOneBatch() throws RegistryServiceException {
+        // arrange
+        when(digitalTwinRegistryService.fetchShellsByKey(any())).thenReturn(
+                Map.of(key("child1"), shell("child1"), key("child2"), shell("child2"), key("child3"),
+                        shell("child3")));
+        final BatchingShellFetcher fetcher = new BatchingShellFetcher(digitalTwinRegistryService,
+                Duration.ofSeconds(10), 3);
+
+        // act
+        final List<CompletableFuture<Shell>> shells = fetchConcurrently(fetcher, "child1", "child2", "child3");
+
+        // assert
+        assertThat(shells).extracting(shell -> shell.join().payload().getGlobalAssetId())
+                          .containsExactly("child1", "child2", "child3");
+        verify(digitalTwinRegistryService, times(1)).fetchShellsByKey(any());
+    }
+
+    @Test
+    void shouldFetchShellsOfDifferentBpnsInSeparateBatches() throws RegistryServiceException {
+        // arrange
+        when(digitalTwinRegistryService.fetchShellsByKey(any())).thenAnswer(invocation -> {
+            final Collection<DigitalTwinRegistryKey> keys = invocation.getArgument(0);
+            return keys.stream().collect(Collectors.toMap(Function.identity(), key -> shell(key.shellId())));
+        });
+        final BatchingShellFetcher fetcher = new BatchingShellFetcher(digitalTwinRegistryService,
+                Duration.ofMillis(50), 10);
+        final DigitalTwinRegistryKey first = new DigitalTwinRegistryKey("child1", "BPNL00000000001");
+        final DigitalTwinRegistryKey second = new DigitalTwinRegistryKey("child2", "BPNL00000000002");
+
+        // act
+        final CompletableFuture<Shell> firstShell = CompletableFuture.supplyAsync(() -> fetchShell(fetcher, first),
+                executor);
+        final CompletableFuture<Shell> secondShell = CompletableFuture.supplyAsync(() -> fetchShell(fetcher, second),
+                executor);
+
+        // assert
+        assertThat(firstShell.join().payload().getGlobalAssetId()).isEqualTo("child1");
+        assertThat(secondShell.join().payload().getGlobalAssetId()).isEqualTo("child2");
+        verify(digitalTwinRegistryService).fetchShellsByKey(Set.of(first));
+        verify(digitalTwinRegistryService).fetchShellsByKey(Set.of(second));
+    }
+
+    @Test
+    void shouldFetchEveryShellOnItsOwnWithoutBatchWindow() throws RegistryServiceException {
+        // arrange
+        when(digitalTwinRegistryService.fetchShells(any())).thenReturn(List.of(shell("child")));
+        final BatchingShellFetcher fetcher = new BatchingShellFetcher(digitalTwinRegistryService, Duration.ZERO, 3);
+
+        // act
+        fetcher.fetchShell(key("child"));
+        fetcher.fetchShell(key("child"));
+
+        // assert
+        verify(digitalTwinRegistryService, times(2)).fetchShells(List.of(key("child")));
+    }
+
+    @Test
+    void shouldFailOnlyRequestsWhoseShellIsMissingInBatch() throws RegistryServiceException {
+        // arrange
+        when(digitalTwinRegistryService.fetchShellsByKey(any())).thenReturn(Map.of(key("child1"), shell("child1")));
+        final BatchingShellFetcher fetcher = new BatchingShellFetcher(digitalTwinRegistryService,
+                Duration.ofSeconds(10), 2);
+
+        // act
+        final List<CompletableFuture<Shell>> shells = fetchConcurrently(fetcher, "child1", "child2");
+
+        // assert
+        assertThat(shells.get(0).join().payload().getGlobalAssetId()).isEqualTo("child1");
+        assertThatThrownBy(() -> shells.get(1).join()).isInstanceOf(CompletionException.class)
+                                                      .hasCauseInstanceOf(ShellNotFoundException.class);
+    }
+
+    @Test
+    void shouldFailAllRequestsOfBatchIfFetchingFails() throws RegistryServiceException {
+        // arrange
+        final ShellNotFoundException exception = new ShellNotFoundException("not found", List.of("edc"));
+        when(digitalTwinRegistryService.fetchShellsByKey(any())).thenThrow(exception);
+        final BatchingShellFetcher fetcher = new BatchingShellFetcher(digitalTwinRegistryService,
+                Duration.ofMillis(50), 10);
+
+        // act
+        final List<CompletableFuture<Shell>> shells = fetchConcurrently(fetcher, "child1", "child2");
+
+        // assert
+        assertThat(shells).allSatisfy(shell -> assertThatThrownBy(shell::join).hasCause(exception));
+    }
+
+    private List<CompletableFuture<Shell>> fetchConcurrently(final BatchingShellFetcher fetcher,
+            final String... globalAssetIds) {
+        final List<CompletableFuture<Shell>> shells = List.of(globalAssetIds)
+                                                          .stream()
+                                                          .map(id -> CompletableFuture.supplyAsync(
+                                                                  () -> fetchShell(fetcher, id), executor))
+                                                          .toList();
+        CompletableFuture.allOf(shells.toArray(CompletableFuture[]::new)).exceptionally(e -> null).join();
+        return shells;
+    }
+
+    private static Shell fetchShell(final BatchingShellFetcher fetcher, final String globalAssetId) {
+        return fetchShell(fetcher, key(globalAssetId));
+    }
+
+    private static Shell fetchShell(final BatchingShellFetcher fetcher, final DigitalTwinRegistryKey key) {
+        try {
+            return fetcher.fetchShell(key);
+        } catch (RegistryServiceException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private static DigitalTwinRegistryKey key(final String globalAssetId) {
+        return new DigitalTwinRegistryKey(globalAssetId, "BPNL00000003AYRE");
+    }
+
+    private static Shell shell(final String globalAssetId) {
+        return new Shell(null, AssetAdministrationShellDescriptor.builder().globalAssetId(globalAssetId).build());
+    }
+}
@@ -0,0 +1,155 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.aaswrapper.job.delegate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.tractusx.irs.util.TestMother.jobParameter;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.tractusx.irs.aaswrapper.job.AASTransferProcess;
+import org.eclipse.tractusx.irs.aaswrapper.job.ItemContainer;
+import org.eclipse.tractusx.irs.component.Bpn;
+import org.eclipse.tractusx.irs.component.JobParameter;
+import org.eclipse.tractusx.irs.component.PartChainIdentificationKey;
+import org.eclipse.tractusx.irs.component.Tombstone;
+import org.eclipse.tractusx.irs.component.enums.ProcessStep;
+import org.junit.jupiter.api.Test;
+
+class DeduplicatingDelegateTest {
+
+    private static final Duration TTL = Duration.ofSeconds(10);
+
+    private final AbstractDelegate nextStep = mock(AbstractDelegate.class);
+    private final Clock clock = mock(Clock.class);
+    private final PartChainIdentificationKey itemId = createKey();
+    private final PartChainIdentificationKey childId = PartChainIdentificationKey.builder()
+                                                                                 .globalAssetId("urn:uuid:child")
+                                                                                 .bpn("BPNL00000003AYRE")
+                                                                                 .build();
+
+    private DeduplicatingDelegate givenDelegate() {
+        when(clock.instant()).thenReturn(Instant.EPOCH);
+        return new DeduplicatingDelegate(nextStep, TTL, clock);
+    }
+
+    private void givenNextStepFindsChild(final CountDownLatch release) {
+        when(nextStep.process(any(), any(), any(), any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            final AASTransferProcess process = invocation.getArgument(2);
+            process.addIdsToProcess(List.of(childId));
+            return ItemContainer.builder().bpn(Bpn.withManufacturerId(childId.getBpn())).build();
+        });
+    }
+
+    @Test
+    void shouldShareRunningProcessingBetweenTransfers() throws Exception {
+        // Arrange
+        final DeduplicatingDelegate delegate = givenDelegate();
+        final CountDownLatch release = new CountDownLatch(1);
+        givenNextStepFindsChild(release);
+        final AASTransferProcess first = new AASTransferProcess("first", 0);
+        final AASTransferProcess second = new AASTransferProcess("second", 0);
+
+        // Act
+        final CompletableFuture<ItemContainer> firstResult = CompletableFuture.supplyAsync(
+                () -> delegate.process(ItemContainer.builder(), jobParameter(), first, itemId));
+        verify(nextStep, timeout(1000)).process(any(), any(), any(), any());
+        final CompletableFuture<ItemContainer> secondResult = CompletableFuture.supplyAsync(
+                () -> delegate.process(ItemContainer.builder(), jobParameter(), second, itemId));
+        release.countDown();
+
+        // Assert
+        assertThat(firstResult.get(5, TimeUnit.SECONDS).getBpns()).hasSize(1);
+        assertThat(secondResult.get(5, TimeUnit.SECONDS).getBpns()).hasSize(1);
+        assertThat(first.getIdsToProcess()).containsExactly(childId);
+        assertThat(second.getIdsToProcess()).containsExactly(childId);
+        verify(nextStep, times(1)).process(any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldReuseResultUntilTtlExpired() {
+        // Arrange
+        final DeduplicatingDelegate delegate = givenDelegate();
+        givenNextStepFindsChild(new CountDownLatch(0));
+
+        // Act
+        delegate.process(ItemContainer.builder(), jobParameter(), new AASTransferProcess("first", 0), itemId);
+        when(clock.instant()).thenReturn(Instant.EPOCH.plus(TTL).minusMillis(1));
+        delegate.process(ItemContainer.builder(), jobParameter(), new AASTransferProcess("second", 0), itemId);
+        when(clock.instant()).thenReturn(Instant.EPOCH.plus(TTL));
+        delegate.process(ItemContainer.builder(), jobParameter(), new AASTransferProcess("third", 0), itemId);
+
+        // Assert
+        verify(nextStep, times(2)).process(any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldNotReuseResultWithTombstones() {
+        // Arrange
+        final DeduplicatingDelegate delegate = givenDelegate();
+        when(nextStep.process(any(), any(), any(), any())).thenReturn(ItemContainer.builder()
+                                                                                   .tombstone(Tombstone.from(
+                                                                                           itemId.getGlobalAssetId(),
+                                                                                           null, "error", 0,
+                                                                                           ProcessStep.DIGITAL_TWIN_REQUEST))
+                                                                                   .build());
+
+        // Act
+        delegate.process(ItemContainer.builder(), jobParameter(), new AASTransferProcess("first", 0), itemId);
+        final ItemContainer result = delegate.process(ItemContainer.builder(), jobParameter(),
+                new AASTransferProcess("second", 0), itemId);
+
+        // Assert
+        assertThat(result.getTombstones()).hasSize(1);
+        verify(nextStep, times(2)).process(any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldProcessItemAgainForDifferentJobParameters() {
+        // Arrange
+        final DeduplicatingDelegate delegate = givenDelegate();
+        givenNextStepFindsChild(new CountDownLatch(0));
+        final JobParameter otherAspects = jobParameter().toBuilder().clearAspects().aspect("other").build();
+
+        // Act
+        delegate.process(ItemContainer.builder(), jobParameter(), new AASTransferProcess("first", 0), itemId);
+        delegate.process(ItemContainer.builder(), otherAspects, new AASTransferProcess("second", 0), itemId);
+        delegate.process(ItemContainer.builder(), jobParameter(), new AASTransferProcess("third", 5), itemId);
+
+        // Assert
+        verify(nextStep, times(3)).process(any(), any(), any(), any());
+    }
+
+    private static PartChainIdentificationKey createKey() {
+        return PartChainIdentificationKey.builder().globalAssetId("urn:uuid:item").bpn("BPNL00000003AYRE").build();
+    }
+}
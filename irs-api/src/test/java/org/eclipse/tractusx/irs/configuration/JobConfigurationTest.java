@@ -0,0 +1,66 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+class JobConfigurationTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ExecutorService transferExecutor = new JobConfiguration().transferExecutor(meterRegistry, 1);
+
+    @Test
+    void shouldQueueTransfersWhileAllWorkersAreBusy() throws InterruptedException {
+        // Arrange
+        final CountDownLatch release = new CountDownLatch(1);
+        transferExecutor.execute(() -> awaitQuietly(release));
+        final AtomicInteger executed = new AtomicInteger();
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            transferExecutor.execute(executed::incrementAndGet);
+        }
+
+        // Assert
+        assertThat(meterRegistry.get("executor.queued").tag("name", "irs.transfer").gauge().value()).isEqualTo(10);
+
+        release.countDown();
+        transferExecutor.shutdown();
+        assertThat(transferExecutor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed).hasValue(10);
+        assertThat(meterRegistry.get("executor.idle").tag("name", "irs.transfer").timer().count()).isEqualTo(11);
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -25,13 +25,21 @@ package org.eclipse.tractusx.irs.connector.job;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
 import static org.eclipse.tractusx.irs.util.TestMother.jobParameter;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
 
 import net.datafaker.Faker;
 import org.assertj.core.api.SoftAssertions;
@@ -41,6 +49,10 @@ import org.eclipse.tractusx.irs.component.Jobs;
 import org.eclipse.tractusx.irs.component.enums.JobState;
 import org.eclipse.tractusx.irs.util.TestMother;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 class InMemoryJobStoreTest {
     final int TTL_IN_HOUR_SECONDS = 3600;
@@ -80,6 +92,17 @@ class InMemoryJobStoreTest {
         assertThat(sut.findByProcessId(processId2)).isEmpty();
     }
 
+    @Test
+    void findByProcessId_WhenTransferCompleted() {
+        sut.create(job);
+        sut.addTransferProcess(job.getJobIdString(), processId1);
+        sut.addTransferProcess(job.getJobIdString(), processId2);
+        sut.completeTransferProcess(job.getJobIdString(), process1);
+
+        assertThat(sut.findByProcessId(processId1)).isEmpty();
+        assertThat(sut.findByProcessId(processId2)).isPresent();
+    }
+
     @Test
     void create_and_find() {
         sut.create(job);
@@ -158,6 +181,24 @@ class InMemoryJobStoreTest {
         assertThat(job.getJob().getState()).isEqualTo(JobState.RUNNING);
     }
 
+    @Test
+    void completeTransferProcess_WhenNotLastTransfer_UpdatesRunningJobInPlace() {
+        // Arrange
+        sut.create(job);
+        sut.addTransferProcess(job.getJobIdString(), processId1);
+        sut.addTransferProcess(job.getJobIdString(), processId2);
+        final MultiTransferJob runningJob = sut.find(job.getJobIdString()).orElseThrow();
+
+        // Act
+        sut.completeTransferProcess(job.getJobIdString(), process1);
+
+        // Assert
+        refreshJob();
+        assertThat(job).isSameAs(runningJob);
+        assertThat(job.getTransferProcessIds()).containsExactly(processId2);
+        assertThat(job.getCompletedTransfers()).containsExactly(process1);
+    }
+
     @Test
     void completeTransferProcess_WhenLastTransfer_TransitionsJob() {
         // Arrange
@@ -369,6 +410,55 @@ class InMemoryJobStoreTest {
         assertThat(foundJobs.get(0).getJobIdString()).isEqualTo(job.getJobIdString());
     }
 
+    @Test
+    void shouldFindJobSummariesByStateNewestFirst() {
+        // Arrange
+        sut.create(job);
+        sut.create(job2);
+        sut.completeJob(job.getJobIdString(), this::doNothing);
+        sut.completeJob(job2.getJobIdString(), this::doNothing);
+        sut.create(generate.job(JobState.UNSAVED));
+        refreshJob();
+        refreshJob2();
+        // Act
+        final Page<JobSummary> summaries = sut.findSummariesByStates(List.of(JobState.COMPLETED), Pageable.ofSize(1));
+        // Assert
+        final JobSummary newest = Stream.of(JobSummary.of(job), JobSummary.of(job2))
+                                        .min(JobSummary.NEWEST_FIRST)
+                                        .orElseThrow();
+        assertThat(summaries.getTotalElements()).isEqualTo(2);
+        assertThat(summaries.getTotalPages()).isEqualTo(2);
+        assertThat(summaries.getContent()).containsExactly(newest);
+    }
+
+    @Test
+    void shouldSortJobSummariesByRequestedProperty() {
+        // Arrange
+        sut.create(job);
+        sut.create(job2);
+        sut.completeJob(job.getJobIdString(), this::doNothing);
+        refreshJob();
+        refreshJob2();
+        // Act
+        final Page<JobSummary> summaries = sut.findSummariesByStates(List.of(),
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "state")));
+        // Assert
+        assertThat(summaries.getContent()).containsExactly(JobSummary.of(job2), JobSummary.of(job));
+    }
+
+    @Test
+    void shouldCountJobsByStateAfterDeletion() {
+        // Arrange
+        sut.create(job);
+        sut.create(job2);
+        sut.addTransferProcess(job.getJobIdString(), processId1);
+        sut.deleteJob(job2.getJobIdString());
+        // Act
+        final Map<JobState, Long> counts = sut.countByState();
+        // Assert
+        assertThat(counts).containsExactly(entry(JobState.RUNNING, 1L));
+    }
+
     private void refreshJob() {
         job = sut.find(job.getJobIdString()).get();
     }
@@ -468,4 +558,46 @@ class InMemoryJobStoreTest {
         assertThat(job2.getJob().getLastModifiedOn()).isAfter(job1.getJob().getLastModifiedOn());
     }
 
-}
\ No newline at end of file
+    @Test
+    void shouldCompleteTransfersOfDifferentJobsConcurrently() throws Exception {
+        // Arrange
+        final int jobCount = 20;
+        final int transfersPerJob = 250;
+        final List<MultiTransferJob> jobs = new ArrayList<>();
+        final List<Callable<Void>> completions = new ArrayList<>();
+        for (int i = 0; i < jobCount; i++) {
+            final MultiTransferJob multiJob = generate.job(JobState.UNSAVED);
+            final String jobId = multiJob.getJobIdString();
+            sut.create(multiJob);
+            jobs.add(multiJob);
+            for (int j = 0; j < transfersPerJob; j++) {
+                final String processId = UUID.randomUUID().toString();
+                sut.addTransferProcess(jobId, processId);
+                completions.add(() -> {
+                    sut.findByProcessId(processId)
+                       .ifPresent(found -> sut.completeTransferProcess(found.getJobIdString(), () -> processId));
+                    return null;
+                });
+            }
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(32);
+
+        // Act
+        try {
+            for (final Future<Void> completion : executor.invokeAll(completions)) {
+                completion.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        assertThat(jobs).allSatisfy(multiJob -> {
+            final MultiTransferJob storedJob = sut.find(multiJob.getJobIdString()).orElseThrow();
+            assertThat(storedJob.getJob().getState()).isEqualTo(JobState.TRANSFERS_FINISHED);
+            assertThat(storedJob.getTransferProcessIds()).isEmpty();
+            assertThat(storedJob.getCompletedTransfers()).hasSize(transfersPerJob);
+        });
+    }
+
+}
@@ -44,6 +44,7 @@ import java.util.function.Consumer;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
+import org.eclipse.tractusx.irs.common.JobProcessingFinishedEvent;
 import org.eclipse.tractusx.irs.component.enums.JobState;
 import org.eclipse.tractusx.irs.services.MeterRegistryService;
 import org.eclipse.tractusx.irs.util.TestMother;
@@ -103,6 +104,16 @@ class JobOrchestratorTest {
                                                    .build());
     }
 
+    @Test
+    void shouldReleaseHandlerStateWhenJobProcessingFinished() {
+        // Act
+        sut.jobProcessingFinished(
+                new JobProcessingFinishedEvent(job.getJobIdString(), JobState.CANCELED.name(), "", Optional.empty()));
+
+        // Assert
+        verify(handler).finish(job.getJobIdString());
+    }
+
     @Test
     void startJob_storesJobWithUuidAsIdentifier() {
         assertThat(startJob().getJobIdString()).matches(uuid.asPredicate());
@@ -31,6 +31,7 @@ import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -57,6 +58,8 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 @Testcontainers
@@ -124,6 +127,182 @@ class PersistentJobStoreTest {
         assertThat(sut.findByProcessId(processId2)).isEmpty();
     }
 
+    @Test
+    void findByProcessId_ShouldRebuildIndexFromBlobStoreOnce() throws BlobPersistenceException {
+        sut.create(job);
+        sut.addTransferProcess(job.getJobIdString(), processId1);
+        sut.addTransferProcess(job.getJobIdString(), processId2);
+        sut.flush();
+        final PersistentJobStore restartedStore = new PersistentJobStore(blobStoreSpy, meterRegistryService);
+
+        assertThat(restartedStore.findByProcessId(processId1)).isPresent();
+        assertThat(restartedStore.findByProcessId(processId2)).isPresent();
+        verify(blobStoreSpy, times(1)).findBlobByPrefix("job:");
+    }
+
+    @Test
+    void shouldListJobSummariesWithoutLoadingJobs() throws BlobPersistenceException {
+        sut.create(job);
+        sut.completeJob(job.getJobIdString(), this::doNothing);
+        blobStoreSpy.putBlob("job-summary-index", new byte[0]);
+        final PersistentJobStore restartedStore = new PersistentJobStore(blobStoreSpy, meterRegistryService);
+
+        final Page<JobSummary> summaries = restartedStore.findSummariesByStates(List.of(JobState.COMPLETED),
+                Pageable.ofSize(1000));
+
+        assertThat(summaries.getContent()).extracting(JobSummary::id).contains(job.getJob().getId());
+        verify(blobStoreSpy, never()).findBlobByPrefix("job:");
+    }
+
+    @Test
+    void shouldPruneSummariesOfJobsDeletedByBucketLifecycle() throws BlobPersistenceException {
+        sut.create(job);
+        sut.completeJob(job.getJobIdString(), this::doNothing);
+        assertThat(completedJobIds()).contains(job.getJob().getId());
+        blobStoreSpy.delete("job:" + job.getJobIdString(), List.of());
+        blobStoreSpy.delete("job-summary:" + job.getJobIdString(), List.of());
+
+        sut.pruneDeletedJobs();
+
+        assertThat(completedJobIds()).doesNotContain(job.getJob().getId());
+    }
+
+    private List<UUID> completedJobIds() {
+        return sut.findSummariesByStates(List.of(JobState.COMPLETED), Pageable.ofSize(1000))
+                  .map(JobSummary::id)
+                  .toList();
+    }
+
+    @Test
+    void shouldCreateSummariesOfJobsStoredWithoutSummary() throws BlobPersistenceException {
+        final MinioBlobPersistence legacyBlobStore = new MinioBlobPersistence(
+                "http://" + minioContainer.getHostAddress(), ACCESS_KEY, SECRET_KEY, "legacy-" + UUID.randomUUID(), 1);
+        final MultiTransferJob legacyJob = generate.job(JobState.COMPLETED);
+        legacyBlobStore.putBlob("job:" + legacyJob.getJobIdString(),
+                new JsonUtil().asString(legacyJob).getBytes(StandardCharsets.UTF_8));
+        final PersistentJobStore store = new PersistentJobStore(legacyBlobStore, meterRegistryService);
+
+        assertThat(store.countByState()).containsEntry(JobState.COMPLETED, 1L);
+        assertThat(legacyBlobStore.getBlob("job-summary:" + legacyJob.getJobIdString())).isPresent();
+        assertThat(legacyBlobStore.getBlob("job-summary-index")).isPresent();
+    }
+
+    @Test
+    void shouldKeepProgressOfRunningJobInMemoryUntilFlushed() throws BlobPersistenceException {
+        // Arrange
+        final String jobId = job.getJobIdString();
+        sut.create(job);
+        sut.addTransferProcess(jobId, processId1);
+        sut.addTransferProcess(jobId, processId2);
+
+        // Act
+        final PersistentJobStore crashedStore = new PersistentJobStore(blobStoreSpy, meterRegistryService);
+        final Collection<String> transfersBeforeFlush = crashedStore.find(jobId).orElseThrow().getTransferProcessIds();
+        sut.flush();
+        final PersistentJobStore restartedStore = new PersistentJobStore(blobStoreSpy, meterRegistryService);
+        final Collection<String> transfersAfterFlush = restartedStore.find(jobId).orElseThrow().getTransferProcessIds();
+
+        // Assert
+        assertThat(sut.find(jobId).orElseThrow().getTransferProcessIds()).containsExactlyInAnyOrder(processId1,
+                processId2);
+        assertThat(transfersBeforeFlush).containsExactly(processId1);
+        assertThat(transfersAfterFlush).containsExactlyInAnyOrder(processId1, processId2);
+        verify(blobStoreSpy, times(3)).putBlob(anyString(), any());
+    }
+
+    @Test
+    void shouldAppendTransfersToJournalOnFlush() throws BlobPersistenceException {
+        // Arrange
+        final String jobId = job.getJobIdString();
+        final TransferProcess process3 = generate.transfer();
+        sut.create(job);
+        sut.addTransferProcess(jobId, processId1);
+        sut.addTransferProcess(jobId, processId2);
+        sut.flush();
+        sut.addTransferProcess(jobId, process3.getId());
+        sut.completeTransferProcess(jobId, process1);
+
+        // Act
+        sut.flush();
+        final PersistentJobStore restartedStore = new PersistentJobStore(blobStoreSpy, meterRegistryService);
+
+        // Assert
+        final MultiTransferJob storedJob = restartedStore.find(jobId).orElseThrow();
+        assertThat(storedJob.getTransferProcessIds()).containsExactlyInAnyOrder(processId2, process3.getId());
+        assertThat(storedJob.getCompletedTransfers()).extracting(TransferProcess::getId).containsExactly(processId1);
+        verify(blobStoreSpy, times(2)).putBlob(argThat(blobId -> blobId.startsWith("job-journal:" + jobId)), any());
+    }
+
+    @Test
+    void shouldClearJournalWhenWritingSnapshot() throws BlobPersistenceException {
+        // Arrange
+        final String jobId = job.getJobIdString();
+        sut.create(job);
+        sut.addTransferProcess(jobId, processId1);
+        sut.addTransferProcess(jobId, processId2);
+        sut.flush();
+
+        // Act
+        sut.completeTransferProcess(jobId, process1);
+        sut.completeTransferProcess(jobId, process2);
+
+        // Assert
+        assertThat(blobStoreSpy.findBlobByPrefix("job-journal:" + jobId)).isEmpty();
+        final MultiTransferJob storedJob = new PersistentJobStore(blobStoreSpy, meterRegistryService).find(jobId)
+                                                                                                     .orElseThrow();
+        assertThat(storedJob.getJob().getState()).isEqualTo(JobState.TRANSFERS_FINISHED);
+        assertThat(storedJob.getCompletedTransfers()).hasSize(2);
+    }
+
+    @Test
+    void shouldNotReplayJournalAgainIfTruncationFailedAfterSnapshot() throws BlobPersistenceException {
+        // Arrange
+        final String jobId = job.getJobIdString();
+        sut.create(job);
+        sut.addTransferProcess(jobId, processId1);
+        sut.addTransferProcess(jobId, processId2);
+        sut.flush();
+        sut.completeTransferProcess(jobId, process1);
+        sut.flush();
+        // fill up the journal, so that the next flush writes a snapshot of the running job
+        for (int segment = 2; segment < 50; segment++) {
+            sut.addTransferProcess(jobId, generate.transfer().getId());
+            sut.flush();
+        }
+        doThrow(new BlobPersistenceException("delete failed", null)).when(blobStoreSpy)
+                                                                    .delete(argThat(blobId -> blobId.startsWith(
+                                                                            "job-journal:" + jobId)), anyList());
+
+        // Act
+        sut.addTransferProcess(jobId, generate.transfer().getId());
+        sut.flush();
+        final PersistentJobStore restartedStore = new PersistentJobStore(blobStoreSpy, meterRegistryService);
+
+        // Assert
+        assertThat(blobStoreSpy.findBlobByPrefix("job-journal:" + jobId)).hasSize(50);
+        final MultiTransferJob storedJob = restartedStore.find(jobId).orElseThrow();
+        assertThat(storedJob.getJob().getState()).isEqualTo(JobState.RUNNING);
+        assertThat(storedJob.getCompletedTransfers()).extracting(TransferProcess::getId).containsExactly(processId1);
+        assertThat(storedJob.getTransferProcessIds()).hasSize(50).doesNotContain(processId1);
+    }
+
+    @Test
+    void shouldPersistStateTransitionsImmediately() {
+        // Arrange
+        final String jobId = job.getJobIdString();
+        sut.create(job);
+        sut.addTransferProcess(jobId, processId1);
+
+        // Act
+        sut.completeTransferProcess(jobId, process1);
+        final PersistentJobStore restartedStore = new PersistentJobStore(blobStoreSpy, meterRegistryService);
+
+        // Assert
+        final MultiTransferJob storedJob = restartedStore.find(jobId).orElseThrow();
+        assertThat(storedJob.getJob().getState()).isEqualTo(JobState.TRANSFERS_FINISHED);
+        assertThat(storedJob.getCompletedTransfers()).hasSize(1);
+    }
+
     @Test
     void create_and_find() {
         sut.create(job);
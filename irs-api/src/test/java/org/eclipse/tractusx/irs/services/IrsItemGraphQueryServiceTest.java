@@ -28,12 +28,14 @@ import static org.eclipse.tractusx.irs.util.TestMother.registerJobWithDepthAndAs
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -47,6 +49,7 @@ import org.eclipse.tractusx.irs.component.PageResult;
 import org.eclipse.tractusx.irs.component.Relationship;
 import org.eclipse.tractusx.irs.component.enums.JobState;
 import org.eclipse.tractusx.irs.connector.job.JobStore;
+import org.eclipse.tractusx.irs.connector.job.JobSummary;
 import org.eclipse.tractusx.irs.connector.job.MultiTransferJob;
 import org.eclipse.tractusx.irs.semanticshub.AspectModel;
 import org.eclipse.tractusx.irs.semanticshub.AspectModels;
@@ -61,6 +64,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
@@ -80,6 +85,9 @@ class IrsItemGraphQueryServiceTest {
     @Mock
     private ApplicationEventPublisher applicationEventPublisher;
 
+    @Mock
+    private MeterRegistryService meterRegistryService;
+
     @InjectMocks
     private IrsItemGraphQueryService testee;
 
@@ -150,7 +158,9 @@ class IrsItemGraphQueryServiceTest {
         final MultiTransferJob multiTransferJob = MultiTransferJob.builder()
                                                                   .job(generate.fakeJob(JobState.COMPLETED))
                                                                   .build();
-        when(jobStore.findByStates(states)).thenReturn(List.of(multiTransferJob));
+        final Pageable pageable = Pageable.ofSize(10);
+        when(jobStore.findSummariesByStates(states, pageable)).thenReturn(
+                new PageImpl<>(List.of(JobSummary.of(multiTransferJob)), pageable, 1));
 
         final PageResult jobs = testee.getJobsByState(states, Pageable.ofSize(10));
 
@@ -167,12 +177,40 @@ class IrsItemGraphQueryServiceTest {
     }
 
     @Test
-    void shouldTakeAllJobsWhenBothListEmpty() {
+    void shouldReturnOnePageForEmptyResult() {
+        final List<JobState> states = List.of(JobState.COMPLETED);
+        final Pageable pageable = Pageable.ofSize(10);
+        when(jobStore.findSummariesByStates(states, pageable)).thenReturn(new PageImpl<>(List.of(), pageable, 0));
+
+        final PageResult jobs = testee.getJobsByState(states, pageable);
+
+        assertThat(jobs.content()).isEmpty();
+        assertThat(jobs.pageCount()).isEqualTo(1);
+        assertThat(jobs.totalElements()).isZero();
+    }
+
+    @Test
+    void shouldNotLoadJobsForJobListing() {
         final List<JobState> states = List.of();
+        final Pageable pageable = Pageable.ofSize(10);
+        when(jobStore.findSummariesByStates(states, pageable)).thenReturn(Page.empty(pageable));
+
+        testee.getJobsByState(states, pageable);
+
+        verify(jobStore).findSummariesByStates(states, pageable);
+        verify(jobStore, never()).findAll();
+    }
+
+    @Test
+    void shouldUpdateJobMetricsFromStateCounts() {
+        when(jobStore.countByState()).thenReturn(Map.of(JobState.RUNNING, 2L, JobState.COMPLETED, 3L));
 
-        testee.getJobsByState(states, Pageable.ofSize(10));
+        testee.updateJobsInJobStoreMetrics();
 
-        verify(jobStore).findAll();
+        verify(meterRegistryService).setNumberOfJobsInJobStore(5L);
+        verify(meterRegistryService).setStateSnapShot(JobState.RUNNING, 2L);
+        verify(meterRegistryService).setStateSnapShot(JobState.ERROR, 0L);
+        verify(jobStore, never()).findAll();
     }
 
     @Test
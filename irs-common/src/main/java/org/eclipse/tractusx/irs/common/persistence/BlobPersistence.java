@@ -24,6 +24,8 @@
 
 package org.eclipse.tractusx.irs.common.persistence;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -38,6 +40,24 @@ public interface BlobPersistence {
 
     void putBlob(String targetBlobName, byte[] blob) throws BlobPersistenceException;
 
+    /**
+     * Stores the content of the given stream as blob. Implementations should stream the content to the storage
+     * instead of reading it into memory.
+     *
+     * @param targetBlobName the name of the blob
+     * @param blob           the content of the blob
+     * @param size           the number of bytes in the stream
+     * @throws BlobPersistenceException if the blob could not be stored
+     */
+    default void putBlob(final String targetBlobName, final InputStream blob, final long size)
+            throws BlobPersistenceException {
+        try {
+            putBlob(targetBlobName, blob.readAllBytes());
+        } catch (IOException e) {
+            throw new BlobPersistenceException("Encountered error while trying to read blob content", e);
+        }
+    }
+
     Optional<byte[]> getBlob(String sourceBlobName) throws BlobPersistenceException;
 
     Map<String, byte[]> getAllBlobs() throws BlobPersistenceException;
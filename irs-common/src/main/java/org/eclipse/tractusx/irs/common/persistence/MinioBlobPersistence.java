@@ -25,15 +25,23 @@ package org.eclipse.tractusx.irs.common.persistence;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import io.minio.BucketExistsArgs;
 import io.minio.GetObjectArgs;
@@ -62,29 +70,57 @@ import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
 
 /**
- * BlobPersistence implementation using the min.io library
+ * BlobPersistence implementation using the min.io library.
+ * <p>
+ * Operations reading multiple blobs ({@link #findBlobByPrefix(String)}, {@link #getAllBlobs()}) fetch the listed
+ * objects in parallel, with at most {@code fetchConcurrency} requests in flight. Fetching starts while the listing
+ * is still paging through the bucket. The fetching threads are stopped by {@link #close()}.
  */
 @Slf4j
 @SuppressWarnings({ "PMD.ExcessiveImports",
                     "PMD.PreserveStackTrace",
-                    "PMD.TooManyMethods"
+                    "PMD.TooManyMethods",
+                    "PMD.DoNotUseThreads"
 })
-public class MinioBlobPersistence implements BlobPersistence {
+public class MinioBlobPersistence implements BlobPersistence, AutoCloseable {
+
+    /**
+     * The default number of objects fetched in parallel.
+     */
+    public static final int DEFAULT_FETCH_CONCURRENCY = 10;
+
+    private static final int FETCH_THREAD_KEEP_ALIVE_SECONDS = 60;
+    private static final AtomicInteger FETCH_THREAD_COUNTER = new AtomicInteger();
 
     private final MinioClient minioClient;
     private final String bucketName;
     private final int daysToLive;
+    private final int fetchConcurrency;
+    private final ExecutorService fetchExecutor;
 
     public MinioBlobPersistence(final String endpoint, final String accessKey, final String secretKey,
             final String bucketName, final int daysToLive) throws BlobPersistenceException {
-        this(bucketName, createClient(endpoint, accessKey, secretKey), daysToLive);
+        this(endpoint, accessKey, secretKey, bucketName, daysToLive, DEFAULT_FETCH_CONCURRENCY);
+    }
+
+    public MinioBlobPersistence(final String endpoint, final String accessKey, final String secretKey,
+            final String bucketName, final int daysToLive, final int fetchConcurrency)
+            throws BlobPersistenceException {
+        this(bucketName, createClient(endpoint, accessKey, secretKey), daysToLive, fetchConcurrency);
     }
 
     public MinioBlobPersistence(final String bucketName, final MinioClient client, final int daysToLive)
             throws BlobPersistenceException {
+        this(bucketName, client, daysToLive, DEFAULT_FETCH_CONCURRENCY);
+    }
+
+    public MinioBlobPersistence(final String bucketName, final MinioClient client, final int daysToLive,
+            final int fetchConcurrency) throws BlobPersistenceException {
         this.bucketName = bucketName;
         this.minioClient = client;
         this.daysToLive = daysToLive;
+        this.fetchConcurrency = Math.max(1, fetchConcurrency);
+        this.fetchExecutor = createFetchExecutor(this.fetchConcurrency);
 
         try {
             createBucketIfNotExists(bucketName);
@@ -152,6 +188,23 @@ public class MinioBlobPersistence implements BlobPersistence {
         }
     }
 
+    @Override
+    public void putBlob(final String targetBlobName, final InputStream blob, final long size)
+            throws BlobPersistenceException {
+        try {
+            minioClient.putObject(PutObjectArgs.builder()
+                                               .bucket(bucketName)
+                                               .object(targetBlobName)
+                                               .stream(blob, size, -1)
+                                               .build());
+            log.debug("Streamed {} bytes to bucket name {} with object name {}", size, bucketName, targetBlobName);
+        } catch (ServerException | InsufficientDataException | ErrorResponseException | IOException
+                 | NoSuchAlgorithmException | InvalidKeyException | InvalidResponseException | XmlParserException
+                 | InternalException e) {
+            throw new BlobPersistenceException("Encountered error while trying to store blob", e);
+        }
+    }
+
     @Override
     public Optional<byte[]> getBlob(final String sourceBlobName) throws BlobPersistenceException {
         final GetObjectResponse response;
@@ -178,24 +231,7 @@ public class MinioBlobPersistence implements BlobPersistence {
      */
     @Override
     public Map<String, byte[]> getAllBlobs() throws BlobPersistenceException {
-        final Iterable<Result<Item>> items = getItems();
-        final Map<String, byte[]> result = new ConcurrentHashMap<>();
-
-        for (final Result<Item> item : items) {
-            try {
-                final String objectName = item.get().objectName();
-                try (GetObjectResponse response = minioClient.getObject(
-                        GetObjectArgs.builder().bucket(bucketName).object(objectName).build())) {
-                    result.put(objectName, response.readAllBytes());
-                }
-            } catch (ErrorResponseException | InsufficientDataException | InternalException | InvalidKeyException
-                     | InvalidResponseException | IOException | NoSuchAlgorithmException | ServerException
-                     | XmlParserException e) {
-                throw createLoadFailedException(e);
-            }
-        }
-
-        return result;
+        return fetchBlobs(getItems(), false);
     }
 
     private BlobPersistenceException createLoadFailedException(final Throwable cause) {
@@ -207,11 +243,93 @@ public class MinioBlobPersistence implements BlobPersistence {
         final Iterable<Result<Item>> results = minioClient.listObjects(
                 ListObjectsArgs.builder().prefix(prefix).bucket(bucketName).build());
 
-        return StreamSupport.stream(results.spliterator(), false)
-                            .flatMap(this::getItem)
-                            .map(Item::objectName)
-                            .flatMap(this::getBlobIfPresent)
-                            .toList();
+        try {
+            return new ArrayList<>(fetchBlobs(results, true).values());
+        } catch (BlobPersistenceException e) {
+            log.error("Cannot find blobs with prefix {}", prefix, e);
+            return List.of();
+        }
+    }
+
+    /**
+     * Fetches the content of all listed objects, with at most {@link #fetchConcurrency} requests in flight.
+     *
+     * @param items        the listed objects
+     * @param skipFailures whether objects which cannot be listed or fetched are skipped instead of failing
+     * @return the content of the objects by object name, in the order of the listing
+     * @throws BlobPersistenceException if an object could not be fetched and failures are not skipped
+     */
+    private Map<String, byte[]> fetchBlobs(final Iterable<Result<Item>> items, final boolean skipFailures)
+            throws BlobPersistenceException {
+        final Map<String, Future<Optional<byte[]>>> pending = new LinkedHashMap<>();
+        final Semaphore permits = new Semaphore(fetchConcurrency);
+        try {
+            for (final Result<Item> item : items) {
+                final Optional<String> objectName = getObjectName(item, skipFailures);
+                if (objectName.isPresent()) {
+                    permits.acquire();
+                    pending.put(objectName.get(), fetchExecutor.submit(() -> {
+                        try {
+                            return getBlob(objectName.get());
+                        } finally {
+                            permits.release();
+                        }
+                    }));
+                }
+            }
+
+            final Map<String, byte[]> blobs = new LinkedHashMap<>();
+            for (final Map.Entry<String, Future<Optional<byte[]>>> entry : pending.entrySet()) {
+                try {
+                    entry.getValue().get().ifPresent(blob -> blobs.put(entry.getKey(), blob));
+                } catch (ExecutionException e) {
+                    if (!skipFailures) {
+                        throw createLoadFailedException(e.getCause());
+                    }
+                    log.error("Cannot find content for blob id {}", entry.getKey());
+                }
+            }
+            return blobs;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BlobPersistenceException("Interrupted while loading blobs", e);
+        } finally {
+            pending.values().forEach(future -> future.cancel(true));
+        }
+    }
+
+    private Optional<String> getObjectName(final Result<Item> item, final boolean skipFailures)
+            throws BlobPersistenceException {
+        try {
+            return Optional.of(item.get().objectName());
+        } catch (ServerException | InsufficientDataException | ErrorResponseException | IOException
+                 | NoSuchAlgorithmException | InvalidKeyException | InvalidResponseException | XmlParserException
+                 | InternalException e) {
+            if (!skipFailures) {
+                throw createLoadFailedException(e);
+            }
+            log.error("Encountered error while trying to retrieve result content", e);
+            return Optional.empty();
+        }
+    }
+
+    private static ExecutorService createFetchExecutor(final int threads) {
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, FETCH_THREAD_KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            final Thread thread = new Thread(runnable, "blob-fetch-" + FETCH_THREAD_COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Stops the threads fetching objects in parallel. Spring calls this when the bean is destroyed.
+     */
+    @Override
+    public void close() {
+        fetchExecutor.shutdownNow();
     }
 
     @Override
@@ -244,26 +362,6 @@ public class MinioBlobPersistence implements BlobPersistence {
         });
     }
 
-    private Stream<byte[]> getBlobIfPresent(final String sourceBlobName) {
-        try {
-            return getBlob(sourceBlobName).stream();
-        } catch (BlobPersistenceException e) {
-            log.error("Cannot find content for blob id {}", sourceBlobName);
-            return Stream.empty();
-        }
-    }
-
-    private Stream<Item> getItem(final Result<Item> result) {
-        try {
-            return Stream.of(result.get());
-        } catch (ServerException | InsufficientDataException | ErrorResponseException | IOException
-                 | NoSuchAlgorithmException | InvalidKeyException | InvalidResponseException | XmlParserException
-                 | InternalException e) {
-            log.error("Encountered error while trying to retrieve result content", e);
-            return Stream.empty();
-        }
-    }
-
     private Iterable<Result<Item>> getItems() {
         return minioClient.listObjects(ListObjectsArgs.builder().bucket(bucketName).build());
     }
@@ -27,12 +27,17 @@ import static java.util.concurrent.CompletableFuture.allOf;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.Getter;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
@@ -42,12 +47,15 @@ import org.apache.commons.lang3.exception.ExceptionUtils;
  * Helper class to find the relevant result from a list of futures.
  */
 @Slf4j
-public class ResultFinder {
+public class ResultFinder implements MeterBinder {
+
+    private final AtomicLong cancelledFutures = new AtomicLong();
 
     /**
      * Returns a new {@link CompletableFuture} which completes
      * when at least one of the given futures completes successfully or all fail.
-     * The result from the fastest successful future is returned. The others are ignored.
+     * The result from the fastest successful future is returned. The others are cancelled, as well as all of them
+     * if the returned future is cancelled. Therefore, the given futures must not be shared with other consumers.
      *
      * @param futures the futures
      * @param <T>     the return type
@@ -77,6 +85,10 @@ public class ResultFinder {
 
             log.debug("All of the futures completed");
 
+            if (overallFuture.isDone()) {
+                return;
+            }
+
             if (ex != null) {
                 log.warn("All failed: " + System.lineSeparator() //
                         + exceptions.stream()
@@ -89,7 +101,29 @@ public class ResultFinder {
             }
         });
 
-        return overallFuture;
+        // the others are cancelled before the result is handed out, and also if the caller cancels the result
+        final CompletableFuture<T> fastestResult = overallFuture.whenComplete(
+                (value, ex) -> cancelPending(futures));
+        fastestResult.whenComplete((value, ex) -> cancelPending(futures));
+
+        return fastestResult;
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder("futures.cancelled", cancelledFutures, AtomicLong::get)
+                       .description("The number of pending futures cancelled as their result was not needed anymore")
+                       .register(registry);
+    }
+
+    private <T> void cancelPending(final List<CompletableFuture<T>> futures) {
+        final long cancelled = futures.stream()
+                                       .filter(future -> !future.isDone() && future.cancel(true))
+                                       .count();
+        if (cancelled > 0) {
+            log.debug("Cancelled {} pending future(s)", cancelled);
+            cancelledFutures.addAndGet(cancelled);
+        }
     }
 
     private static <T> CompletableFuture<T>[] toArray(final List<CompletableFuture<T>> handledFutures) {
@@ -116,7 +150,11 @@ public class ResultFinder {
 
             } else {
                 if (throwable != null) {
-                    log.warn("Exception occurred: " + throwable.getMessage(), throwable);
+                    if (throwable.getCause() instanceof CancellationException) {
+                        log.debug("Future cancelled: {}", throwable.getMessage());
+                    } else {
+                        log.warn("Exception occurred: " + throwable.getMessage(), throwable);
+                    }
                     throw new CompletionException(throwable.getMessage(), throwable);
                 }
                 return false;
@@ -126,7 +164,11 @@ public class ResultFinder {
 
     private static <T> Function<Throwable, T> collectingExceptionsAndThrow(final List<Throwable> exceptions) {
         return t -> {
-            log.error("Exception occurred: " + t.getMessage(), t);
+            if (t instanceof CancellationException) {
+                log.debug("Future cancelled: {}", t.getMessage());
+            } else {
+                log.error("Exception occurred: " + t.getMessage(), t);
+            }
             exceptions.add(t);
             throw new CompletionException(t);
         };
@@ -45,8 +45,13 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import io.minio.GetObjectArgs;
 import io.minio.GetObjectResponse;
 import io.minio.MinioClient;
 import io.minio.Result;
@@ -214,6 +219,60 @@ class MinioBlobPersistenceTest {
         assertThat(blobsByPrefix).isNotEmpty();
     }
 
+    @Test
+    void shouldFindAllBlobsByPrefixInListingOrder() throws Exception {
+        // arrange
+        final List<String> names = List.of("testBlobName1", "testBlobName2", "testBlobName3");
+        when(client.listObjects(any())).thenReturn(names.stream().<Result<Item>>map(name -> new Result<>(new TestItem(name))).toList());
+        when(client.getObject(any())).thenAnswer(invocation -> {
+            final GetObjectResponse response = mock(GetObjectResponse.class);
+            final String objectName = ((GetObjectArgs) invocation.getArgument(0)).object();
+            when(response.readAllBytes()).thenReturn(objectName.getBytes(StandardCharsets.UTF_8));
+            return response;
+        });
+
+        // act
+        final Collection<byte[]> blobsByPrefix = testee.findBlobByPrefix("testBlobName");
+
+        // assert
+        assertThat(blobsByPrefix).map(blob -> new String(blob, StandardCharsets.UTF_8)).containsExactlyElementsOf(names);
+        verify(client, times(3)).getObject(any());
+    }
+
+    @Test
+    void shouldFetchAtMostConfiguredNumberOfBlobsInParallel() throws Exception {
+        // arrange
+        final int fetchConcurrency = 3;
+        final List<Result<Item>> items = IntStream.range(0, 20)
+                                                  .mapToObj(i -> new Result<Item>(new TestItem("testBlobName" + i)))
+                                                  .toList();
+        when(client.listObjects(any())).thenReturn(items);
+        final GetObjectResponse response = mock(GetObjectResponse.class);
+        when(response.readAllBytes()).thenReturn("testContent".getBytes(StandardCharsets.UTF_8));
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        final CountDownLatch limitReached = new CountDownLatch(fetchConcurrency);
+        when(client.getObject(any())).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            limitReached.countDown();
+            // the first requests block until the limit is reached, so any further request would exceed it
+            limitReached.await(5, TimeUnit.SECONDS);
+            Thread.sleep(5);
+            inFlight.decrementAndGet();
+            return response;
+        });
+
+        // act
+        final Collection<byte[]> blobsByPrefix;
+        try (var limitedTestee = new MinioBlobPersistence("test-bucket", client, 1, fetchConcurrency)) {
+            blobsByPrefix = limitedTestee.findBlobByPrefix("testBlobName");
+        }
+
+        // assert
+        assertThat(blobsByPrefix).hasSize(20);
+        assertThat(maxInFlight).hasValue(fetchConcurrency);
+    }
+
     @Test
     void shouldNotFindBlobByPrefix() throws Exception {
         // arrange
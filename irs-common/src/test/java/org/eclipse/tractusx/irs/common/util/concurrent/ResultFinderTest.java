@@ -33,6 +33,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Supplier;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -135,6 +136,43 @@ class ResultFinderTest {
         assertThat(result).isEqualTo("fastest success");
     }
 
+    @Test
+    void withFastestSuccessfulCompletableFuture_theSlowerFuturesShouldBeCancelled()
+            throws ExecutionException, InterruptedException {
+
+        // given
+        final var meterRegistry = new SimpleMeterRegistry();
+        sut.bindTo(meterRegistry);
+        final CompletableFuture<String> slower = new CompletableFuture<>();
+        final CompletableFuture<String> slowest = new CompletableFuture<>();
+        final List<CompletableFuture<String>> futures = List.of(slower, supplyAsync(() -> "fastest success"),
+                slowest);
+
+        // when
+        final String result = sut.getFastestResult(futures).get();
+
+        // then
+        assertThat(result).isEqualTo("fastest success");
+        assertThat(slower).isCancelled();
+        assertThat(slowest).isCancelled();
+        assertThat(meterRegistry.get("futures.cancelled").functionCounter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void whenFastestResultIsCancelled_allPendingFuturesShouldBeCancelled() {
+
+        // given
+        final CompletableFuture<String> pending = new CompletableFuture<>();
+        final CompletableFuture<String> failed = CompletableFuture.failedFuture(new RuntimeException("failing"));
+
+        // when
+        sut.getFastestResult(List.of(pending, failed)).cancel(true);
+
+        // then
+        assertThat(pending).isCancelled();
+        assertThat(failed).isCompletedExceptionally().isNotCancelled();
+    }
+
     private static CompletableFuture<String> futureThrowAfterMillis(final int sleepMillis,
             final Supplier<RuntimeException> exceptionSupplier) {
         return supplyAsync(() -> {
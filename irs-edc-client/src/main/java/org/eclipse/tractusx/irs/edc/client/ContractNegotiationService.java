@@ -23,9 +23,12 @@
  ********************************************************************************/
 package org.eclipse.tractusx.irs.edc.client;
 
+import java.time.Instant;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -37,6 +40,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.eclipse.tractusx.irs.edc.client.cache.contractagreement.ContractAgreementCache;
+import org.eclipse.tractusx.irs.edc.client.cache.contractagreement.ContractAgreementKey;
+import org.eclipse.tractusx.irs.edc.client.cache.endpointdatareference.EndpointDataReferenceCacheService;
 import org.eclipse.tractusx.irs.edc.client.cache.endpointdatareference.EndpointDataReferenceStatus;
 import org.eclipse.tractusx.irs.edc.client.exceptions.ContractNegotiationException;
 import org.eclipse.tractusx.irs.edc.client.exceptions.TransferProcessException;
@@ -53,6 +59,7 @@ import org.eclipse.tractusx.irs.edc.client.model.TransferProcessResponse;
 import org.eclipse.tractusx.irs.edc.client.policy.PolicyCheckerService;
 import org.eclipse.tractusx.irs.edc.client.util.Masker;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
 
 /**
  * Negotiates contracts using the EDC resulting in a data transfer endpoint being sent to the IRS.
@@ -64,10 +71,13 @@ public class ContractNegotiationService {
 
     public static final String EDC_PROTOCOL = "dataspace-protocol-http";
     public static final String EVENT_TRANSFER_PROCESS_STARTED = "transfer.process.started";
+    public static final String EVENT_CONTRACT_NEGOTIATION_FINALIZED = "contract.negotiation.finalized";
     public static final String HTTP_DATA_PULL = "HttpData-PULL";
     private final EdcControlPlaneClient edcControlPlaneClient;
     private final PolicyCheckerService policyCheckerService;
     private final EdcConfiguration config;
+    private final ContractAgreementCache contractAgreementCache;
+    private final EndpointDataReferenceCacheService endpointDataReferenceCacheService;
 
     public NegotiationResponse negotiate(final String providerConnectorUrl, final CatalogItem catalogItem,
             final EndpointDataReferenceStatus endpointDataReferenceStatus, final String bpn)
@@ -90,10 +100,22 @@ public class ContractNegotiationService {
 
         switch (resultEndpointDataReferenceStatus.tokenStatus()) {
             case REQUIRED_NEW -> {
+                final ContractAgreementKey agreementKey = ContractAgreementKey.of(providerConnectorUrl, catalogItem);
+                final Optional<String> knownAgreementId = contractAgreementCache.findContractAgreementId(agreementKey);
+                if (knownAgreementId.isPresent()) {
+                    try {
+                        return reuseContractAgreement(providerConnectorUrl, catalogItem, bpn, knownAgreementId.get());
+                    } catch (TransferProcessException | RestClientException e) {
+                        log.info("Transfer process with cached contract agreement failed, negotiating a new one.", e);
+                        contractAgreementCache.remove(agreementKey);
+                    }
+                }
                 final CompletableFuture<NegotiationResponse> responseFuture = startNewNegotiation(providerConnectorUrl,
                         catalogItem, bpn);
                 negotiationResponse = Objects.requireNonNull(getNegotiationResponse(responseFuture));
                 contractAgreementId = negotiationResponse.getContractAgreementId();
+                contractAgreementCache.put(agreementKey, contractAgreementId, catalogItem.getValidUntil(),
+                        getPolicyValidUntil(catalogItem, bpn));
             }
             case EXPIRED -> {
                 contractAgreementId = resultEndpointDataReferenceStatus.endpointDataReference().getContractId();
@@ -106,6 +128,31 @@ public class ContractNegotiationService {
             default -> throw new IllegalStateException("Unknown token status.");
         }
 
+        startTransferProcess(providerConnectorUrl, catalogItem, contractAgreementId);
+
+        return negotiationResponse;
+    }
+
+    private NegotiationResponse reuseContractAgreement(final String providerConnectorUrl,
+            final CatalogItem catalogItem, final String bpn, final String contractAgreementId)
+            throws UsagePolicyPermissionException, UsagePolicyExpiredException, TransferProcessException {
+        checkPolicy(catalogItem, bpn);
+        log.info("Reusing contract agreement without new contract negotiation for contractAgreementId: {}",
+                Masker.mask(contractAgreementId));
+        // the new reference is stored under the agreement id, so a reference of an earlier transfer must not be found
+        endpointDataReferenceCacheService.removeEndpointDataReferenceFromStorage(contractAgreementId);
+        startTransferProcess(providerConnectorUrl, catalogItem, contractAgreementId);
+        return NegotiationResponse.builder().contractAgreementId(contractAgreementId).build();
+    }
+
+    private Instant getPolicyValidUntil(final CatalogItem catalogItem, final String bpn) {
+        return policyCheckerService.getValidUntil(catalogItem.getPolicy(), bpn)
+                                   .map(OffsetDateTime::toInstant)
+                                   .orElse(null);
+    }
+
+    private void startTransferProcess(final String providerConnectorUrl, final CatalogItem catalogItem,
+            final String contractAgreementId) throws TransferProcessException {
         final TransferProcessRequest transferProcessRequest = createTransferProcessRequest(providerConnectorUrl,
                 catalogItem, contractAgreementId);
 
@@ -116,8 +163,6 @@ public class ContractNegotiationService {
         final TransferProcessResponse transferProcessResponse = Objects.requireNonNull(
                 getTransferProcessResponse(transferProcessFuture));
         log.info("Transfer process completed for transferProcessId: {}", transferProcessResponse.getResponseId());
-
-        return negotiationResponse;
     }
 
     private CompletableFuture<NegotiationResponse> startNewNegotiation(final String providerConnectorUrl,
@@ -125,6 +170,18 @@ public class ContractNegotiationService {
             throws UsagePolicyPermissionException, UsagePolicyExpiredException {
         log.info("Staring new contract negotiation.");
 
+        checkPolicy(catalogItem, bpn);
+
+        final NegotiationRequest negotiationRequest = createNegotiationRequestFromCatalogItem(providerConnectorUrl,
+                catalogItem);
+        final Response negotiationId = edcControlPlaneClient.startNegotiations(negotiationRequest);
+        log.info("Fetch negotiation id: {}", negotiationId.getResponseId());
+
+        return edcControlPlaneClient.getNegotiationResult(negotiationId);
+    }
+
+    private void checkPolicy(final CatalogItem catalogItem, final String bpn)
+            throws UsagePolicyPermissionException, UsagePolicyExpiredException {
         if (!policyCheckerService.isValid(catalogItem.getPolicy(), bpn)) {
             log.warn("Policy was not allowed, canceling negotiation.");
             throw new UsagePolicyPermissionException(catalogItem.getItemId(), catalogItem.getPolicy(),
@@ -136,13 +193,6 @@ public class ContractNegotiationService {
             throw new UsagePolicyExpiredException(catalogItem.getItemId(), catalogItem.getPolicy(),
                     catalogItem.getConnectorId());
         }
-
-        final NegotiationRequest negotiationRequest = createNegotiationRequestFromCatalogItem(providerConnectorUrl,
-                catalogItem);
-        final Response negotiationId = edcControlPlaneClient.startNegotiations(negotiationRequest);
-        log.info("Fetch negotiation id: {}", negotiationId.getResponseId());
-
-        return edcControlPlaneClient.getNegotiationResult(negotiationId);
     }
 
     private TransferProcessRequest createTransferProcessRequest(final String providerConnectorUrl,
@@ -177,14 +227,24 @@ public class ContractNegotiationService {
     private NegotiationRequest createNegotiationRequestFromCatalogItem(final String providerConnectorUrl,
             final CatalogItem catalogItem) {
 
-        return NegotiationRequest.builder()
-                                 .counterPartyAddress(providerConnectorUrl)
-                                 .counterPartyId(catalogItem.getConnectorId())
-                                 .protocol(EDC_PROTOCOL)
-                                 .contractOffer(
-                                         ContractOffer.fromPolicy(catalogItem.getPolicy(), catalogItem.getOfferId(),
-                                                 catalogItem.getAssetPropId(), catalogItem.getConnectorId()))
-                                 .build();
+        final var negotiationRequestBuilder = NegotiationRequest.builder()
+                                                                .counterPartyAddress(providerConnectorUrl)
+                                                                .counterPartyId(catalogItem.getConnectorId())
+                                                                .protocol(EDC_PROTOCOL)
+                                                                .contractOffer(ContractOffer.fromPolicy(
+                                                                        catalogItem.getPolicy(),
+                                                                        catalogItem.getOfferId(),
+                                                                        catalogItem.getAssetPropId(),
+                                                                        catalogItem.getConnectorId()));
+        if (StringUtils.isNotBlank(config.getCallbackUrl())) {
+            final CallbackAddress callbackAddress = CallbackAddress.Builder.newInstance()
+                                                                           .uri(config.getCallbackUrl())
+                                                                           .events(Set.of(
+                                                                                   EVENT_CONTRACT_NEGOTIATION_FINALIZED))
+                                                                           .build();
+            negotiationRequestBuilder.callbackAddresses(List.of(callbackAddress));
+        }
+        return negotiationRequestBuilder.build();
     }
 
     private NegotiationResponse getNegotiationResponse(final CompletableFuture<NegotiationResponse> negotiationResponse)
@@ -0,0 +1,116 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.edc.client;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Connects EDC callback events to the requests waiting for them.
+ * Events may arrive before anyone waits for them, so they are kept until they are awaited
+ * or the time to live has passed.
+ * <p>
+ * All waiters share the same lifetime and are kept in insertion order, so expired waiters are evicted
+ * from the head of the maps without scanning the remaining entries.
+ */
+@Service("irsEdcClientControlPlaneCallbackRegistry")
+public class ControlPlaneCallbackRegistry {
+
+    private final Map<String, ExpiringWaiter> contractAgreementIdsByNegotiationId = new LinkedHashMap<>();
+    private final Map<String, ExpiringWaiter> startedTransferProcesses = new LinkedHashMap<>();
+    private final Duration timeToLive;
+
+    public ControlPlaneCallbackRegistry(
+            @Value("${irs-edc-client.controlplane.request-ttl}") final Duration timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * @param negotiationId the id of the contract negotiation
+     * @return a future completing with the contract agreement id once the negotiation is finalized
+     */
+    public CompletableFuture<String> awaitContractAgreementId(final String negotiationId) {
+        return await(contractAgreementIdsByNegotiationId, negotiationId);
+    }
+
+    public void contractNegotiationFinalized(final String negotiationId, final String contractAgreementId) {
+        complete(contractAgreementIdsByNegotiationId, negotiationId, contractAgreementId);
+    }
+
+    /**
+     * @param transferProcessId the id of the transfer process
+     * @return a future completing with the transfer process id once the transfer process is started
+     */
+    public CompletableFuture<String> awaitTransferProcessStarted(final String transferProcessId) {
+        return await(startedTransferProcesses, transferProcessId);
+    }
+
+    public void transferProcessStarted(final String transferProcessId) {
+        complete(startedTransferProcesses, transferProcessId, transferProcessId);
+    }
+
+    private CompletableFuture<String> await(final Map<String, ExpiringWaiter> waiters, final String id) {
+        final CompletableFuture<String> future;
+        synchronized (this) {
+            evictExpired(waiters);
+            future = waiters.computeIfAbsent(id, key -> new ExpiringWaiter()).getFuture();
+            if (future.isDone()) {
+                waiters.remove(id);
+            }
+        }
+        return future.copy();
+    }
+
+    private void complete(final Map<String, ExpiringWaiter> waiters, final String id, final String value) {
+        final CompletableFuture<String> future;
+        synchronized (this) {
+            evictExpired(waiters);
+            future = waiters.computeIfAbsent(id, key -> new ExpiringWaiter()).getFuture();
+        }
+        future.complete(value);
+    }
+
+    /**
+     * Evicts expired waiters from the head of the map. Stops at the first waiter which is still valid,
+     * since all later waiters are younger.
+     */
+    private void evictExpired(final Map<String, ExpiringWaiter> waiters) {
+        final Instant expiredBefore = Instant.now().minus(timeToLive);
+        final Iterator<ExpiringWaiter> eldestFirst = waiters.values().iterator();
+        while (eldestFirst.hasNext() && eldestFirst.next().getCreationTimestamp().isBefore(expiredBefore)) {
+            eldestFirst.remove();
+        }
+    }
+
+    /**
+     * Holds a future with its creation date.
+     */
+    @lombok.Value
+    private static final class ExpiringWaiter {
+        private final Instant creationTimestamp = Instant.now();
+        private final CompletableFuture<String> future = new CompletableFuture<>();
+    }
+}
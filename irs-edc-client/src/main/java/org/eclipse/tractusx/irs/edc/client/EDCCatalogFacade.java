@@ -27,11 +27,18 @@ import static java.util.stream.Collectors.toSet;
 import static org.apache.commons.collections4.ListUtils.emptyIfNull;
 import static org.eclipse.tractusx.irs.edc.client.configuration.JsonLdConfiguration.NAMESPACE_EDC_ID;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -46,6 +53,8 @@ import org.springframework.stereotype.Component;
 /**
  * EDC Catalog facade which handles pagination of the catalog, aggregation of contract offers
  * and transformation into {@link CatalogItem}.
+ * Filtered catalog responses are cached for a limited time, empty responses for a shorter time.
+ * Once the cache is full, the least recently used response is evicted.
  */
 @Component("irsEdcClientEdcCatalogFacade")
 @RequiredArgsConstructor
@@ -55,6 +64,14 @@ public class EDCCatalogFacade {
     public static final String NAMESPACE_DSPACE_PARTICIPANT_ID = "https://w3id.org/dspace/v0.8/participantId";
     private final EdcControlPlaneClient controlPlaneClient;
     private final EdcConfiguration config;
+    private final Map<CatalogCacheKey, CachedCatalog> catalogCache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<CatalogCacheKey, CachedCatalog> eldest) {
+            return size() > config.getControlplane().getCatalogCache().getMaxSize();
+        }
+    };
+    private final Map<CatalogSnapshotKey, CompletableFuture<CatalogSnapshot>> catalogSnapshots =
+            new ConcurrentHashMap<>();
 
     private static CatalogItem createCatalogItem(final Catalog pageableCatalog, final Dataset dataset) {
         final int maxNumberOfOffers = 1;
@@ -171,8 +188,125 @@ public class EDCCatalogFacade {
     @SuppressWarnings("PMD.UseObjectForClearerAPI") // TODO (ds-jhartmann) see https://github.com/eclipse-tractusx/item-relationship-service/issues/547
     public List<CatalogItem> fetchCatalogByFilter(final String connectorUrl, final String key, final String value,
             final String bpn) {
+        final CatalogCacheKey cacheKey = new CatalogCacheKey(connectorUrl, key, value, bpn);
+        final CachedCatalog cachedCatalog;
+        synchronized (catalogCache) {
+            cachedCatalog = catalogCache.get(cacheKey);
+        }
+        if (cachedCatalog != null && cachedCatalog.isValid(Instant.now())) {
+            log.debug("Using cached catalog of connector {} for filter {}={}", connectorUrl, key, value);
+            return cachedCatalog.items();
+        }
+
         final Catalog catalog = controlPlaneClient.getCatalogWithFilter(connectorUrl, key, value, bpn);
-        return mapToCatalogItems(catalog);
+        final List<CatalogItem> catalogItems = mapToCatalogItems(catalog);
+        cache(cacheKey, catalogItems);
+        return catalogItems;
+    }
+
+    /**
+     * Fetches the catalog items offering the given asset. The whole catalog of the connector is fetched once and
+     * shared by the lookups of all its assets while it is valid, turning one catalog request per asset into one
+     * paginated request per connector. Assets missing from the prefetched catalog, e.g. because of the catalog
+     * limit, are requested with a filter. Without a catalog cache TTL, the catalog would be fetched completely for
+     * every lookup, so all assets are requested with a filter then.
+     *
+     * @param connectorUrl The EDC Connector from which the Catalog will be requested
+     * @param assetId      The ID of the asset to find the offers for
+     * @param bpn          The BPN of the company to which the EDC Connector belongs
+     * @return The list of catalog items offering the asset
+     */
+    public List<CatalogItem> fetchCatalogItemsForAsset(final String connectorUrl, final String assetId,
+            final String bpn) {
+        final Duration ttl = config.getControlplane().getCatalogCache().getTtl();
+        if (ttl.isZero() || ttl.isNegative()) {
+            return fetchCatalogByFilter(connectorUrl, NAMESPACE_EDC_ID, assetId, bpn);
+        }
+        final List<CatalogItem> prefetchedItems = getCatalogSnapshot(connectorUrl, bpn).get(assetId);
+        if (prefetchedItems != null) {
+            return prefetchedItems;
+        }
+        return fetchCatalogByFilter(connectorUrl, NAMESPACE_EDC_ID, assetId, bpn);
+    }
+
+    /**
+     * Removes all cached catalog responses of the connector for the given BPN,
+     * e.g. because a negotiation for one of its offers failed.
+     *
+     * @param connectorUrl The EDC Connector from which the Catalog was requested
+     * @param bpn          The BPN of the company to which the EDC Connector belongs
+     */
+    public void invalidateCatalog(final String connectorUrl, final String bpn) {
+        synchronized (catalogCache) {
+            catalogCache.keySet()
+                        .removeIf(cacheKey -> Objects.equals(cacheKey.connectorUrl(), connectorUrl)
+                                && Objects.equals(cacheKey.bpn(), bpn));
+        }
+        catalogSnapshots.remove(new CatalogSnapshotKey(connectorUrl, bpn));
+    }
+
+    private Map<String, List<CatalogItem>> getCatalogSnapshot(final String connectorUrl, final String bpn) {
+        final CatalogSnapshotKey snapshotKey = new CatalogSnapshotKey(connectorUrl, bpn);
+        final CompletableFuture<CatalogSnapshot> newSnapshot = new CompletableFuture<>();
+        final CompletableFuture<CatalogSnapshot> snapshot = catalogSnapshots.compute(snapshotKey,
+                (key, current) -> current == null || isOutdated(current) ? newSnapshot : current);
+
+        if (snapshot == newSnapshot) {
+            try {
+                newSnapshot.complete(fetchCatalogSnapshot(connectorUrl, bpn));
+            } catch (RuntimeException e) {
+                log.warn("Could not prefetch catalog of connector {}", connectorUrl, e);
+                catalogSnapshots.remove(snapshotKey, newSnapshot);
+                newSnapshot.complete(new CatalogSnapshot(Map.of(), Instant.now()));
+            }
+        }
+
+        return snapshot.join().itemsByAssetId();
+    }
+
+    private static boolean isOutdated(final CompletableFuture<CatalogSnapshot> snapshot) {
+        return snapshot.isDone() && !snapshot.join().isValid(Instant.now());
+    }
+
+    private CatalogSnapshot fetchCatalogSnapshot(final String connectorUrl, final String bpn) {
+        final int pageSize = config.getControlplane().getCatalogPageSize();
+        final int limit = config.getControlplane().getCatalogLimit();
+        final Map<String, List<CatalogItem>> itemsByAssetId = new HashMap<>();
+
+        log.info("Prefetching catalog of connector {}", connectorUrl);
+        Set<String> previousAssetIds = Set.of();
+        int offset = 0;
+        boolean hasNextPage = true;
+        while (hasNextPage) {
+            final List<CatalogItem> pageItems = mapToCatalogItems(
+                    controlPlaneClient.getCatalog(connectorUrl, offset, bpn));
+            final Set<String> assetIds = pageItems.stream().map(CatalogItem::getAssetPropId).collect(toSet());
+            if (assetIds.equals(previousAssetIds)) {
+                // the connector does not support pagination and returned the same page again
+                break;
+            }
+            pageItems.forEach(item -> itemsByAssetId.computeIfAbsent(item.getAssetPropId(), id -> new ArrayList<>())
+                                                    .add(item));
+            previousAssetIds = assetIds;
+            offset += pageSize;
+            hasNextPage = pageSize > 0 && pageItems.size() >= pageSize && offset < limit;
+        }
+
+        final Duration ttl = config.getControlplane().getCatalogCache().getTtl();
+        return new CatalogSnapshot(Map.copyOf(itemsByAssetId), Instant.now().plus(ttl));
+    }
+
+    private void cache(final CatalogCacheKey cacheKey, final List<CatalogItem> catalogItems) {
+        final EdcConfiguration.ControlplaneConfig.CatalogCacheConfig cacheConfig = config.getControlplane()
+                                                                                        .getCatalogCache();
+        final Duration ttl = catalogItems.isEmpty() ? cacheConfig.getEmptyTtl() : cacheConfig.getTtl();
+        if (ttl.isZero() || ttl.isNegative() || cacheConfig.getMaxSize() <= 0) {
+            return;
+        }
+
+        synchronized (catalogCache) {
+            catalogCache.put(cacheKey, new CachedCatalog(catalogItems, Instant.now().plus(ttl)));
+        }
     }
 
     private Optional<Dataset> findOfferIfExist(final String target, final Catalog catalog) {
@@ -190,4 +324,24 @@ public class EDCCatalogFacade {
                                                                                     .collect(toSet());
         return previousOffers.equals(nextOffers);
     }
+
+    private record CatalogCacheKey(String connectorUrl, String key, String value, String bpn) {
+    }
+
+    private record CatalogSnapshotKey(String connectorUrl, String bpn) {
+    }
+
+    private record CatalogSnapshot(Map<String, List<CatalogItem>> itemsByAssetId, Instant validUntil) {
+
+        private boolean isValid(final Instant now) {
+            return now.isBefore(validUntil);
+        }
+    }
+
+    private record CachedCatalog(List<CatalogItem> items, Instant validUntil) {
+
+        private boolean isValid(final Instant now) {
+            return now.isBefore(validUntil);
+        }
+    }
 }
@@ -33,6 +33,7 @@ import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
 import org.eclipse.tractusx.irs.data.JsonParseException;
 import org.eclipse.tractusx.irs.data.StringMapper;
 import org.eclipse.tractusx.irs.edc.client.exceptions.EdcClientException;
+import org.eclipse.tractusx.irs.edc.client.model.ContractNegotiationCallback;
 import org.eclipse.tractusx.irs.edc.client.model.edr.DataAddress;
 import org.eclipse.tractusx.irs.edc.client.model.edr.EndpointDataReferenceCallback;
 import org.eclipse.tractusx.irs.edc.client.model.edr.Properties;
@@ -45,7 +46,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
- * Endpoint used by the EDC ControlPlane to provide the endpoint data reference.
+ * Endpoint used by the EDC ControlPlane to provide the endpoint data reference
+ * and to notify about finalized contract negotiations.
  */
 @Slf4j
 @RestController("irsEdcClientEdcCallbackController")
@@ -55,32 +57,65 @@ import org.springframework.web.bind.annotation.RestController;
 public class EdcCallbackController {
 
     private final EndpointDataReferenceStorage storage;
+    private final ControlPlaneCallbackRegistry callbackRegistry;
 
     @PostMapping
     public void receiveEdcCallback(final @RequestBody String endpointDataReferenceCallback) {
-        final EndpointDataReference endpointDataReference;
-
         try {
-            endpointDataReference = mapToEndpointDataReference(endpointDataReferenceCallback);
-
-            log.debug("Received EndpointDataReference: {}", StringMapper.mapToString(endpointDataReference));
-            log.debug("Received EndpointDataReference with ID {} and endpoint {}", endpointDataReference.getId(),
-                    endpointDataReference.getEndpoint());
+            final EndpointDataReferenceCallback callback = mapFromString(endpointDataReferenceCallback,
+                    EndpointDataReferenceCallback.class);
 
-            final String contractId = endpointDataReference.getContractId();
-            storeEdr(contractId, endpointDataReference);
+            if (ContractNegotiationCallback.TYPE_FINALIZED.equals(callback.getType())) {
+                receiveContractNegotiationFinalized(
+                        mapFromString(endpointDataReferenceCallback, ContractNegotiationCallback.class));
+            } else {
+                receiveEndpointDataReference(callback);
+            }
         } catch (EdcClientException e) {
             log.error("Could not deserialize Endpoint Data Reference {}", endpointDataReferenceCallback);
         }
     }
 
-    private static EndpointDataReference mapToEndpointDataReference(final String endpointDataReference)
+    private void receiveEndpointDataReference(final EndpointDataReferenceCallback callback)
             throws EdcClientException {
+        final EndpointDataReference endpointDataReference = mapToEndpointDataReference(callback);
+
+        log.debug("Received EndpointDataReference: {}", StringMapper.mapToString(endpointDataReference));
+        log.debug("Received EndpointDataReference with ID {} and endpoint {}", endpointDataReference.getId(),
+                endpointDataReference.getEndpoint());
+
+        final String contractId = endpointDataReference.getContractId();
+        storeEdr(contractId, endpointDataReference);
+        Optional.ofNullable(callback.getPayload().transferProcessId())
+                .ifPresent(callbackRegistry::transferProcessStarted);
+    }
+
+    private void receiveContractNegotiationFinalized(final ContractNegotiationCallback callback)
+            throws EdcClientException {
+        try {
+            final var payload = Optional.ofNullable(callback.getPayload()).orElseThrow();
+            final var contractAgreement = Optional.ofNullable(payload.contractAgreement()).orElseThrow();
+
+            callbackRegistry.contractNegotiationFinalized(payload.contractNegotiationId(), contractAgreement.id());
+            log.info("Contract negotiation finalized for agreement: {}", Masker.mask(contractAgreement.id()));
+        } catch (NoSuchElementException e) {
+            throw new EdcClientException(e);
+        }
+    }
+
+    private static <T> T mapFromString(final String callback, final Class<T> type) throws EdcClientException {
+        try {
+            return StringMapper.mapFromString(callback, type);
+        } catch (JsonParseException e) {
+            throw new EdcClientException(e);
+        }
+    }
+
+    private static EndpointDataReference mapToEndpointDataReference(
+            final EndpointDataReferenceCallback endpointDataReferenceCallback) throws EdcClientException {
         final EndpointDataReference dataReference;
 
         try {
-            final EndpointDataReferenceCallback endpointDataReferenceCallback = StringMapper.mapFromString(
-                    endpointDataReference, EndpointDataReferenceCallback.class);
             final TransferProcessCallbackPayload payload = Optional.ofNullable(
                     endpointDataReferenceCallback.getPayload()).orElseThrow();
             final DataAddress dataAddress = Optional.ofNullable(payload.dataAddress()).orElseThrow();
@@ -94,7 +129,7 @@ public class EdcCallbackController {
                                                          .endpoint(properties.endpoint())
                                                          .build();
             return dataReference;
-        } catch (JsonParseException | NoSuchElementException e) {
+        } catch (NoSuchElementException e) {
             throw new EdcClientException(e);
         }
     }
@@ -39,6 +39,14 @@ import org.springframework.context.annotation.Configuration;
 public class EdcConfiguration {
 
     private static final int ASYNC_TIMEOUT_MINUTES_DEFAULT = 10;
+    private static final int DEFAULT_FALLBACK_POLL_INTERVAL_SECONDS = 5;
+    private static final int DEFAULT_STATE_POLL_INTERVAL_MILLIS = 100;
+    private static final int DEFAULT_MAX_STATE_POLL_INTERVAL_SECONDS = 5;
+    private static final int DEFAULT_REFRESH_LEAD_TIME_SECONDS = 30;
+    private static final int DEFAULT_REFRESH_MIN_USAGES = 2;
+    private static final int DEFAULT_CATALOG_CACHE_TTL_MINUTES = 5;
+    private static final int DEFAULT_CATALOG_CACHE_EMPTY_TTL_SECONDS = 30;
+    private static final int DEFAULT_CATALOG_CACHE_MAX_SIZE = 10_000;
 
     private ControlplaneConfig controlplane = new ControlplaneConfig();
     private SubmodelConfig submodel = new SubmodelConfig();
@@ -66,8 +74,16 @@ public class EdcConfiguration {
 
         private Duration requestTtl;
 
+        private Duration statePollInterval = Duration.ofMillis(DEFAULT_STATE_POLL_INTERVAL_MILLIS);
+
+        private Duration maxStatePollInterval = Duration.ofSeconds(DEFAULT_MAX_STATE_POLL_INTERVAL_SECONDS);
+
         private ApiKeyConfig apiKey = new ApiKeyConfig();
 
+        private DataReferenceConfig datareference = new DataReferenceConfig();
+
+        private CatalogCacheConfig catalogCache = new CatalogCacheConfig();
+
         /**
          * Container for controlplane endpoint config
          */
@@ -94,6 +110,32 @@ public class EdcConfiguration {
             private String secret;
 
         }
+
+        @Data
+        public static class DataReferenceConfig {
+            private Duration fallbackPollInterval = Duration.ofSeconds(DEFAULT_FALLBACK_POLL_INTERVAL_SECONDS);
+
+            private Duration refreshLeadTime = Duration.ofSeconds(DEFAULT_REFRESH_LEAD_TIME_SECONDS);
+
+            private int refreshMinUsages = DEFAULT_REFRESH_MIN_USAGES;
+
+            private Duration refreshCheckInterval = Duration.ofSeconds(1);
+
+        }
+
+        /**
+         * Container for catalog cache config
+         */
+        @Data
+        public static class CatalogCacheConfig {
+            private Duration ttl = Duration.ofMinutes(DEFAULT_CATALOG_CACHE_TTL_MINUTES);
+
+            private Duration emptyTtl = Duration.ofSeconds(DEFAULT_CATALOG_CACHE_EMPTY_TTL_SECONDS);
+
+            private int maxSize = DEFAULT_CATALOG_CACHE_MAX_SIZE;
+
+            private boolean prefetch;
+        }
     }
 
     /**
@@ -27,6 +27,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.edc.catalog.spi.Catalog;
@@ -68,14 +69,16 @@ public class EdcControlPlaneClient {
     private final AsyncPollingService pollingService;
     private final EdcConfiguration config;
     private final EdcTransformer edcTransformer;
+    private final ControlPlaneCallbackRegistry callbackRegistry;
 
     public EdcControlPlaneClient(@Qualifier("edcClientRestTemplate") final RestTemplate edcRestTemplate,
             final AsyncPollingService pollingService, final EdcConfiguration config,
-            final EdcTransformer edcTransformer) {
+            final EdcTransformer edcTransformer, final ControlPlaneCallbackRegistry callbackRegistry) {
         this.edcRestTemplate = edcRestTemplate;
         this.pollingService = pollingService;
         this.config = config;
         this.edcTransformer = edcTransformer;
+        this.callbackRegistry = callbackRegistry;
     }
 
     private static String getResponseBody(final ResponseEntity<String> response) {
@@ -144,35 +147,49 @@ public class EdcControlPlaneClient {
     /* package */ CompletableFuture<NegotiationResponse> getNegotiationResult(final Response negotiationId) {
         final HttpEntity<Object> objectHttpEntity = new HttpEntity<>(null, headers());
 
-        return pollingService.<NegotiationResponse>createJob()
-                             .action(() -> {
-                                 log.info("Check negotiations status");
-                                 final NegotiationState negotiationState = getContractNegotiationState(negotiationId,
-                                         objectHttpEntity);
-                                 log.info("Response status of negotiation: {}", negotiationState);
-
-                                 if (negotiationState != null) {
-                                     return switch (negotiationState.getState()) {
-                                         case STATUS_FINALIZED -> Optional.of(
-                                                 getContractNegotiationResponse(negotiationId, objectHttpEntity));
-                                         case STATUS_ERROR -> throw new IllegalStateException(
-                                                 "NegotiationResponse with id " + getContractNegotiationResponse(
-                                                         negotiationId, objectHttpEntity).getResponseId()
-                                                         + " is in state ERROR");
-                                         case STATUS_TERMINATED -> throw new IllegalStateException(
-                                                 "NegotiationResponse with id " + getContractNegotiationResponse(
-                                                         negotiationId, objectHttpEntity).getResponseId()
-                                                         + " is in state TERMINATED");
-                                         default -> Optional.empty();
-                                     };
-                                 }
-                                 return Optional.empty();
-                             })
-                             .description("wait for negotiation confirmation")
-                             .timeToLive(config.getControlplane().getRequestTtl())
+        final CompletableFuture<NegotiationResponse> negotiationResult = pollState(
+                () -> checkNegotiationState(negotiationId, objectHttpEntity), "wait for negotiation confirmation");
+
+        callbackRegistry.awaitContractAgreementId(negotiationId.getResponseId()).thenAccept(contractAgreementId -> {
+            log.info("Negotiation {} finalized by callback", negotiationId.getResponseId());
+            negotiationResult.complete(NegotiationResponse.builder()
+                                                          .responseId(negotiationId.getResponseId())
+                                                          .contractAgreementId(contractAgreementId)
+                                                          .state(STATUS_FINALIZED)
+                                                          .build());
+        });
+        return negotiationResult;
+    }
+
+    private Optional<NegotiationResponse> checkNegotiationState(final Response negotiationId,
+            final HttpEntity<Object> objectHttpEntity) {
+        log.info("Check negotiations status");
+        final NegotiationState negotiationState = getContractNegotiationState(negotiationId, objectHttpEntity);
+        log.info("Response status of negotiation: {}", negotiationState);
+
+        if (negotiationState != null) {
+            return switch (negotiationState.getState()) {
+                case STATUS_FINALIZED -> Optional.of(getContractNegotiationResponse(negotiationId, objectHttpEntity));
+                case STATUS_ERROR -> throw new IllegalStateException(
+                        "NegotiationResponse with id " + negotiationId.getResponseId() + " is in state ERROR");
+                case STATUS_TERMINATED -> throw new IllegalStateException(
+                        "NegotiationResponse with id " + negotiationId.getResponseId() + " is in state TERMINATED");
+                default -> Optional.empty();
+            };
+        }
+        return Optional.empty();
+    }
+
+    private <T> CompletableFuture<T> pollState(final Supplier<Optional<T>> action, final String description) {
+        final var controlplane = config.getControlplane();
+        return pollingService.<T>createJob()
+                             .action(action)
+                             .description(description)
+                             .timeToLive(controlplane.getRequestTtl())
+                             .pollInterval(controlplane.getStatePollInterval())
+                             .maxPollInterval(controlplane.getMaxStatePollInterval())
                              .build()
                              .schedule();
-
     }
 
     private NegotiationState getContractNegotiationState(final Response negotiationId,
@@ -204,36 +221,38 @@ public class EdcControlPlaneClient {
 
         final HttpEntity<Object> objectHttpEntity = new HttpEntity<>(null, headers());
 
-        return pollingService.<TransferProcessResponse>createJob()
-                             .action(() -> {
-                                 log.info("Check Transfer Process status");
-                                 final NegotiationState transferProcessState = getTransferProcessState(
-                                         transferProcessId, objectHttpEntity);
-                                 log.info("Response status of Transfer Process: {}", transferProcessState);
-
-                                 if (transferProcessState != null) {
-                                     return switch (transferProcessState.getState()) {
-                                         case STATUS_COMPLETED, STATUS_STARTED -> Optional.of(
-                                                 getTransferProcessResponse(transferProcessId, objectHttpEntity));
-                                         case STATUS_ERROR -> throw new IllegalStateException(
-                                                 "TransferProcessResponse with id " + getTransferProcessResponse(
-                                                         transferProcessId, objectHttpEntity).getResponseId()
-                                                         + " is in state ERROR");
-                                         case STATUS_TERMINATED -> throw new IllegalStateException(
-                                                 "TransferProcessResponse with id " + getTransferProcessResponse(
-                                                         transferProcessId, objectHttpEntity).getResponseId()
-                                                         + " is in state TERMINATED");
-                                         default -> Optional.empty();
-                                     };
-                                 }
-                                 return Optional.empty();
-
-                             })
-                             .description("wait for transfer process completion")
-                             .timeToLive(config.getControlplane().getRequestTtl())
-                             .build()
-                             .schedule();
+        final CompletableFuture<TransferProcessResponse> transferProcess = pollState(
+                () -> checkTransferProcessState(transferProcessId, objectHttpEntity),
+                "wait for transfer process completion");
 
+        callbackRegistry.awaitTransferProcessStarted(transferProcessId.getResponseId()).thenAccept(id -> {
+            log.info("Transfer Process {} started by callback", id);
+            transferProcess.complete(TransferProcessResponse.builder().responseId(id).state(STATUS_STARTED).build());
+        });
+        return transferProcess;
+    }
+
+    private Optional<TransferProcessResponse> checkTransferProcessState(final Response transferProcessId,
+            final HttpEntity<Object> objectHttpEntity) {
+        log.info("Check Transfer Process status");
+        final NegotiationState transferProcessState = getTransferProcessState(transferProcessId, objectHttpEntity);
+        log.info("Response status of Transfer Process: {}", transferProcessState);
+
+        if (transferProcessState != null) {
+            final String id = transferProcessId.getResponseId();
+            final String state = transferProcessState.getState();
+            // the state is all we need to know about the transfer process, so the full resource is not requested
+            return switch (state) {
+                case STATUS_COMPLETED, STATUS_STARTED ->
+                        Optional.of(TransferProcessResponse.builder().responseId(id).state(state).build());
+                case STATUS_ERROR -> throw new IllegalStateException(
+                        "TransferProcessResponse with id " + id + " is in state ERROR");
+                case STATUS_TERMINATED -> throw new IllegalStateException(
+                        "TransferProcessResponse with id " + id + " is in state TERMINATED");
+                default -> Optional.empty();
+            };
+        }
+        return Optional.empty();
     }
 
     private NegotiationState getTransferProcessState(final Response transferProcessId,
@@ -245,13 +264,6 @@ public class EdcControlPlaneClient {
         return edcRestTemplate.exchange(url, HttpMethod.GET, objectHttpEntity, NegotiationState.class).getBody();
     }
 
-    private TransferProcessResponse getTransferProcessResponse(final Response transferProcessId,
-            final HttpEntity<Object> objectHttpEntity) {
-        final var endpoint = config.getControlplane().getEndpoint();
-        final String url = endpoint.getData() + endpoint.getTransferProcess() + "/" + transferProcessId.getResponseId();
-        return edcRestTemplate.exchange(url, HttpMethod.GET, objectHttpEntity, TransferProcessResponse.class).getBody();
-    }
-
     private HttpHeaders headers() {
         final HttpHeaders headers = new HttpHeaders();
         headers.setAccept(List.of(MediaType.APPLICATION_JSON));
@@ -23,10 +23,14 @@
  ********************************************************************************/
 package org.eclipse.tractusx.irs.edc.client;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Optional;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
 import org.eclipse.tractusx.irs.data.StringMapper;
@@ -49,7 +53,8 @@ import org.springframework.web.client.RestTemplate;
 @Service("irsEdcClientEdcDataPlaneClient")
 public class EdcDataPlaneClient {
 
-    private static final Pattern RESPONSE_PATTERN = Pattern.compile("\\{\"data\":\"(?<embeddedData>.*)\"\\}");
+    private static final String EMBEDDED_DATA_FIELD = "data";
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
     private final RestTemplate edcRestTemplate;
 
     public EdcDataPlaneClient(@Qualifier("edcClientRestTemplate") final RestTemplate edcRestTemplate) {
@@ -57,8 +62,8 @@ public class EdcDataPlaneClient {
     }
 
     public String getData(final EndpointDataReference dataReference, final String submodelDataplaneUrl) {
-        final String response = edcRestTemplate.exchange(submodelDataplaneUrl, HttpMethod.GET,
-                new HttpEntity<>(null, headers(dataReference)), String.class).getBody();
+        final byte[] response = edcRestTemplate.exchange(submodelDataplaneUrl, HttpMethod.GET,
+                new HttpEntity<>(null, headers(dataReference)), byte[].class).getBody();
 
         log.info("Extracting raw embeddedData from EDC data plane response");
         return extractEmbeddedData(response);
@@ -87,14 +92,57 @@ public class EdcDataPlaneClient {
         return headers;
     }
 
-    private String extractEmbeddedData(final String response) {
-        String modifiedResponse = response;
-        Matcher dataMatcher = RESPONSE_PATTERN.matcher(modifiedResponse);
-        while (dataMatcher.matches()) {
-            modifiedResponse = dataMatcher.group("embeddedData");
-            modifiedResponse = modifiedResponse.replace("\\\"", "\"").replace("\\\\", "\\");
-            dataMatcher = RESPONSE_PATTERN.matcher(response);
+    /**
+     * Unwraps the payload from {"data": "..."} envelopes. The envelope is detected while streaming through the
+     * first tokens of the response, so payloads without an envelope are not scanned at all and the embedded data
+     * is unescaped by the parser in a single pass.
+     *
+     * @param response the raw data plane response
+     * @return the embedded data, or the response itself if it is not wrapped in an envelope
+     */
+    /* package */ static String extractEmbeddedData(final byte[] response) {
+        Optional<String> embeddedData = unwrapEnvelope(response);
+        if (embeddedData.isEmpty()) {
+            return new String(response, StandardCharsets.UTF_8);
         }
-        return modifiedResponse;
+
+        String data = embeddedData.get();
+        embeddedData = unwrapEnvelope(data);
+        while (embeddedData.isPresent()) {
+            data = embeddedData.get();
+            embeddedData = unwrapEnvelope(data);
+        }
+        return data;
+    }
+
+    private static Optional<String> unwrapEnvelope(final byte[] response) {
+        try (JsonParser parser = JSON_FACTORY.createParser(response)) {
+            return unwrapEnvelope(parser);
+        } catch (IOException e) {
+            // not a JSON document, hence no envelope
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<String> unwrapEnvelope(final String response) {
+        try (JsonParser parser = JSON_FACTORY.createParser(response)) {
+            return unwrapEnvelope(parser);
+        } catch (IOException e) {
+            // not a JSON document, hence no envelope
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<String> unwrapEnvelope(final JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT || parser.nextToken() != JsonToken.FIELD_NAME
+                || !EMBEDDED_DATA_FIELD.equals(parser.currentName())
+                || parser.nextToken() != JsonToken.VALUE_STRING) {
+            return Optional.empty();
+        }
+        final String embeddedData = parser.getText();
+        if (parser.nextToken() != JsonToken.END_OBJECT || parser.nextToken() != null) {
+            return Optional.empty();
+        }
+        return Optional.of(embeddedData);
     }
 }
@@ -29,18 +29,23 @@ import static org.eclipse.tractusx.irs.edc.client.configuration.JsonLdConfigurat
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 
 import io.github.resilience4j.retry.Retry;
 import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.validator.routines.UrlValidator;
 import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
 import org.eclipse.tractusx.irs.edc.client.cache.endpointdatareference.EndpointDataReferenceCacheService;
+import org.eclipse.tractusx.irs.edc.client.cache.endpointdatareference.EndpointDataReferenceRefresher;
 import org.eclipse.tractusx.irs.edc.client.cache.endpointdatareference.EndpointDataReferenceStatus;
 import org.eclipse.tractusx.irs.edc.client.configuration.JsonLdConfiguration;
 import org.eclipse.tractusx.irs.edc.client.exceptions.ContractNegotiationException;
@@ -74,6 +79,10 @@ public class EdcSubmodelClientImpl implements EdcSubmodelClient {
             JsonLdConfiguration.NAMESPACE_CX_TAXONOMY + "DigitalTwinRegistry";
     private static final String DT_EDC_TYPE = JsonLdConfiguration.NAMESPACE_EDC + "type";
     private static final String DT_DATA_CORE_REGISTRY = "data.core.digitalTwinRegistry";
+    private static final String METRIC_NEGOTIATIONS = "edc.negotiations";
+    private static final String TAG_TYPE = "type";
+    private static final String METRIC_EDR_LOOKUPS = "edc.edr.lookups";
+    private static final String TAG_STATUS = "status";
 
     private final EdcConfiguration config;
     private final ContractNegotiationService contractNegotiationService;
@@ -82,7 +91,11 @@ public class EdcSubmodelClientImpl implements EdcSubmodelClient {
     private final RetryRegistry retryRegistry;
     private final EDCCatalogFacade catalogFacade;
     private final EndpointDataReferenceCacheService endpointDataReferenceCacheService;
+    private final MeterRegistry meterRegistry;
+    private final EndpointDataReferenceRefresher endpointDataReferenceRefresher;
     private final UrlValidator urlValidator = new UrlValidator(UrlValidator.ALLOW_LOCAL_URLS);
+    private final Map<NegotiationKey, CompletableFuture<EndpointDataReference>> inFlightNegotiations =
+            new ConcurrentHashMap<>();
 
     private static void stopWatchOnEdcTask(final StopWatch stopWatch) {
         stopWatch.stop();
@@ -115,21 +128,36 @@ public class EdcSubmodelClientImpl implements EdcSubmodelClient {
         return Optional.empty();
     }
 
-    private Optional<EndpointDataReference> retrieveEndpointReference(final String storageId,
+    /**
+     * Waits for the endpoint data reference to be stored by the EDC callback.
+     * The storage is additionally polled in a larger interval as a fallback.
+     */
+    private CompletableFuture<EndpointDataReference> awaitEndpointReference(final String storageId,
             final StopWatch stopWatch) {
 
-        log.info("Retrieving dataReference from storage for storageId (assetId or contractAgreementId): {}",
+        log.info("Awaiting dataReference in storage for storageId (assetId or contractAgreementId): {}",
                 Masker.mask(storageId));
-        final var dataReference = endpointDataReferenceCacheService.getEndpointDataReferenceFromStorage(storageId);
-
-        if (dataReference.isPresent()) {
-            final EndpointDataReference ref = dataReference.get();
+        final var endpointReference = pollingService.<EndpointDataReference>createJob()
+                                                    .action(() -> retrieveEndpointReference(storageId))
+                                                    .timeToLive(config.getSubmodel().getRequestTtl())
+                                                    .pollInterval(config.getControlplane()
+                                                                        .getDatareference()
+                                                                        .getFallbackPollInterval())
+                                                    .description("waiting for Endpoint Reference retrieval")
+                                                    .build()
+                                                    .schedule();
+        endpointDataReferenceCacheService.awaitEndpointDataReferenceInStorage(storageId)
+                                         .thenAccept(endpointReference::complete);
+
+        endpointReference.thenAccept(ref -> {
             log.info("Retrieving Endpoint Reference data from EDC data plane with id: {}", ref.getId());
             stopWatchOnEdcTask(stopWatch);
-            return Optional.of(ref);
-        }
+        });
+        return endpointReference;
+    }
 
-        return Optional.empty();
+    private Optional<EndpointDataReference> retrieveEndpointReference(final String storageId) {
+        return endpointDataReferenceCacheService.getEndpointDataReferenceFromStorage(storageId);
     }
 
     private Optional<EdcNotificationResponse> sendSubmodelNotification(final String assetId,
@@ -175,6 +203,8 @@ public class EdcSubmodelClientImpl implements EdcSubmodelClient {
 
         log.info("Retrieving endpoint data reference from cache for asset id: {}", assetId);
         final var cachedReference = endpointDataReferenceCacheService.getEndpointDataReference(assetId);
+        meterRegistry.counter(METRIC_EDR_LOOKUPS, TAG_STATUS,
+                cachedReference.tokenStatus().name().toLowerCase(Locale.ROOT)).increment();
 
         if (cachedReference.tokenStatus() == TokenStatus.VALID) {
             log.info("Endpoint data reference found in cache with token status valid, reusing cache record.");
@@ -183,12 +213,82 @@ public class EdcSubmodelClientImpl implements EdcSubmodelClient {
             result = getEndpointDataReferenceAndAddToStorage(connectorEndpoint, assetId, cachedReference, bpn);
         }
 
+        endpointDataReferenceRefresher.recordUsage(assetId, result,
+                () -> refreshEndpointDataReference(connectorEndpoint, assetId, bpn));
         return result;
     }
 
+    /**
+     * Renews the endpoint data reference of the asset before its token expires. Requests in the meantime
+     * are still served with the stored reference.
+     */
+    private void refreshEndpointDataReference(final String connectorEndpoint, final String assetId,
+            final String bpn) throws EdcClientException {
+        final EndpointDataReference storedReference = endpointDataReferenceCacheService.getEndpointDataReference(
+                assetId).endpointDataReference();
+        final TokenStatus tokenStatus = storedReference == null ? TokenStatus.REQUIRED_NEW : TokenStatus.EXPIRED;
+        getEndpointDataReferenceAndAddToStorage(connectorEndpoint, assetId,
+                new EndpointDataReferenceStatus(storedReference, tokenStatus), bpn);
+    }
+
+    /**
+     * Negotiates a new endpoint data reference and adds it to the storage. Concurrent requests for the same
+     * connector, asset and BPN share a single negotiation instead of starting one each.
+     */
     private EndpointDataReference getEndpointDataReferenceAndAddToStorage(final String connectorEndpoint,
             final String assetId, final EndpointDataReferenceStatus cachedEndpointDataReference, final String bpn)
             throws EdcClientException {
+        final NegotiationKey key = new NegotiationKey(connectorEndpoint, assetId, bpn);
+        final CompletableFuture<EndpointDataReference> negotiation = new CompletableFuture<>();
+        final CompletableFuture<EndpointDataReference> inFlightNegotiation = inFlightNegotiations.putIfAbsent(key,
+                negotiation);
+
+        if (inFlightNegotiation != null) {
+            log.info("Joining negotiation in progress for asset id: {}", assetId);
+            meterRegistry.counter(METRIC_NEGOTIATIONS, TAG_TYPE, "coalesced").increment();
+            return awaitNegotiation(inFlightNegotiation);
+        }
+
+        meterRegistry.counter(METRIC_NEGOTIATIONS, TAG_TYPE, "fresh").increment();
+        try {
+            final EndpointDataReference endpointDataReference = negotiateEndpointDataReference(connectorEndpoint,
+                    assetId, cachedEndpointDataReference, bpn);
+            negotiation.complete(endpointDataReference);
+            return endpointDataReference;
+        } catch (EdcClientException e) {
+            negotiation.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightNegotiations.remove(key, negotiation);
+            // releases the waiting requests in case of unexpected runtime exceptions
+            negotiation.completeExceptionally(
+                    new EdcClientException("Negotiation for asset id '%s' failed".formatted(assetId)));
+        }
+    }
+
+    private static EndpointDataReference awaitNegotiation(final CompletableFuture<EndpointDataReference> negotiation)
+            throws EdcClientException {
+        try {
+            return negotiation.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EdcClientException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof EdcClientException edcClientException) {
+                throw edcClientException;
+            }
+            throw new EdcClientException(e);
+        }
+    }
+
+    private EndpointDataReference negotiateEndpointDataReference(final String connectorEndpoint,
+            final String assetId, final EndpointDataReferenceStatus cachedEndpointDataReference, final String bpn)
+            throws EdcClientException {
+        if (cachedEndpointDataReference.tokenStatus() == TokenStatus.EXPIRED) {
+            // the renewed reference is stored under the same contract agreement id as the outdated one
+            endpointDataReferenceCacheService.removeEndpointDataReferenceFromStorage(
+                    cachedEndpointDataReference.endpointDataReference().getContractId());
+        }
         try {
             final EndpointDataReference endpointDataReference = awaitEndpointReferenceForAsset(connectorEndpoint,
                     NAMESPACE_EDC_ID, assetId, cachedEndpointDataReference, bpn).get();
@@ -261,12 +361,7 @@ public class EdcSubmodelClientImpl implements EdcSubmodelClient {
 
                 final String storageId = getStorageId(endpointDataReferenceStatus, negotiationResponse);
 
-                return pollingService.<EndpointDataReference>createJob()
-                                     .action(() -> retrieveEndpointReference(storageId, stopWatch))
-                                     .timeToLive(config.getSubmodel().getRequestTtl())
-                                     .description("waiting for Endpoint Reference retrieval")
-                                     .build()
-                                     .schedule();
+                return awaitEndpointReference(storageId, stopWatch);
             } catch (EdcClientException e) {
                 log.warn(("Negotiate contract failed for "
                         + "endpointDataReferenceStatus = '%s', catalogItem = '%s', providerWithSuffix = '%s' ").formatted(
@@ -317,8 +412,7 @@ public class EdcSubmodelClientImpl implements EdcSubmodelClient {
             throws EdcClientException {
         final NegotiationResponse response;
         try {
-            response = contractNegotiationService.negotiate(providerWithSuffix, catalogItem,
-                    endpointDataReferenceStatus, bpn);
+            response = negotiate(providerWithSuffix, catalogItem, endpointDataReferenceStatus, bpn);
         } catch (TransferProcessException | UsagePolicyPermissionException | UsagePolicyExpiredException
                  | ContractNegotiationException e) {
             throw new EdcClientException(("Negotiation failed for endpoint '%s', " + "tokenStatus '%s', "
@@ -329,6 +423,20 @@ public class EdcSubmodelClientImpl implements EdcSubmodelClient {
         return response;
     }
 
+    private NegotiationResponse negotiate(final String providerWithSuffix, final CatalogItem catalogItem,
+            final EndpointDataReferenceStatus endpointDataReferenceStatus, final String bpn)
+            throws TransferProcessException, UsagePolicyPermissionException, UsagePolicyExpiredException,
+            ContractNegotiationException {
+        try {
+            return contractNegotiationService.negotiate(providerWithSuffix, catalogItem, endpointDataReferenceStatus,
+                    bpn);
+        } catch (ContractNegotiationException | TransferProcessException e) {
+            // the offer may be outdated, so the next request has to fetch the current catalog
+            catalogFacade.invalidateCatalog(providerWithSuffix, bpn);
+            throw e;
+        }
+    }
+
     private CompletableFuture<EndpointDataReference> awaitEndpointReferenceForAsset(final String endpointAddress,
             final String filterKey, final String filterValue,
             final EndpointDataReferenceStatus endpointDataReferenceStatus, final String bpn) throws EdcClientException {
@@ -337,20 +445,17 @@ public class EdcSubmodelClientImpl implements EdcSubmodelClient {
         stopWatch.start("Get EDC Submodel task for shell descriptor, endpoint " + endpointAddress);
         final String providerWithSuffix = appendSuffix(endpointAddress, config.getControlplane().getProviderSuffix());
 
-        final List<CatalogItem> items = catalogFacade.fetchCatalogByFilter(providerWithSuffix, filterKey, filterValue,
-                bpn);
+        final boolean prefetch = config.getControlplane().getCatalogCache().isPrefetch();
+        final List<CatalogItem> items = prefetch && NAMESPACE_EDC_ID.equals(filterKey)
+                ? catalogFacade.fetchCatalogItemsForAsset(providerWithSuffix, filterValue, bpn)
+                : catalogFacade.fetchCatalogByFilter(providerWithSuffix, filterKey, filterValue, bpn);
 
-        final NegotiationResponse response = contractNegotiationService.negotiate(providerWithSuffix,
-                items.stream().findFirst().orElseThrow(), endpointDataReferenceStatus, bpn);
+        final NegotiationResponse response = negotiate(providerWithSuffix, items.stream().findFirst().orElseThrow(),
+                endpointDataReferenceStatus, bpn);
 
         final String storageId = getStorageId(endpointDataReferenceStatus, response);
 
-        return pollingService.<EndpointDataReference>createJob()
-                             .action(() -> retrieveEndpointReference(storageId, stopWatch))
-                             .timeToLive(config.getSubmodel().getRequestTtl())
-                             .description("waiting for Endpoint Reference retrieval")
-                             .build()
-                             .schedule();
+        return awaitEndpointReference(storageId, stopWatch);
     }
 
     private static String getStorageId(final EndpointDataReferenceStatus endpointDataReferenceStatus,
@@ -394,6 +499,12 @@ public class EdcSubmodelClientImpl implements EdcSubmodelClient {
         }
     }
 
+    /**
+     * Identifies negotiations which can be shared between concurrent requests.
+     */
+    private record NegotiationKey(String connectorEndpoint, String assetId, String bpn) {
+    }
+
     /**
      * Functional interface for a supplier that may throw a checked exception.
      *
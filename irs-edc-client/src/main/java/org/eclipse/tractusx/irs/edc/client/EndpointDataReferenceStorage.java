@@ -25,12 +25,18 @@ package org.eclipse.tractusx.irs.edc.client;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -38,38 +44,127 @@ import org.springframework.stereotype.Service;
 /**
  * In-memory storage for endpoint data references.
  * Values are held either by assetId or contractAgreementId.
+ * Callers waiting for a reference which has not arrived yet can register a waiter,
+ * which is completed as soon as the reference is stored.
+ * <p>
+ * All entries share the same lifetime, so keeping them in insertion order means the eldest entry
+ * always expires first. Expired entries are therefore evicted from the head of the map in O(1) amortized time.
+ * The storage is bounded by a maximum number of entries, evicting the eldest ones first.
  */
 @Service("irsEdcClientEndpointDataReferenceStorage")
-public class EndpointDataReferenceStorage {
+public class EndpointDataReferenceStorage implements MeterBinder {
 
-    private final Map<String, ExpiringContainer> storageMap = new ConcurrentHashMap<>();
+    private static final String CACHE_NAME = "edr-storage";
+
+    private final Map<String, ExpiringContainer> storageMap = new LinkedHashMap<>();
+    private final Map<String, ExpiringWaiter> waiters = new LinkedHashMap<>();
     private final Duration storageDuration;
+    private final int maxSize;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
 
     public EndpointDataReferenceStorage(
-            @Value("${irs-edc-client.controlplane.datareference.storage.duration}") final Duration storageDuration) {
+            @Value("${irs-edc-client.controlplane.datareference.storage.duration}") final Duration storageDuration,
+            @Value("${irs-edc-client.controlplane.datareference.storage.max-size:10000}") final int maxSize) {
         this.storageDuration = storageDuration;
+        this.maxSize = maxSize;
     }
 
     public void put(final String storageId, final EndpointDataReference dataReference) {
-        storageMap.put(storageId, new ExpiringContainer(Instant.now(), dataReference));
-        cleanup();
+        final ExpiringWaiter waiter;
+        synchronized (this) {
+            final Instant now = Instant.now();
+            // re-insert at the tail to keep the map ordered by creation time
+            storageMap.remove(storageId);
+            storageMap.put(storageId, new ExpiringContainer(now, dataReference));
+            evict(now);
+            waiter = waiters.remove(storageId);
+        }
+        if (waiter != null) {
+            waiter.getFuture().complete(dataReference);
+        }
     }
 
     /**
-     * Cleans up all dangling references which were not collected after the STORAGE_DURATION.
+     * Returns a future which completes as soon as a data reference is stored for the given id.
+     * If the reference is already present, the future is completed immediately.
+     *
+     * @param storageId the assetId or contractAgreementId to wait for
+     * @return a future completing with the stored data reference
      */
-    private void cleanup() {
-        final Set<String> keys = new HashSet<>(storageMap.keySet());
-        keys.forEach(key -> {
-            final Instant creationTimestamp = storageMap.get(key).getCreationTimestamp();
-            if (Instant.now().isAfter(creationTimestamp.plus(storageDuration))) {
-                storageMap.remove(key);
+    public CompletableFuture<EndpointDataReference> await(final String storageId) {
+        final CompletableFuture<EndpointDataReference> waiter;
+        synchronized (this) {
+            evict(Instant.now());
+            final ExpiringContainer stored = storageMap.get(storageId);
+            if (stored != null) {
+                return CompletableFuture.completedFuture(stored.getDataReference());
             }
-        });
+            waiter = waiters.computeIfAbsent(storageId,
+                    key -> new ExpiringWaiter(Instant.now(), new CompletableFuture<>())).getFuture();
+        }
+        return waiter.copy();
+    }
+
+    public synchronized void remove(final String storageId) {
+        storageMap.remove(storageId);
     }
 
     public Optional<EndpointDataReference> get(final String storageId) {
-        return Optional.ofNullable(storageMap.get(storageId)).map(ExpiringContainer::getDataReference);
+        final ExpiringContainer stored;
+        synchronized (this) {
+            evict(Instant.now());
+            stored = storageMap.get(storageId);
+        }
+        (stored == null ? misses : hits).incrementAndGet();
+        return Optional.ofNullable(stored).map(ExpiringContainer::getDataReference);
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", hits, AtomicLong::get)
+                       .tags("cache", CACHE_NAME, "result", "hit")
+                       .description("The number of times the storage contained a requested data reference")
+                       .register(registry);
+        FunctionCounter.builder("cache.gets", misses, AtomicLong::get)
+                       .tags("cache", CACHE_NAME, "result", "miss")
+                       .description("The number of times the storage did not contain a requested data reference")
+                       .register(registry);
+        FunctionCounter.builder("cache.evictions", evictions, AtomicLong::get)
+                       .tag("cache", CACHE_NAME)
+                       .description("The number of data references evicted because they expired or exceeded the size")
+                       .register(registry);
+        Gauge.builder("cache.size", this, EndpointDataReferenceStorage::size)
+             .tag("cache", CACHE_NAME)
+             .description("The number of data references in the storage")
+             .register(registry);
+    }
+
+    private synchronized int size() {
+        return storageMap.size();
+    }
+
+    /**
+     * Evicts expired references and waiters as well as the eldest references exceeding the maximum size.
+     * Stops at the first entry which is still valid, since all later entries are younger.
+     */
+    private void evict(final Instant now) {
+        final Instant expiredBefore = now.minus(storageDuration);
+        final long evicted = evictEldest(storageMap,
+                container -> storageMap.size() > maxSize || container.getCreationTimestamp().isBefore(expiredBefore));
+        evictions.addAndGet(evicted);
+        evictEldest(waiters, waiter -> waiter.getCreationTimestamp().isBefore(expiredBefore));
+    }
+
+    private static <T> long evictEldest(final Map<String, T> entries, final Predicate<T> shouldEvict) {
+        long evicted = 0;
+        final Iterator<T> eldestFirst = entries.values().iterator();
+        while (eldestFirst.hasNext() && shouldEvict.test(eldestFirst.next())) {
+            eldestFirst.remove();
+            evicted++;
+        }
+        return evicted;
     }
 
     /**
@@ -81,5 +176,13 @@ public class EndpointDataReferenceStorage {
         private final EndpointDataReference dataReference;
     }
 
-}
+    /**
+     * Holds a pending waiter with its registration date.
+     */
+    @lombok.Value
+    private static final class ExpiringWaiter {
+        private final Instant creationTimestamp;
+        private final CompletableFuture<EndpointDataReference> future;
+    }
 
+}
@@ -31,6 +31,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 import lombok.Builder;
@@ -38,6 +39,8 @@ import org.apache.commons.lang3.StringUtils;
 
 /**
  * Wrapper class for asynchrous execution of polling jobs.
+ * If a maximum poll interval is set, the interval starts at the poll interval and is doubled
+ * after each unsuccessful poll until the maximum is reached. Otherwise, the poll interval is fixed.
  *
  * @param <T> the result type of the polling action
  */
@@ -50,6 +53,7 @@ public class PollingJob<T> {
     private Supplier<Optional<T>> action;
     private String description;
     private Duration pollInterval;
+    private Duration maxPollInterval;
 
     public CompletableFuture<T> schedule() {
         enforceRequiredParameters();
@@ -61,15 +65,42 @@ public class PollingJob<T> {
         final Runnable actionWithTimeoutAndErrorHandling = wrapWithErrorHandler(wrapWithTimeout(actionToUse),
                 completableFuture);
 
-        final ScheduledFuture<?> scheduledFuture = scheduler.scheduleWithFixedDelay(actionWithTimeoutAndErrorHandling,
-                0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+        if (maxPollInterval == null) {
+            final ScheduledFuture<?> scheduledFuture = scheduler.scheduleWithFixedDelay(
+                    actionWithTimeoutAndErrorHandling, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
 
-        completableFuture.whenComplete((result, thrown) -> scheduledFuture.cancel(true));
+            completableFuture.whenComplete((result, thrown) -> scheduledFuture.cancel(true));
+        } else {
+            final AtomicReference<ScheduledFuture<?>> nextPoll = new AtomicReference<>();
+            completableFuture.whenComplete((result, thrown) -> Optional.ofNullable(nextPoll.get())
+                                                                       .ifPresent(poll -> poll.cancel(true)));
+            scheduleWithBackoff(actionWithTimeoutAndErrorHandling, completableFuture, nextPoll, Duration.ZERO);
+        }
 
         return completableFuture;
 
     }
 
+    private void scheduleWithBackoff(final Runnable action, final CompletableFuture<T> completableFuture,
+            final AtomicReference<ScheduledFuture<?>> nextPoll, final Duration delay) {
+        nextPoll.set(scheduler.schedule(() -> {
+            if (!completableFuture.isDone()) {
+                action.run();
+            }
+            if (!completableFuture.isDone()) {
+                scheduleWithBackoff(action, completableFuture, nextPoll, nextDelay(delay));
+            }
+        }, delay.toMillis(), TimeUnit.MILLISECONDS));
+    }
+
+    private Duration nextDelay(final Duration delay) {
+        if (delay.isZero()) {
+            return pollInterval;
+        }
+        final Duration doubled = delay.multipliedBy(2);
+        return doubled.compareTo(maxPollInterval) > 0 ? maxPollInterval : doubled;
+    }
+
     private Runnable wrapWithErrorHandler(final Runnable action, final CompletableFuture<T> completableFuture) {
         return RunnableDecorator.withErrorHandler(action, completableFuture::completeExceptionally);
     }
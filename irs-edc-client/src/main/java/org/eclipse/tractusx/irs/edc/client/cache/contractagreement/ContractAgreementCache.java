@@ -0,0 +1,111 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.edc.client.cache.contractagreement;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.stereotype.Service;
+
+/**
+ * Remembers negotiated contract agreements, so that the same offer does not have to be negotiated again
+ * as long as the agreement is valid. Agreements are valid until their own end date if the provider states one.
+ * Otherwise they are reused for the configured time to live, but not after the accepted policy has expired.
+ */
+public interface ContractAgreementCache {
+
+    Optional<String> findContractAgreementId(ContractAgreementKey key);
+
+    /**
+     * @param key                 the provider, asset and policy the agreement was negotiated for
+     * @param contractAgreementId the ID of the contract agreement
+     * @param agreementValidUntil the end of validity of the agreement as stated by the provider, null if unknown
+     * @param policyValidUntil    the end of validity of the accepted policy, null if unlimited
+     */
+    void put(ContractAgreementKey key, String contractAgreementId, Instant agreementValidUntil,
+            Instant policyValidUntil);
+
+    void remove(ContractAgreementKey key);
+
+    /**
+     * Default cache if no other beans are loaded. Agreements are only kept in memory.
+     */
+    @Service
+    @ConditionalOnMissingBean(value = ContractAgreementCache.class, ignored = InMemoryContractAgreementCache.class)
+    class InMemoryContractAgreementCache implements ContractAgreementCache {
+
+        private final Map<ContractAgreementKey, ContractAgreementEntry> entries = new ConcurrentHashMap<>();
+        private final Duration timeToLive;
+
+        public InMemoryContractAgreementCache(
+                @Value("${irs-edc-client.controlplane.contract-agreement.ttl:P1D}") final Duration timeToLive) {
+            this.timeToLive = timeToLive;
+        }
+
+        @Override
+        public Optional<String> findContractAgreementId(final ContractAgreementKey key) {
+            final ContractAgreementEntry entry = entries.get(key);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            if (isExpired(entry)) {
+                entries.remove(key, entry);
+                return Optional.empty();
+            }
+            return Optional.of(entry.contractAgreementId());
+        }
+
+        @Override
+        public void put(final ContractAgreementKey key, final String contractAgreementId,
+                final Instant agreementValidUntil, final Instant policyValidUntil) {
+            remember(key, createEntry(contractAgreementId, agreementValidUntil, policyValidUntil));
+        }
+
+        @Override
+        public void remove(final ContractAgreementKey key) {
+            entries.remove(key);
+        }
+
+        protected void remember(final ContractAgreementKey key, final ContractAgreementEntry entry) {
+            entries.put(key, entry);
+        }
+
+        protected ContractAgreementEntry createEntry(final String contractAgreementId,
+                final Instant agreementValidUntil, final Instant policyValidUntil) {
+            final Instant now = Instant.now();
+            if (agreementValidUntil != null) {
+                return new ContractAgreementEntry(contractAgreementId, now, agreementValidUntil);
+            }
+            final Instant endOfTimeToLive = now.plus(timeToLive);
+            final Instant validUntil = policyValidUntil != null && policyValidUntil.isBefore(endOfTimeToLive)
+                    ? policyValidUntil
+                    : endOfTimeToLive;
+            return new ContractAgreementEntry(contractAgreementId, now, validUntil);
+        }
+
+        protected boolean isExpired(final ContractAgreementEntry entry) {
+            return entry.isExpired(Instant.now(), timeToLive);
+        }
+    }
+}
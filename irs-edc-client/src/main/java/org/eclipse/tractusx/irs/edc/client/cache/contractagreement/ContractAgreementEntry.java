@@ -0,0 +1,42 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.edc.client.cache.contractagreement;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * A cached contract agreement with the time it was negotiated.
+ *
+ * @param contractAgreementId the ID of the contract agreement
+ * @param createdOn           the time the agreement was negotiated
+ * @param validUntil          the time after which the agreement must not be reused, null if unknown
+ */
+record ContractAgreementEntry(String contractAgreementId, Instant createdOn, Instant validUntil) {
+
+    /**
+     * @param now        the current time
+     * @param timeToLive the time to live of entries without end of validity
+     * @return whether the agreement must not be reused any more
+     */
+    /* package */ boolean isExpired(final Instant now, final Duration timeToLive) {
+        final Instant expiresAt = validUntil == null ? createdOn.plus(timeToLive) : validUntil;
+        return expiresAt.isBefore(now);
+    }
+}
@@ -0,0 +1,66 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.edc.client.cache.contractagreement;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import org.eclipse.tractusx.irs.data.StringMapper;
+import org.eclipse.tractusx.irs.edc.client.model.CatalogItem;
+
+/**
+ * Identifies a contract agreement by the provider connector, the asset and the offered policy.
+ * An agreement can only be reused for exactly the same combination.
+ *
+ * @param providerConnectorUrl the URL of the provider connector
+ * @param assetId              the ID of the negotiated asset
+ * @param policyHash           the SHA-256 hash of the offered policy
+ */
+public record ContractAgreementKey(String providerConnectorUrl, String assetId, String policyHash) {
+
+    /**
+     * Creates the key for the offer described by the catalog item.
+     *
+     * @param providerConnectorUrl the URL of the provider connector
+     * @param catalogItem          the catalog item containing asset and policy
+     * @return the key
+     */
+    public static ContractAgreementKey of(final String providerConnectorUrl, final CatalogItem catalogItem) {
+        return new ContractAgreementKey(providerConnectorUrl, catalogItem.getAssetPropId(),
+                sha256(StringMapper.mapToString(catalogItem.getPolicy())));
+    }
+
+    /**
+     * @return a stable, storage-safe identifier of this key
+     */
+    public String id() {
+        return sha256(String.join("\n", providerConnectorUrl, assetId, policyHash));
+    }
+
+    private static String sha256(final String value) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported by this JVM", e);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.edc.client.cache.contractagreement;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.irs.common.persistence.BlobPersistence;
+import org.eclipse.tractusx.irs.common.persistence.BlobPersistenceException;
+import org.eclipse.tractusx.irs.data.StringMapper;
+
+/**
+ * Contract agreement cache which additionally stores the agreements in a {@link BlobPersistence},
+ * so they survive restarts and can be shared between instances. Agreements may be valid longer than jobs are kept,
+ * so the blob store should not be the one of the jobs.
+ * Storage errors are logged and treated as cache misses. Agreements which are not found in the blob store are
+ * remembered as missing, so that the store is not asked again until this instance negotiates the agreement itself.
+ */
+@Slf4j
+public class PersistentContractAgreementCache extends ContractAgreementCache.InMemoryContractAgreementCache {
+
+    private static final String BLOB_PREFIX = "contract-agreement:";
+
+    private final BlobPersistence blobStore;
+    private final Set<ContractAgreementKey> missingKeys = ConcurrentHashMap.newKeySet();
+
+    public PersistentContractAgreementCache(final BlobPersistence blobStore, final Duration timeToLive) {
+        super(timeToLive);
+        this.blobStore = blobStore;
+    }
+
+    @Override
+    public Optional<String> findContractAgreementId(final ContractAgreementKey key) {
+        return super.findContractAgreementId(key).or(() -> missingKeys.contains(key) ? Optional.empty() : load(key));
+    }
+
+    @Override
+    public void put(final ContractAgreementKey key, final String contractAgreementId,
+            final Instant agreementValidUntil, final Instant policyValidUntil) {
+        final ContractAgreementEntry entry = createEntry(contractAgreementId, agreementValidUntil, policyValidUntil);
+        remember(key, entry);
+        missingKeys.remove(key);
+        try {
+            blobStore.putBlob(blobName(key), StringMapper.mapToString(entry).getBytes(StandardCharsets.UTF_8));
+        } catch (BlobPersistenceException e) {
+            log.warn("Could not store contract agreement in blob store", e);
+        }
+    }
+
+    @Override
+    public void remove(final ContractAgreementKey key) {
+        super.remove(key);
+        missingKeys.add(key);
+        try {
+            blobStore.delete(blobName(key), List.of());
+        } catch (BlobPersistenceException e) {
+            log.warn("Could not delete contract agreement from blob store", e);
+        }
+    }
+
+    private Optional<String> load(final ContractAgreementKey key) {
+        try {
+            final Optional<ContractAgreementEntry> entry = blobStore.getBlob(blobName(key))
+                                                                    .map(blob -> StringMapper.mapFromString(
+                                                                            new String(blob, StandardCharsets.UTF_8),
+                                                                            ContractAgreementEntry.class));
+            if (entry.isEmpty()) {
+                missingKeys.add(key);
+                return Optional.empty();
+            }
+            if (isExpired(entry.get())) {
+                remove(key);
+                return Optional.empty();
+            }
+            remember(key, entry.get());
+            return Optional.of(entry.get().contractAgreementId());
+        } catch (BlobPersistenceException e) {
+            log.warn("Could not read contract agreement from blob store", e);
+            return Optional.empty();
+        }
+    }
+
+    private static String blobName(final ContractAgreementKey key) {
+        return BLOB_PREFIX + key.id();
+    }
+}
@@ -25,6 +25,7 @@ package org.eclipse.tractusx.irs.edc.client.cache.endpointdatareference;
 
 import java.time.Instant;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -85,6 +86,21 @@ public class EndpointDataReferenceCacheService {
         return endpointDataReferenceStorage.get(storageId);
     }
 
+    /**
+     * Waits for {@link org.eclipse.edc.spi.types.domain.edr.EndpointDataReference} to be stored
+     * in {@link org.eclipse.tractusx.irs.edc.client.EndpointDataReferenceStorage}, e.g. by the EDC callback.
+     *
+     * @param storageId assetId or contractAgreementId
+     * @return future completing with the stored reference
+     */
+    public CompletableFuture<EndpointDataReference> awaitEndpointDataReferenceInStorage(final String storageId) {
+        return endpointDataReferenceStorage.await(storageId);
+    }
+
+    public void removeEndpointDataReferenceFromStorage(final String storageId) {
+        endpointDataReferenceStorage.remove(storageId);
+    }
+
     public void putEndpointDataReferenceIntoStorage(final String assetId,
             final EndpointDataReference endpointDataReference) {
         endpointDataReferenceStorage.put(assetId, endpointDataReference);
@@ -95,7 +111,7 @@ public class EndpointDataReferenceCacheService {
         return Instant.now().isAfter(tokenExpirationInstant);
     }
 
-    private static Instant extractTokenExpiration(final String token) {
+    /* package */ static Instant extractTokenExpiration(final String token) {
         return Instant.ofEpochSecond(EDRAuthCode.fromAuthCodeToken(token).getExp());
     }
 
@@ -0,0 +1,157 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.edc.client.cache.endpointdatareference;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
+import org.eclipse.tractusx.irs.edc.client.EdcConfiguration;
+import org.eclipse.tractusx.irs.edc.client.exceptions.EdcClientException;
+
+/**
+ * Renews endpoint data references of frequently used assets shortly before their token expires,
+ * so that requests for these assets do not have to wait for a new transfer process.
+ * The upcoming renewals are ordered by due date in a priority queue, which is checked periodically.
+ * References which were used less than the configured number of times are not renewed.
+ */
+@Slf4j
+public class EndpointDataReferenceRefresher {
+
+    private static final String METRIC_REFRESHES = "edc.edr.refreshes";
+    private static final String METRIC_TRACKED = "edc.edr.refresh.tracked";
+    private static final String TAG_RESULT = "result";
+
+    private final Map<String, TrackedReference> trackedReferences = new ConcurrentHashMap<>();
+    private final PriorityQueue<ScheduledRefresh> refreshQueue = new PriorityQueue<>(
+            Comparator.comparing(scheduledRefresh -> scheduledRefresh.reference().refreshAt()));
+    private final EdcConfiguration.ControlplaneConfig.DataReferenceConfig config;
+    private final MeterRegistry meterRegistry;
+    private final ScheduledExecutorService executor;
+
+    public EndpointDataReferenceRefresher(final EdcConfiguration.ControlplaneConfig.DataReferenceConfig config,
+            final MeterRegistry meterRegistry, final ScheduledExecutorService executor) {
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+        this.executor = executor;
+        meterRegistry.gaugeMapSize(METRIC_TRACKED, Tags.empty(), trackedReferences);
+        final long checkIntervalMillis = config.getRefreshCheckInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::refreshDueReferences, checkIntervalMillis, checkIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Records that a request for the given asset was served with the given reference.
+     *
+     * @param assetId   the asset the reference belongs to
+     * @param reference the reference used for the request
+     * @param refresh   the action renewing the reference, executed shortly before the token expires
+     */
+    public void recordUsage(final String assetId, final EndpointDataReference reference, final Refresh refresh) {
+        if (reference == null || reference.getAuthCode() == null) {
+            return;
+        }
+        final Instant refreshAt = EndpointDataReferenceCacheService.extractTokenExpiration(reference.getAuthCode())
+                                                                   .minus(config.getRefreshLeadTime());
+        final TrackedReference candidate = new TrackedReference(reference.getId(), refreshAt, refresh,
+                new AtomicInteger());
+        final TrackedReference tracked = trackedReferences.merge(assetId, candidate,
+                (existing, update) -> existing.referenceId().equals(update.referenceId()) ? existing : update);
+        tracked.usages().incrementAndGet();
+
+        if (tracked == candidate) {
+            synchronized (refreshQueue) {
+                refreshQueue.add(new ScheduledRefresh(assetId, candidate));
+            }
+        }
+    }
+
+    /**
+     * Stops the periodic check for due renewals.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /* package */ void refreshDueReferences() {
+        final Instant now = Instant.now();
+        for (ScheduledRefresh due = pollDue(now); due != null; due = pollDue(now)) {
+            final String assetId = due.assetId();
+            final TrackedReference reference = due.reference();
+            if (trackedReferences.get(assetId) != reference) {
+                // superseded by a newer reference for the same asset
+                continue;
+            }
+            if (reference.usages().get() < config.getRefreshMinUsages()) {
+                trackedReferences.remove(assetId, reference);
+                meterRegistry.counter(METRIC_REFRESHES, TAG_RESULT, "skipped").increment();
+            } else {
+                executor.execute(() -> refresh(assetId, reference));
+            }
+        }
+    }
+
+    private ScheduledRefresh pollDue(final Instant now) {
+        synchronized (refreshQueue) {
+            final ScheduledRefresh next = refreshQueue.peek();
+            if (next == null || next.reference().refreshAt().isAfter(now)) {
+                return null;
+            }
+            return refreshQueue.poll();
+        }
+    }
+
+    private void refresh(final String assetId, final TrackedReference reference) {
+        try {
+            log.info("Renewing endpoint data reference for asset id {} ahead of token expiry", assetId);
+            reference.refresh().refresh();
+            meterRegistry.counter(METRIC_REFRESHES, TAG_RESULT, "success").increment();
+        } catch (EdcClientException | RuntimeException e) {
+            // e.g. a RestClientException from the control plane, which must not end the refresh silently
+            log.warn("Could not renew endpoint data reference for asset id {}", assetId, e);
+            meterRegistry.counter(METRIC_REFRESHES, TAG_RESULT, "failure").increment();
+        } finally {
+            // the renewed reference is tracked again as soon as it is used
+            trackedReferences.remove(assetId, reference);
+        }
+    }
+
+    /**
+     * Action renewing the endpoint data reference of an asset.
+     */
+    @FunctionalInterface
+    public interface Refresh {
+        void refresh() throws EdcClientException;
+    }
+
+    private record TrackedReference(String referenceId, Instant refreshAt, Refresh refresh, AtomicInteger usages) {
+    }
+
+    private record ScheduledRefresh(String assetId, TrackedReference reference) {
+    }
+}
@@ -0,0 +1,62 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.edc.client.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * ContractNegotiationCallback represents a contract negotiation event sent by the EDC.
+ */
+@Builder
+@Value
+@Jacksonized
+public class ContractNegotiationCallback {
+
+    public static final String TYPE_FINALIZED = "ContractNegotiationFinalized";
+
+    @JsonProperty("id")
+    private String callbackId;
+    private ContractNegotiationCallbackPayload payload;
+    private String type;
+
+    /**
+     * Payload of a contract negotiation event.
+     *
+     * @param contractNegotiationId The ID of the contract negotiation.
+     * @param contractAgreement     The contract agreement, present once the negotiation is finalized.
+     */
+    @Builder
+    @Jacksonized
+    public record ContractNegotiationCallbackPayload(String contractNegotiationId,
+                                                     ContractAgreement contractAgreement) {
+    }
+
+    /**
+     * Contract agreement of a finalized contract negotiation.
+     *
+     * @param id The ID of the contract agreement.
+     */
+    @Builder
+    @Jacksonized
+    public record ContractAgreement(String id) {
+    }
+}
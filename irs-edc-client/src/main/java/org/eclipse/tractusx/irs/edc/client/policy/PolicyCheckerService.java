@@ -24,7 +24,10 @@
 package org.eclipse.tractusx.irs.edc.client.policy;
 
 import java.time.OffsetDateTime;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -70,6 +73,37 @@ public class PolicyCheckerService {
                                           acceptedPolicy -> acceptedPolicy.validUntil().isBefore(OffsetDateTime.now()));
     }
 
+    /**
+     * Determines until when the given policy is accepted for the given BPN. Each permission is accepted until the
+     * latest end of validity of the accepted policies matching its constraints, the policy until the earliest of these.
+     *
+     * @param policy the policy of a catalog offer
+     * @param bpn    the BPN of the provider
+     * @return the end of validity, or empty if a permission is not covered by an accepted policy with an end date
+     */
+    public Optional<OffsetDateTime> getValidUntil(final Policy policy, final String bpn) {
+        final List<AcceptedPolicy> validStoredPolicies = getValidStoredPolicies(bpn);
+        final List<Optional<OffsetDateTime>> validUntilByPermission = policy.getPermissions()
+                                                                            .stream()
+                                                                            .map(permission -> getValidUntil(
+                                                                                    permission, validStoredPolicies))
+                                                                            .toList();
+        if (validUntilByPermission.isEmpty() || validUntilByPermission.stream().anyMatch(Optional::isEmpty)) {
+            return Optional.empty();
+        }
+        return validUntilByPermission.stream().flatMap(Optional::stream).min(Comparator.naturalOrder());
+    }
+
+    private Optional<OffsetDateTime> getValidUntil(final Permission permission,
+            final List<AcceptedPolicy> validStoredPolicies) {
+        return validStoredPolicies.stream()
+                                  .filter(acceptedPolicy -> constraintCheckerService.hasAllConstraint(
+                                          acceptedPolicy.policy(), permission.getConstraints()))
+                                  .map(AcceptedPolicy::validUntil)
+                                  .filter(Objects::nonNull)
+                                  .max(Comparator.naturalOrder());
+    }
+
     private List<AcceptedPolicy> getValidStoredPolicies(final String bpn) {
         return policyStore.getAcceptedPolicies(bpn).stream().toList();
     }
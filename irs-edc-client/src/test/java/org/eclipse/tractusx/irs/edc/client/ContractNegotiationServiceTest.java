@@ -26,16 +26,25 @@ package org.eclipse.tractusx.irs.edc.client;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.edc.policy.model.Permission;
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.policy.model.PolicyType;
 import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
+import org.eclipse.tractusx.irs.edc.client.cache.contractagreement.ContractAgreementCache;
+import org.eclipse.tractusx.irs.edc.client.cache.contractagreement.ContractAgreementCache.InMemoryContractAgreementCache;
+import org.eclipse.tractusx.irs.edc.client.cache.contractagreement.ContractAgreementKey;
+import org.eclipse.tractusx.irs.edc.client.cache.endpointdatareference.EndpointDataReferenceCacheService;
 import org.eclipse.tractusx.irs.edc.client.cache.endpointdatareference.EndpointDataReferenceStatus;
 import org.eclipse.tractusx.irs.edc.client.exceptions.ContractNegotiationException;
 import org.eclipse.tractusx.irs.edc.client.exceptions.EdcClientException;
@@ -49,6 +58,7 @@ import org.eclipse.tractusx.irs.edc.client.model.TransferProcessResponse;
 import org.eclipse.tractusx.irs.edc.client.policy.PolicyCheckerService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
@@ -68,6 +78,11 @@ class ContractNegotiationServiceTest {
 
     @Mock
     private PolicyCheckerService policyCheckerService;
+    @Spy
+    private ContractAgreementCache contractAgreementCache = new InMemoryContractAgreementCache(Duration.ofDays(1));
+    @Spy
+    private EndpointDataReferenceCacheService endpointDataReferenceCacheService = new EndpointDataReferenceCacheService(
+            new EndpointDataReferenceStorage(Duration.ofMinutes(1), 100));
 
     private static Policy createPolicy(final String assetId) {
         final Permission permission = Permission.Builder.newInstance().build();
@@ -277,4 +292,117 @@ class ContractNegotiationServiceTest {
                 "bpn")).isInstanceOf(IllegalStateException.class);
     }
 
-}
\ No newline at end of file
+    @Test
+    void shouldReuseCachedContractAgreementWithoutNewNegotiation()
+            throws ContractNegotiationException, UsagePolicyPermissionException, TransferProcessException,
+            UsagePolicyExpiredException {
+        // arrange
+        final CatalogItem catalogItem = createCatalogItem("testTarget", "offerId");
+        contractAgreementCache.put(ContractAgreementKey.of(CONNECTOR_URL, catalogItem), "cachedAgreementId", null, null);
+        when(policyCheckerService.isValid(any(), any())).thenReturn(Boolean.TRUE);
+        when(policyCheckerService.isExpired(any(), any())).thenReturn(Boolean.FALSE);
+        when(edcControlPlaneClient.startTransferProcess(any())).thenReturn(
+                Response.builder().responseId("transferProcessId").build());
+        when(edcControlPlaneClient.getTransferProcess(any())).thenReturn(
+                CompletableFuture.completedFuture(TransferProcessResponse.builder().build()));
+
+        // act
+        final NegotiationResponse result = testee.negotiate(CONNECTOR_URL, catalogItem,
+                new EndpointDataReferenceStatus(null, EndpointDataReferenceStatus.TokenStatus.REQUIRED_NEW), "bpn");
+
+        // assert
+        assertThat(result.getContractAgreementId()).isEqualTo("cachedAgreementId");
+        verify(edcControlPlaneClient, never()).startNegotiations(any());
+        verify(edcControlPlaneClient).startTransferProcess(
+                argThat(request -> "cachedAgreementId".equals(request.getContractId())));
+    }
+
+    @Test
+    void shouldRemoveEndpointDataReferenceOfEarlierTransferWhenReusingContractAgreement()
+            throws ContractNegotiationException, UsagePolicyPermissionException, TransferProcessException,
+            UsagePolicyExpiredException {
+        // arrange
+        final CatalogItem catalogItem = createCatalogItem("testTarget", "offerId");
+        contractAgreementCache.put(ContractAgreementKey.of(CONNECTOR_URL, catalogItem), "cachedAgreementId", null, null);
+        endpointDataReferenceCacheService.putEndpointDataReferenceIntoStorage("cachedAgreementId",
+                EndpointDataReference.Builder.newInstance()
+                                             .id("outdatedReference")
+                                             .endpoint("")
+                                             .contractId("cachedAgreementId")
+                                             .build());
+        when(policyCheckerService.isValid(any(), any())).thenReturn(Boolean.TRUE);
+        when(policyCheckerService.isExpired(any(), any())).thenReturn(Boolean.FALSE);
+        when(edcControlPlaneClient.startTransferProcess(any())).thenReturn(
+                Response.builder().responseId("transferProcessId").build());
+        when(edcControlPlaneClient.getTransferProcess(any())).thenReturn(
+                CompletableFuture.completedFuture(TransferProcessResponse.builder().build()));
+
+        // act
+        testee.negotiate(CONNECTOR_URL, catalogItem,
+                new EndpointDataReferenceStatus(null, EndpointDataReferenceStatus.TokenStatus.REQUIRED_NEW), "bpn");
+
+        // assert
+        final InOrder inOrder = inOrder(endpointDataReferenceCacheService, edcControlPlaneClient);
+        inOrder.verify(endpointDataReferenceCacheService).removeEndpointDataReferenceFromStorage("cachedAgreementId");
+        inOrder.verify(edcControlPlaneClient).startTransferProcess(any());
+        assertThat(endpointDataReferenceCacheService.getEndpointDataReferenceFromStorage(
+                "cachedAgreementId")).isEmpty();
+    }
+
+    @Test
+    void shouldNegotiateAgainWhenTransferWithCachedContractAgreementFails()
+            throws ContractNegotiationException, UsagePolicyPermissionException, TransferProcessException,
+            UsagePolicyExpiredException {
+        // arrange
+        final CatalogItem catalogItem = createCatalogItem("testTarget", "offerId");
+        final ContractAgreementKey agreementKey = ContractAgreementKey.of(CONNECTOR_URL, catalogItem);
+        contractAgreementCache.put(agreementKey, "cachedAgreementId", null, null);
+        when(policyCheckerService.isValid(any(), any())).thenReturn(Boolean.TRUE);
+        when(policyCheckerService.isExpired(any(), any())).thenReturn(Boolean.FALSE);
+        when(edcControlPlaneClient.startTransferProcess(any())).thenReturn(
+                Response.builder().responseId("transferProcessId").build());
+        when(edcControlPlaneClient.getTransferProcess(any())).thenReturn(
+                CompletableFuture.failedFuture(new IllegalStateException("agreement expired")),
+                CompletableFuture.completedFuture(TransferProcessResponse.builder().build()));
+        when(edcControlPlaneClient.startNegotiations(any())).thenReturn(
+                Response.builder().responseId("negotiationId").build());
+        when(edcControlPlaneClient.getNegotiationResult(any())).thenReturn(CompletableFuture.completedFuture(
+                NegotiationResponse.builder().contractAgreementId("newAgreementId").build()));
+
+        // act
+        final NegotiationResponse result = testee.negotiate(CONNECTOR_URL, catalogItem,
+                new EndpointDataReferenceStatus(null, EndpointDataReferenceStatus.TokenStatus.REQUIRED_NEW), "bpn");
+
+        // assert
+        assertThat(result.getContractAgreementId()).isEqualTo("newAgreementId");
+        assertThat(contractAgreementCache.findContractAgreementId(agreementKey)).contains("newAgreementId");
+    }
+
+    @Test
+    void shouldCacheContractAgreementUntilEndOfValidityOfAcceptedPolicy()
+            throws ContractNegotiationException, UsagePolicyPermissionException, TransferProcessException,
+            UsagePolicyExpiredException {
+        // arrange
+        final CatalogItem catalogItem = createCatalogItem("testTarget", "offerId");
+        final OffsetDateTime policyValidUntil = OffsetDateTime.now().plusMonths(6);
+        when(policyCheckerService.isValid(any(), any())).thenReturn(Boolean.TRUE);
+        when(policyCheckerService.getValidUntil(any(), any())).thenReturn(Optional.of(policyValidUntil));
+        when(edcControlPlaneClient.startNegotiations(any())).thenReturn(
+                Response.builder().responseId("negotiationId").build());
+        when(edcControlPlaneClient.getNegotiationResult(any())).thenReturn(CompletableFuture.completedFuture(
+                NegotiationResponse.builder().contractAgreementId("newAgreementId").build()));
+        when(edcControlPlaneClient.startTransferProcess(any())).thenReturn(
+                Response.builder().responseId("transferProcessId").build());
+        when(edcControlPlaneClient.getTransferProcess(any())).thenReturn(
+                CompletableFuture.completedFuture(TransferProcessResponse.builder().build()));
+
+        // act
+        testee.negotiate(CONNECTOR_URL, catalogItem,
+                new EndpointDataReferenceStatus(null, EndpointDataReferenceStatus.TokenStatus.REQUIRED_NEW), "bpn");
+
+        // assert
+        verify(contractAgreementCache).put(ContractAgreementKey.of(CONNECTOR_URL, catalogItem), "newAgreementId",
+                null, policyValidUntil.toInstant());
+    }
+
+}
@@ -0,0 +1,68 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.edc.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+class ControlPlaneCallbackRegistryTest {
+
+    @Test
+    void shouldCompleteWaiterRegisteredBeforeEvent() {
+        // arrange
+        final ControlPlaneCallbackRegistry registry = new ControlPlaneCallbackRegistry(Duration.ofMinutes(1));
+        final CompletableFuture<String> agreementId = registry.awaitContractAgreementId("negotiation");
+
+        // act
+        registry.contractNegotiationFinalized("negotiation", "agreement");
+
+        // assert
+        assertThat(agreementId).isCompletedWithValue("agreement");
+    }
+
+    @Test
+    void shouldCompleteWaiterRegisteredAfterEvent() {
+        // arrange
+        final ControlPlaneCallbackRegistry registry = new ControlPlaneCallbackRegistry(Duration.ofMinutes(1));
+        registry.transferProcessStarted("transfer");
+
+        // act
+        final CompletableFuture<String> started = registry.awaitTransferProcessStarted("transfer");
+
+        // assert
+        assertThat(started).isCompletedWithValue("transfer");
+    }
+
+    @Test
+    void shouldNotKeepExpiredEvents() {
+        // arrange
+        final ControlPlaneCallbackRegistry registry = new ControlPlaneCallbackRegistry(Duration.ofNanos(-1));
+        registry.contractNegotiationFinalized("negotiation", "agreement");
+
+        // act
+        final CompletableFuture<String> agreementId = registry.awaitContractAgreementId("negotiation");
+
+        // assert
+        assertThat(agreementId).isNotDone();
+    }
+}
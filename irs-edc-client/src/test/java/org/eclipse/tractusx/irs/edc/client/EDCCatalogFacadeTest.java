@@ -30,11 +30,14 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.eclipse.edc.catalog.spi.Catalog;
 import org.eclipse.edc.policy.model.Policy;
@@ -155,4 +158,146 @@ class EDCCatalogFacadeTest {
         assertThat(catalogPolicy.getTarget()).isEqualTo(assetId);
 
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldServeRepeatedFilterRequestFromCache() {
+        // arrange
+        final Catalog catalog = createCatalog("testTarget", createPolicy(), "BPN000123456", "offerId");
+        when(controlPlaneClient.getCatalogWithFilter(any(), any(), any(), any())).thenReturn(catalog);
+
+        // act
+        final List<CatalogItem> first = edcCatalogFacade.fetchCatalogByFilter("testConnector", "key", "value", "bpn");
+        final List<CatalogItem> second = edcCatalogFacade.fetchCatalogByFilter("testConnector", "key", "value", "bpn");
+        edcCatalogFacade.fetchCatalogByFilter("testConnector", "key", "otherValue", "bpn");
+
+        // assert
+        assertThat(second).isEqualTo(first).hasSize(1);
+        verify(controlPlaneClient, times(1)).getCatalogWithFilter("testConnector", "key", "value", "bpn");
+        verify(controlPlaneClient, times(1)).getCatalogWithFilter("testConnector", "key", "otherValue", "bpn");
+    }
+
+    @Test
+    void shouldCacheEmptyCatalogOnlyForEmptyTtl() {
+        // arrange
+        final Catalog emptyCatalog = createCatalog("testTarget", 0);
+        when(controlPlaneClient.getCatalogWithFilter(any(), any(), any(), any())).thenReturn(emptyCatalog);
+        edcConfig.getControlplane().getCatalogCache().setEmptyTtl(Duration.ZERO);
+
+        // act
+        edcCatalogFacade.fetchCatalogByFilter("testConnector", "key", "value", "bpn");
+        edcCatalogFacade.fetchCatalogByFilter("testConnector", "key", "value", "bpn");
+        edcConfig.getControlplane().getCatalogCache().setEmptyTtl(Duration.ofMinutes(1));
+        edcCatalogFacade.fetchCatalogByFilter("testConnector", "key", "value", "bpn");
+        final List<CatalogItem> result = edcCatalogFacade.fetchCatalogByFilter("testConnector", "key", "value",
+                "bpn");
+
+        // assert
+        assertThat(result).isEmpty();
+        verify(controlPlaneClient, times(3)).getCatalogWithFilter("testConnector", "key", "value", "bpn");
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedCatalogWhenCacheIsFull() {
+        // arrange
+        final Catalog catalog = createCatalog("testTarget", createPolicy(), "BPN000123456", "offerId");
+        when(controlPlaneClient.getCatalogWithFilter(any(), any(), any(), any())).thenReturn(catalog);
+        edcConfig.getControlplane().getCatalogCache().setMaxSize(2);
+        edcCatalogFacade.fetchCatalogByFilter("testConnector", "key", "first", "bpn");
+        edcCatalogFacade.fetchCatalogByFilter("testConnector", "key", "second", "bpn");
+        edcCatalogFacade.fetchCatalogByFilter("testConnector", "key", "first", "bpn");
+
+        // act
+        edcCatalogFacade.fetchCatalogByFilter("testConnector", "key", "third", "bpn");
+        edcCatalogFacade.fetchCatalogByFilter("testConnector", "key", "first", "bpn");
+        edcCatalogFacade.fetchCatalogByFilter("testConnector", "key", "third", "bpn");
+        edcCatalogFacade.fetchCatalogByFilter("testConnector", "key", "second", "bpn");
+
+        // assert
+        verify(controlPlaneClient, times(1)).getCatalogWithFilter("testConnector", "key", "first", "bpn");
+        verify(controlPlaneClient, times(1)).getCatalogWithFilter("testConnector", "key", "third", "bpn");
+        verify(controlPlaneClient, times(2)).getCatalogWithFilter("testConnector", "key", "second", "bpn");
+    }
+
+    @Test
+    void shouldFetchCatalogAgainAfterInvalidation() {
+        // arrange
+        final Catalog catalog = createCatalog("testTarget", createPolicy(), "BPN000123456", "offerId");
+        when(controlPlaneClient.getCatalogWithFilter(any(), any(), any(), any())).thenReturn(catalog);
+        edcCatalogFacade.fetchCatalogByFilter("testConnector", "key", "value", "bpn");
+        edcCatalogFacade.fetchCatalogByFilter("otherConnector", "key", "value", "bpn");
+
+        // act
+        edcCatalogFacade.invalidateCatalog("testConnector", "bpn");
+        edcCatalogFacade.fetchCatalogByFilter("testConnector", "key", "value", "bpn");
+        edcCatalogFacade.fetchCatalogByFilter("otherConnector", "key", "value", "bpn");
+
+        // assert
+        verify(controlPlaneClient, times(2)).getCatalogWithFilter("testConnector", "key", "value", "bpn");
+        verify(controlPlaneClient, times(1)).getCatalogWithFilter("otherConnector", "key", "value", "bpn");
+    }
+
+    @Test
+    void shouldServeAllAssetsOfConnectorFromOnePrefetchedCatalog() {
+        // arrange
+        edcConfig.getControlplane().setCatalogLimit(1000);
+        final var firstPage = createCatalog("asset", DEFAULT_PAGE_SIZE);
+        final var secondPage = createCatalog("otherAsset", 2);
+        when(controlPlaneClient.getCatalog("testConnector", 0, "bpn")).thenReturn(firstPage);
+        when(controlPlaneClient.getCatalog("testConnector", 3, "bpn")).thenReturn(secondPage);
+
+        // act
+        final List<CatalogItem> results = Stream.of("asset0", "asset1", "asset2", "otherAsset0", "otherAsset1")
+                                                .flatMap(assetId -> edcCatalogFacade.fetchCatalogItemsForAsset(
+                                                        "testConnector", assetId, "bpn").stream())
+                                                .toList();
+
+        // assert
+        assertThat(results).extracting(CatalogItem::getAssetPropId)
+                           .containsExactly("asset0", "asset1", "asset2", "otherAsset0", "otherAsset1");
+        verify(controlPlaneClient, times(2)).getCatalog(any(), anyInt(), any());
+        verify(controlPlaneClient, never()).getCatalogWithFilter(any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldFallBackToFilteredRequestForAssetMissingInPrefetchedCatalog() {
+        // arrange
+        final Catalog catalog = createCatalog("testTarget", createPolicy(), "BPN000123456", "offerId");
+        when(controlPlaneClient.getCatalog("testConnector", 0, "bpn")).thenReturn(createCatalog("asset", 2));
+        when(controlPlaneClient.getCatalogWithFilter(any(), any(), any(), any())).thenReturn(catalog);
+
+        // act
+        final List<CatalogItem> result = edcCatalogFacade.fetchCatalogItemsForAsset("testConnector", "testTarget",
+                "bpn");
+
+        // assert
+        assertThat(result).hasSize(1);
+        verify(controlPlaneClient, times(1)).getCatalog("testConnector", 0, "bpn");
+        verify(controlPlaneClient).getCatalogWithFilter(eq("testConnector"), any(), eq("testTarget"), eq("bpn"));
+    }
+
+    @Test
+    void shouldNotPrefetchCatalogWithoutCacheTtl() {
+        // arrange
+        final Catalog catalog = createCatalog("testTarget", createPolicy(), "BPN000123456", "offerId");
+        when(controlPlaneClient.getCatalogWithFilter(any(), any(), any(), any())).thenReturn(catalog);
+        edcConfig.getControlplane().getCatalogCache().setTtl(Duration.ZERO);
+
+        // act
+        final List<CatalogItem> result = edcCatalogFacade.fetchCatalogItemsForAsset("testConnector", "testTarget",
+                "bpn");
+
+        // assert
+        assertThat(result).hasSize(1);
+        verify(controlPlaneClient, never()).getCatalog(any(), anyInt(), any());
+        verify(controlPlaneClient).getCatalogWithFilter(eq("testConnector"), any(), eq("testTarget"), eq("bpn"));
+    }
+
+    private static Policy createPolicy() {
+        return Policy.Builder.newInstance()
+                             .type(PolicyType.OFFER)
+                             .permissions(List.of())
+                             .prohibitions(List.of())
+                             .duties(List.of())
+                             .build();
+    }
+}
@@ -27,14 +27,17 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
 import org.junit.jupiter.api.Test;
 
 class EdcCallbackControllerTest {
 
-    private final EndpointDataReferenceStorage storage = new EndpointDataReferenceStorage(Duration.ofMinutes(1));
-    private final EdcCallbackController testee = new EdcCallbackController(storage);
+    private final EndpointDataReferenceStorage storage = new EndpointDataReferenceStorage(Duration.ofMinutes(1), 1000);
+    private final ControlPlaneCallbackRegistry callbackRegistry = new ControlPlaneCallbackRegistry(
+            Duration.ofMinutes(1));
+    private final EdcCallbackController testee = new EdcCallbackController(storage, callbackRegistry);
 
     @Test
     void shouldStoreAgreementId() {
@@ -77,6 +80,102 @@ class EdcCallbackControllerTest {
         assertThat(result.get().getAuthCode()).isEqualTo(expectedAuthCode);
     }
 
+    @Test
+    void shouldCompleteWaiterWhenCallbackIsReceived() {
+        // arrange
+        final String ref = """
+                {
+                    "id": "bc916834-61b8-4754-b3e2-1eb041d253c2",
+                    "at": 1714645750814,
+                    "payload": {
+                        "assetId": "urn:uuid:df3aa078-567a-4b39-afa1-c92f32e6eaad",
+                        "contractId": "testContractId",
+                        "dataAddress": {
+                            "properties": {
+                                "process_id": "testid",
+                                "https://w3id.org/edc/v0.0.1/ns/endpoint": "test",
+                                "asset_id": "urn:uuid:df3aa078-567a-4b39-afa1-c92f32e6eaad",
+                                "agreement_id": "testContractId",
+                                "https://w3id.org/edc/v0.0.1/ns/authorization": "testToken"
+                            }
+                        }
+                    }
+                }
+                """;
+        final CompletableFuture<EndpointDataReference> waiter = storage.await("testContractId");
+        assertThat(waiter).isNotDone();
+
+        // act
+        testee.receiveEdcCallback(ref);
+
+        // assert
+        assertThat(waiter).isCompleted();
+        assertThat(waiter.join().getId()).isEqualTo("testid");
+        assertThat(storage.await("testContractId")).isCompleted();
+    }
+
+    @Test
+    void shouldCompleteContractNegotiationWhenFinalizedCallbackIsReceived() {
+        // arrange
+        final String callback = """
+                {
+                    "id": "9e8f3a47-1d2c-4f5b-8a6e-7b0c1d2e3f4a",
+                    "at": 1714645750814,
+                    "payload": {
+                        "contractNegotiationId": "testNegotiationId",
+                        "counterPartyAddress": "https://provider.edc/api/v1/dsp",
+                        "counterPartyId": "BPNL00000000TEST",
+                        "protocol": "dataspace-protocol-http",
+                        "contractAgreement": {
+                            "id": "testContractId",
+                            "assetId": "urn:uuid:df3aa078-567a-4b39-afa1-c92f32e6eaad"
+                        }
+                    },
+                    "type": "ContractNegotiationFinalized"
+                }
+                """;
+        final CompletableFuture<String> contractAgreementId = callbackRegistry.awaitContractAgreementId(
+                "testNegotiationId");
+
+        // act
+        testee.receiveEdcCallback(callback);
+
+        // assert
+        assertThat(contractAgreementId).isCompletedWithValue("testContractId");
+        assertThat(storage.get("testContractId")).isEmpty();
+    }
+
+    @Test
+    void shouldCompleteTransferProcessWhenEDRIsReceived() {
+        // arrange
+        final String ref = """
+                {
+                    "id": "bc916834-61b8-4754-b3e2-1eb041d253c2",
+                    "at": 1714645750814,
+                    "payload": {
+                        "transferProcessId": "testTransferProcessId",
+                        "assetId": "urn:uuid:df3aa078-567a-4b39-afa1-c92f32e6eaad",
+                        "contractId": "testContractId",
+                        "dataAddress": {
+                            "properties": {
+                                "process_id": "testid",
+                                "https://w3id.org/edc/v0.0.1/ns/endpoint": "test",
+                                "agreement_id": "testContractId",
+                                "https://w3id.org/edc/v0.0.1/ns/authorization": "testToken"
+                            }
+                        }
+                    },
+                    "type": "TransferProcessStarted"
+                }
+                """;
+
+        // act
+        testee.receiveEdcCallback(ref);
+
+        // assert
+        assertThat(callbackRegistry.awaitTransferProcessStarted("testTransferProcessId")).isCompleted();
+    }
+
     @Test
     void shouldDoNothingWhenEDRTokenIsInvalid() {
         // arrange
@@ -31,8 +31,12 @@ import static org.eclipse.tractusx.irs.edc.client.EdcControlPlaneClient.STATUS_T
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atMost;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.nio.charset.StandardCharsets;
@@ -80,6 +84,8 @@ class EdcControlPlaneClientTest {
 
     @Mock
     private EdcTransformer edcTransformer;
+    @Spy
+    private ControlPlaneCallbackRegistry callbackRegistry = new ControlPlaneCallbackRegistry(Duration.ofMinutes(1));
     @InjectMocks
     private EdcControlPlaneClient testee;
 
@@ -180,14 +186,8 @@ class EdcControlPlaneClientTest {
     void shouldReturnCancelWhenStateTerminated() {
         // arrange
         final var negotiationId = Response.builder().responseId("negotiationId").build();
-        final var negotiationResult = NegotiationResponse.builder()
-                                                         .contractAgreementId("testContractId")
-                                                         .state(STATUS_TERMINATED)
-                                                         .build();
         final var finalized = NegotiationState.builder().state(STATUS_TERMINATED).build();
 
-        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(), eq(NegotiationResponse.class))).thenReturn(
-                ResponseEntity.of(Optional.of(negotiationResult)));
         when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(), eq(NegotiationState.class))).thenReturn(
                 ResponseEntity.of(Optional.of(finalized)));
 
@@ -218,13 +218,7 @@ class EdcControlPlaneClientTest {
     void shouldReturnCompletedTransferProcessResult() throws Exception {
         // arrange
         final var processId = Response.builder().responseId("transferProcessId").build();
-        final var response = TransferProcessResponse.builder()
-                                                    .responseId("testResponse")
-                                                    .state(STATUS_COMPLETED)
-                                                    .build();
         final var finalized = NegotiationState.builder().state(STATUS_COMPLETED).build();
-        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(),
-                eq(TransferProcessResponse.class))).thenReturn(ResponseEntity.of(Optional.of(response)));
         when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(), eq(NegotiationState.class))).thenReturn(
                 ResponseEntity.of(Optional.of(finalized)));
 
@@ -233,6 +227,61 @@ class EdcControlPlaneClientTest {
         final TransferProcessResponse transferProcessResponse = result.get(5, TimeUnit.SECONDS);
 
         // assert
-        assertThat(transferProcessResponse).isEqualTo(response);
+        assertThat(transferProcessResponse.getResponseId()).isEqualTo("transferProcessId");
+        assertThat(transferProcessResponse.getState()).isEqualTo(STATUS_COMPLETED);
+        verify(restTemplate, never()).exchange(anyString(), eq(HttpMethod.GET), any(),
+                eq(TransferProcessResponse.class));
+    }
+
+    @Test
+    void shouldReturnNegotiationResultWhenFinalizedByCallback() throws Exception {
+        // arrange
+        final var negotiationId = Response.builder().responseId("negotiationId").build();
+        final var requested = NegotiationState.builder().state("REQUESTED").build();
+        lenient().when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(), eq(NegotiationState.class)))
+                 .thenReturn(ResponseEntity.of(Optional.of(requested)));
+
+        // act
+        final var result = testee.getNegotiationResult(negotiationId);
+        callbackRegistry.contractNegotiationFinalized("negotiationId", "testContractId");
+        final NegotiationResponse response = result.get(5, TimeUnit.SECONDS);
+
+        // assert
+        assertThat(response.getContractAgreementId()).isEqualTo("testContractId");
+        assertThat(response.getState()).isEqualTo(STATUS_FINALIZED);
+    }
+
+    @Test
+    void shouldReturnTransferProcessWhenStartedByCallback() throws Exception {
+        // arrange
+        final var processId = Response.builder().responseId("transferProcessId").build();
+        callbackRegistry.transferProcessStarted("transferProcessId");
+
+        // act
+        final var result = testee.getTransferProcess(processId);
+        final TransferProcessResponse transferProcessResponse = result.get(5, TimeUnit.SECONDS);
+
+        // assert
+        assertThat(transferProcessResponse.getResponseId()).isEqualTo("transferProcessId");
+    }
+
+    @Test
+    void shouldPollStateWithIncreasingInterval() throws Exception {
+        // arrange
+        config.getControlplane().setStatePollInterval(Duration.ofMillis(50));
+        config.getControlplane().setMaxStatePollInterval(Duration.ofMillis(400));
+        final var negotiationId = Response.builder().responseId("negotiationId").build();
+        final var requested = NegotiationState.builder().state("REQUESTED").build();
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(), eq(NegotiationState.class))).thenReturn(
+                ResponseEntity.of(Optional.of(requested)));
+
+        // act
+        final var result = testee.getNegotiationResult(negotiationId);
+        Thread.sleep(1000);
+        result.cancel(true);
+
+        // assert
+        // polls at 0, 50, 150, 350 and 750 ms instead of 20 polls with a fixed interval of 50 ms
+        verify(restTemplate, atMost(6)).exchange(anyString(), eq(HttpMethod.GET), any(), eq(NegotiationState.class));
     }
-}
\ No newline at end of file
+}
@@ -29,6 +29,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 
 import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
@@ -63,8 +64,8 @@ class EdcDataPlaneClientTest {
                                                                            .id("testid")
                                                                            .contractId("testContractId")
                                                                            .build();
-        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(), eq(String.class))).thenReturn(
-                ResponseEntity.of(Optional.of(expectedData)));
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(), eq(byte[].class))).thenReturn(
+                ResponseEntity.of(Optional.of(expectedData.getBytes(StandardCharsets.UTF_8))));
 
         // act
         final String result = testee.getData(dataRef, "");
@@ -95,4 +96,42 @@ class EdcDataPlaneClientTest {
         assertThat(result.deliveredSuccessfully()).isTrue();
 
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldUnwrapEmbeddedData() {
+        // arrange
+        final String envelope = "{\"data\":\"{\\\"catenaXId\\\":\\\"urn:uuid:1\\\","
+                + "\\\"path\\\":\\\"C:\\\\\\\\tmp\\\"}\"}";
+        final byte[] response = envelope.getBytes(StandardCharsets.UTF_8);
+
+        // act
+        final String result = EdcDataPlaneClient.extractEmbeddedData(response);
+
+        // assert
+        assertThat(result).isEqualTo("{\"catenaXId\":\"urn:uuid:1\",\"path\":\"C:\\\\tmp\"}");
+    }
+
+    @Test
+    void shouldUnwrapNestedEmbeddedData() {
+        // arrange
+        final byte[] response = "{\"data\": \"{\\\"data\\\": \\\"payload\\\"}\"}".getBytes(StandardCharsets.UTF_8);
+
+        // act
+        final String result = EdcDataPlaneClient.extractEmbeddedData(response);
+
+        // assert
+        assertThat(result).isEqualTo("payload");
+    }
+
+    @Test
+    void shouldReturnResponseWithAdditionalFieldsUnchanged() {
+        // arrange
+        final String payload = "{\"data\":\"payload\",\"other\":\"value\"}";
+
+        // act
+        final String result = EdcDataPlaneClient.extractEmbeddedData(payload.getBytes(StandardCharsets.UTF_8));
+
+        // assert
+        assertThat(result).isEqualTo(payload);
+    }
+}
@@ -26,9 +26,12 @@ package org.eclipse.tractusx.irs.edc.client;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
+import static org.awaitility.Awaitility.await;
 import static org.eclipse.tractusx.irs.edc.client.cache.endpointdatareference.EndpointDataReferenceStatus.TokenStatus;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -50,14 +53,18 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
 
 import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
 import org.eclipse.tractusx.irs.component.GlobalAssetIdentification;
@@ -67,6 +74,7 @@ import org.eclipse.tractusx.irs.component.enums.BomLifecycle;
 import org.eclipse.tractusx.irs.component.enums.Direction;
 import org.eclipse.tractusx.irs.data.StringMapper;
 import org.eclipse.tractusx.irs.edc.client.cache.endpointdatareference.EndpointDataReferenceCacheService;
+import org.eclipse.tractusx.irs.edc.client.cache.endpointdatareference.EndpointDataReferenceRefresher;
 import org.eclipse.tractusx.irs.edc.client.cache.endpointdatareference.EndpointDataReferenceStatus;
 import org.eclipse.tractusx.irs.edc.client.exceptions.ContractNegotiationException;
 import org.eclipse.tractusx.irs.edc.client.exceptions.EdcClientException;
@@ -87,6 +95,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -112,6 +121,7 @@ class EdcSubmodelClientTest extends LocalTestDataConfigurationAware {
     private EdcConfiguration config;
 
     private final RetryRegistry retryRegistry = RetryRegistry.ofDefaults();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
 
     @Mock
     private ContractNegotiationService contractNegotiationService;
@@ -125,6 +135,9 @@ class EdcSubmodelClientTest extends LocalTestDataConfigurationAware {
     @Mock
     private EndpointDataReferenceCacheService endpointDataReferenceCacheService;
 
+    @Mock
+    private EndpointDataReferenceRefresher endpointDataReferenceRefresher;
+
     private EdcSubmodelClient testee;
 
     EdcSubmodelClientTest() throws IOException {
@@ -135,9 +148,12 @@ class EdcSubmodelClientTest extends LocalTestDataConfigurationAware {
     void setUp() {
         when(config.getControlplane().getRequestTtl()).thenReturn(Duration.ofMinutes(10));
         when(config.getSubmodel().getRequestTtl()).thenReturn(Duration.ofMinutes(10));
+        lenient().when(endpointDataReferenceCacheService.awaitEndpointDataReferenceInStorage(any()))
+                 .thenReturn(new CompletableFuture<>());
 
         testee = new EdcSubmodelClientImpl(config, contractNegotiationService, edcDataPlaneClient, pollingService,
-                retryRegistry, catalogFacade, endpointDataReferenceCacheService);
+                retryRegistry, catalogFacade, endpointDataReferenceCacheService, meterRegistry,
+                endpointDataReferenceRefresher);
     }
 
     @Test
@@ -167,6 +183,48 @@ class EdcSubmodelClientTest extends LocalTestDataConfigurationAware {
         assertThat(resultingRelationships).isNotNull().isEqualTo(singleLevelBomAsBuiltJson);
     }
 
+    @Test
+    void shouldShareNegotiationBetweenConcurrentRequestsForSameAsset() throws Exception {
+        // arrange
+        when(config.getControlplane().getProviderSuffix()).thenReturn(PROVIDER_SUFFIX);
+
+        final String agreementId = "agreementId";
+        when(catalogFacade.fetchCatalogByFilter(any(), any(), any(), any())).thenReturn(
+                List.of(CatalogItem.builder().itemId("itemId").build()));
+        when(contractNegotiationService.negotiate(any(), any(), any(), any())).thenAnswer(invocation -> {
+            // keep the negotiation in progress until the second request joined it
+            await().atMost(5, TimeUnit.SECONDS).until(() -> negotiationCount("coalesced") == 1);
+            return NegotiationResponse.builder().contractAgreementId(agreementId).build();
+        });
+        final EndpointDataReference ref = TestMother.endpointDataReference(agreementId);
+        when(endpointDataReferenceCacheService.getEndpointDataReferenceFromStorage(agreementId)).thenReturn(
+                Optional.of(ref));
+        when(edcDataPlaneClient.getData(eq(ref), any())).thenReturn("payload");
+        when(endpointDataReferenceCacheService.getEndpointDataReference("assetId")).thenReturn(
+                new EndpointDataReferenceStatus(null, TokenStatus.REQUIRED_NEW));
+        final Callable<String> request = () -> testee.getSubmodelPayload(ENDPOINT_ADDRESS, "suffix", "assetId", "bpn")
+                                                     .get(5, TimeUnit.SECONDS)
+                                                     .getPayload();
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // act
+        final List<Future<String>> results = executor.invokeAll(List.of(request, request), 10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // assert
+        for (final Future<String> result : results) {
+            assertThat(result.get()).isEqualTo("payload");
+        }
+        verify(contractNegotiationService, times(1)).negotiate(any(), any(), any(), any());
+        verify(endpointDataReferenceCacheService, times(1)).putEndpointDataReferenceIntoStorage("assetId", ref);
+        assertThat(negotiationCount("fresh")).isEqualTo(1);
+        assertThat(negotiationCount("coalesced")).isEqualTo(1);
+    }
+
+    private double negotiationCount(final String type) {
+        return meterRegistry.counter("edc.negotiations", "type", type).count();
+    }
+
     @Test
     void shouldSendNotificationSuccessfully() throws Exception {
         // arrange
@@ -419,6 +477,25 @@ class EdcSubmodelClientTest extends LocalTestDataConfigurationAware {
         assertThat(actual).isEqualTo(expected);
     }
 
+    @Test
+    void shouldInvalidateCachedCatalogWhenNegotiationFails() throws Exception {
+        // arrange
+        when(config.getControlplane().getProviderSuffix()).thenReturn(PROVIDER_SUFFIX);
+        when(catalogFacade.fetchCatalogByFilter(any(), any(), any(), any())).thenReturn(
+                List.of(CatalogItem.builder().itemId("asset-id").build()));
+        when(contractNegotiationService.negotiate(any(), any(), any(), any())).thenThrow(
+                new ContractNegotiationException(new RuntimeException("contract negotiation failed")));
+
+        // act
+        final List<CompletableFuture<EndpointDataReference>> result = testee.getEndpointReferencesForAsset(
+                ENDPOINT_ADDRESS, "filter-key", "filter-value",
+                new EndpointDataReferenceStatus(null, TokenStatus.REQUIRED_NEW), "bpn");
+
+        // assert
+        assertThat(result.get(0)).isCompletedExceptionally();
+        verify(catalogFacade).invalidateCatalog(ENDPOINT_ADDRESS + PROVIDER_SUFFIX, "bpn");
+    }
+
     /**
      * This test asserts that when an exception occurs during negotiation it will not result in a {@link ClassCastException}.
      *
@@ -586,6 +663,47 @@ class EdcSubmodelClientTest extends LocalTestDataConfigurationAware {
         verify(endpointDataReferenceCacheService, times(1)).putEndpointDataReferenceIntoStorage("assetId", ref);
     }
 
+    @Test
+    void shouldRemoveOutdatedReferenceBeforeRenewingExpiredToken() throws EdcClientException {
+        // arrange
+        when(config.getControlplane().getProviderSuffix()).thenReturn(PROVIDER_SUFFIX);
+
+        final String agreementId = "agreementId";
+        final EndpointDataReference expiredReference = TestMother.endpointDataReference(agreementId);
+        final EndpointDataReferenceStatus expiredStatus = new EndpointDataReferenceStatus(expiredReference,
+                TokenStatus.EXPIRED);
+        when(endpointDataReferenceCacheService.getEndpointDataReference(any())).thenReturn(expiredStatus);
+        when(catalogFacade.fetchCatalogByFilter(any(), any(), any(), any())).thenReturn(
+                List.of(CatalogItem.builder().itemId("itemId").build()));
+        final EndpointDataReference renewedReference = mock(EndpointDataReference.class);
+        when(endpointDataReferenceCacheService.getEndpointDataReferenceFromStorage(agreementId)).thenReturn(
+                Optional.of(renewedReference));
+
+        // act
+        testee.getSubmodelPayload(ENDPOINT_ADDRESS, "suffix", "assetId", "bpn");
+
+        // assert
+        final InOrder inOrder = inOrder(endpointDataReferenceCacheService, contractNegotiationService);
+        inOrder.verify(endpointDataReferenceCacheService).removeEndpointDataReferenceFromStorage(agreementId);
+        inOrder.verify(contractNegotiationService).negotiate(any(), any(), eq(expiredStatus), any());
+        verify(endpointDataReferenceCacheService).putEndpointDataReferenceIntoStorage("assetId", renewedReference);
+    }
+
+    @Test
+    void shouldRecordUsageOfEndpointDataReferenceForProactiveRefresh() throws EdcClientException {
+        // arrange
+        final EndpointDataReference reference = TestMother.endpointDataReference("assetId");
+        when(endpointDataReferenceCacheService.getEndpointDataReference(any())).thenReturn(
+                new EndpointDataReferenceStatus(reference, TokenStatus.VALID));
+
+        // act
+        testee.getSubmodelPayload(ENDPOINT_ADDRESS, "suffix", "assetId", "bpn");
+
+        // assert
+        verify(endpointDataReferenceRefresher).recordUsage(eq("assetId"), eq(reference), any());
+        assertThat(meterRegistry.counter("edc.edr.lookups", "status", "valid").count()).isEqualTo(1);
+    }
+
     private void prepareTestdata(final String catenaXId, final String submodelDataSuffix)
             throws ContractNegotiationException, IOException, UsagePolicyPermissionException, TransferProcessException,
             UsagePolicyExpiredException {
@@ -0,0 +1,114 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.edc.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
+import org.junit.jupiter.api.Test;
+
+class EndpointDataReferenceStorageTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldReturnStoredReferenceAndCountHitsAndMisses() {
+        // arrange
+        final EndpointDataReferenceStorage storage = createStorage(Duration.ofMinutes(1), 10);
+        storage.put("assetId", reference("edr-1"));
+
+        // act
+        final var stored = storage.get("assetId");
+        final var missing = storage.get("unknown");
+
+        // assert
+        assertThat(stored).map(EndpointDataReference::getId).contains("edr-1");
+        assertThat(missing).isEmpty();
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotReturnExpiredReference() {
+        // arrange
+        final EndpointDataReferenceStorage storage = createStorage(Duration.ofMillis(50), 10);
+
+        // act
+        storage.put("assetId", reference("edr-1"));
+
+        // assert
+        await().atMost(Duration.ofSeconds(1)).until(() -> storage.get("assetId").isEmpty());
+        assertThat(meterRegistry.get("cache.evictions").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldEvictEldestReferenceWhenMaxSizeIsExceeded() {
+        // arrange
+        final EndpointDataReferenceStorage storage = createStorage(Duration.ofMinutes(1), 2);
+        storage.put("first", reference("edr-1"));
+        storage.put("second", reference("edr-2"));
+        // updating moves the reference to the end of the eviction order
+        storage.put("first", reference("edr-3"));
+
+        // act
+        storage.put("third", reference("edr-4"));
+
+        // assert
+        assertThat(storage.get("second")).isEmpty();
+        assertThat(storage.get("first")).map(EndpointDataReference::getId).contains("edr-3");
+        assertThat(storage.get("third")).isPresent();
+        assertThat(meterRegistry.get("cache.size").gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("cache.evictions").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCompleteWaiterWhenReferenceIsStored() {
+        // arrange
+        final EndpointDataReferenceStorage storage = createStorage(Duration.ofMinutes(1), 10);
+        final CompletableFuture<EndpointDataReference> waiter = storage.await("contractId");
+
+        // act
+        storage.put("contractId", reference("edr-1"));
+
+        // assert
+        assertThat(waiter).isCompletedWithValueMatching(reference -> "edr-1".equals(reference.getId()));
+        assertThat(storage.await("contractId")).isCompleted();
+    }
+
+    private EndpointDataReferenceStorage createStorage(final Duration storageDuration, final int maxSize) {
+        final EndpointDataReferenceStorage storage = new EndpointDataReferenceStorage(storageDuration, maxSize);
+        storage.bindTo(meterRegistry);
+        return storage;
+    }
+
+    private static EndpointDataReference reference(final String id) {
+        return EndpointDataReference.Builder.newInstance()
+                                            .id(id)
+                                            .endpoint("http://provider.dataplane/api/public")
+                                            .authKey("Authorization")
+                                            .authCode("authCode")
+                                            .contractId("contractId")
+                                            .build();
+    }
+}
@@ -49,19 +49,25 @@ import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
 import com.github.tomakehurst.wiremock.junit5.WireMockTest;
 import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.assertj.core.api.ThrowableAssert;
 import org.eclipse.edc.policy.model.PolicyRegistrationTypes;
 import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
 import org.eclipse.tractusx.irs.data.StringMapper;
+import org.eclipse.tractusx.irs.edc.client.cache.contractagreement.ContractAgreementCache.InMemoryContractAgreementCache;
 import org.eclipse.tractusx.irs.edc.client.cache.endpointdatareference.EndpointDataReferenceCacheService;
+import org.eclipse.tractusx.irs.edc.client.cache.endpointdatareference.EndpointDataReferenceRefresher;
 import org.eclipse.tractusx.irs.edc.client.configuration.JsonLdConfiguration;
 import org.eclipse.tractusx.irs.edc.client.exceptions.EdcClientException;
 import org.eclipse.tractusx.irs.edc.client.exceptions.UsagePolicyPermissionException;
@@ -80,11 +86,13 @@ import org.eclipse.tractusx.irs.edc.client.policy.PolicyType;
 import org.eclipse.tractusx.irs.testing.wiremock.SubmodelFacadeWiremockSupport;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+@Slf4j
 @WireMockTest
 class SubmodelFacadeWiremockTest {
 
@@ -97,6 +105,7 @@ class SubmodelFacadeWiremockTest {
             new Operator(OperatorType.EQ), TRACEABILITY_1_0);
     private final static Constraint CONSTRAINT_INDUSTRY_CORE = new Constraint(CX_POLICY_USAGE_PURPOSE,
             new Operator(OperatorType.EQ), CX_CORE_INDUSTRYCORE_1);
+    private static final Duration CALLBACK_DELAY = Duration.ofMillis(200);
 
     private EndpointDataReferenceStorage storage;
 
@@ -116,6 +125,7 @@ class SubmodelFacadeWiremockTest {
         config.getControlplane().getEndpoint().setStateSuffix("/state");
         config.getControlplane().setRequestTtl(Duration.ofSeconds(5));
         config.getControlplane().setProviderSuffix("/api/v1/dsp");
+        config.getControlplane().getDatareference().setFallbackPollInterval(Duration.ofMinutes(1));
         config.getSubmodel().setUrnPrefix("/urn");
         config.setCallbackUrl("http://callback.endpoint");
 
@@ -132,12 +142,12 @@ class SubmodelFacadeWiremockTest {
                 Executors.newScheduledThreadPool(1));
 
         final EdcControlPlaneClient controlPlaneClient = new EdcControlPlaneClient(restTemplate, pollingService, config,
-                createEdcTransformer());
+                createEdcTransformer(), new ControlPlaneCallbackRegistry(Duration.ofMinutes(1)));
         final EdcDataPlaneClient dataPlaneClient = new EdcDataPlaneClient(restTemplate);
 
         final EDCCatalogFacade catalogFacade = new EDCCatalogFacade(controlPlaneClient, config);
 
-        storage = new EndpointDataReferenceStorage(Duration.ofMinutes(1));
+        storage = new EndpointDataReferenceStorage(Duration.ofMinutes(1), 1000);
         final EndpointDataReferenceCacheService endpointDataReferenceCacheService = new EndpointDataReferenceCacheService(
                 storage);
 
@@ -148,11 +158,15 @@ class SubmodelFacadeWiremockTest {
         final PolicyCheckerService policyCheckerService = new PolicyCheckerService(acceptedPoliciesProvider,
                 new ConstraintCheckerService());
         final ContractNegotiationService contractNegotiationService = new ContractNegotiationService(controlPlaneClient,
-                policyCheckerService, config);
+                policyCheckerService, config, new InMemoryContractAgreementCache(Duration.ofDays(1)),
+                endpointDataReferenceCacheService);
 
         final RetryRegistry retryRegistry = RetryRegistry.ofDefaults();
         this.edcSubmodelClient = new EdcSubmodelClientImpl(config, contractNegotiationService, dataPlaneClient,
-                pollingService, retryRegistry, catalogFacade, endpointDataReferenceCacheService);
+                pollingService, retryRegistry, catalogFacade, endpointDataReferenceCacheService,
+                new SimpleMeterRegistry(),
+                new EndpointDataReferenceRefresher(config.getControlplane().getDatareference(),
+                        new SimpleMeterRegistry(), Executors.newSingleThreadScheduledExecutor()));
     }
 
     @Test
@@ -226,6 +240,76 @@ class SubmodelFacadeWiremockTest {
         assertThat(submodel).isEqualTo("test");
     }
 
+    @Test
+    void shouldCompleteAsSoonAsEndpointDataReferenceIsReceivedByCallback() throws Exception {
+        // Arrange
+        final String contractAgreementId = SubmodelFacadeWiremockSupport.prepareNegotiation();
+        givenThat(get(urlPathEqualTo(SUBMODEL_DATAPLANE_PATH)).willReturn(responseWithStatus(200).withBody("test")));
+        acceptIrsPolicy();
+        final ScheduledExecutorService callbackSimulator = Executors.newSingleThreadScheduledExecutor();
+
+        // Act
+        final long start = System.nanoTime();
+        callbackSimulator.schedule(
+                () -> storage.put(contractAgreementId, createEndpointDataReference(contractAgreementId)),
+                CALLBACK_DELAY.toMillis(), TimeUnit.MILLISECONDS);
+        final String submodel = edcSubmodelClient.getSubmodelPayload(CONNECTOR_ENDPOINT_URL, SUBMODEL_DATAPLANE_URL,
+                ASSET_ID, "bpn").get(5, TimeUnit.SECONDS).getPayload();
+        final Duration latency = Duration.ofNanos(System.nanoTime() - start);
+        callbackSimulator.shutdown();
+
+        // Assert
+        assertThat(submodel).isEqualTo("test");
+        // the fallback poll interval is one minute, so only the callback can have completed the request in time
+        assertThat(latency).isLessThan(Duration.ofSeconds(5));
+    }
+
+    /**
+     * Measures the time from the simulated EDC callback until the submodel request completes.
+     * Run with {@code -Dirs.benchmark=true}.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "irs.benchmark", matches = "true")
+    void benchmarkLatencyAfterEndpointDataReferenceCallback() throws Exception {
+        // Arrange
+        final int iterations = 50;
+        givenThat(get(urlPathEqualTo(SUBMODEL_DATAPLANE_PATH)).willReturn(responseWithStatus(200).withBody("test")));
+        acceptIrsPolicy();
+        final ScheduledExecutorService callbackSimulator = Executors.newSingleThreadScheduledExecutor();
+        long totalMillis = 0;
+
+        // Act
+        for (int i = 0; i < iterations; i++) {
+            final String contractAgreementId = UUID.randomUUID().toString();
+            SubmodelFacadeWiremockSupport.prepareNegotiation(UUID.randomUUID().toString(),
+                    UUID.randomUUID().toString(), contractAgreementId,
+                    "5a7ab616-989f-46ae-bdf2-32027b9f6ee6-31b614f5-ec14-4ed2-a509-e7b7780083e7");
+            final long start = System.nanoTime();
+            callbackSimulator.schedule(
+                    () -> storage.put(contractAgreementId, createEndpointDataReference(contractAgreementId)),
+                    CALLBACK_DELAY.toMillis(), TimeUnit.MILLISECONDS);
+            edcSubmodelClient.getSubmodelPayload(CONNECTOR_ENDPOINT_URL, SUBMODEL_DATAPLANE_URL, ASSET_ID + i, "bpn")
+                             .get(5, TimeUnit.SECONDS);
+            totalMillis += (System.nanoTime() - start) / 1_000_000;
+        }
+        callbackSimulator.shutdown();
+
+        // Assert
+        final long averageMillis = totalMillis / iterations;
+        log.info("Average submodel latency with a callback after {} ms: {} ms", CALLBACK_DELAY.toMillis(),
+                averageMillis);
+        assertThat(averageMillis).isLessThan(Duration.ofSeconds(1).toMillis());
+    }
+
+    private void acceptIrsPolicy() {
+        final List<Constraint> andConstraints = List.of(CONSTRAINT_FRAMEWORK_AGREEMENT, CONSTRAINT_INDUSTRY_CORE);
+        final Permission permission = new Permission(PolicyType.USE,
+                new Constraints(andConstraints, new ArrayList<>()));
+        final AcceptedPolicy acceptedPolicy = new AcceptedPolicy(policy("IRS Policy", List.of(permission)),
+                OffsetDateTime.now().plusYears(1));
+        when(acceptedPoliciesProvider.getAcceptedPolicies(eq("bpn"))).thenReturn(List.of(acceptedPolicy));
+    }
+
     @Test
     void shouldThrowExceptionWhenPoliciesAreNotAccepted() {
         // Arrange
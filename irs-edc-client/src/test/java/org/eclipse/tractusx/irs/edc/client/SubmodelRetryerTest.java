@@ -35,8 +35,11 @@ import java.time.Duration;
 import java.util.concurrent.Executors;
 
 import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.github.resilience4j.retry.internal.InMemoryRetryRegistry;
+import org.eclipse.tractusx.irs.edc.client.cache.contractagreement.ContractAgreementCache.InMemoryContractAgreementCache;
 import org.eclipse.tractusx.irs.edc.client.cache.endpointdatareference.EndpointDataReferenceCacheService;
+import org.eclipse.tractusx.irs.edc.client.cache.endpointdatareference.EndpointDataReferenceRefresher;
 import org.eclipse.tractusx.irs.edc.client.cache.endpointdatareference.EndpointDataReferenceStatus;
 import org.eclipse.tractusx.irs.edc.client.policy.PolicyCheckerService;
 import org.junit.jupiter.api.BeforeEach;
@@ -71,18 +74,22 @@ class SubmodelExponentialRetryTest {
         config.getControlplane().setProviderSuffix("/ids");
 
         final EdcControlPlaneClient controlPlaneClient = new EdcControlPlaneClient(restTemplate, pollingService, config,
-                createEdcTransformer());
+                createEdcTransformer(), new ControlPlaneCallbackRegistry(Duration.ofMinutes(1)));
 
         final EDCCatalogFacade catalogFacade = new EDCCatalogFacade(controlPlaneClient, config);
 
         final ContractNegotiationService negotiationService = new ContractNegotiationService(controlPlaneClient,
-                policyCheckerService, config);
+                policyCheckerService, config, new InMemoryContractAgreementCache(Duration.ofDays(1)),
+                endpointDataReferenceCacheService);
         final EdcDataPlaneClient dataPlaneClient = new EdcDataPlaneClient(restTemplate);
         final EndpointDataReferenceStorage endpointDataReferenceStorage = new EndpointDataReferenceStorage(
-                Duration.ofMinutes(1));
+                Duration.ofMinutes(1), 1000);
 
         final EdcSubmodelClient client = new EdcSubmodelClientImpl(config, negotiationService, dataPlaneClient,
-                pollingService, retryRegistry, catalogFacade, endpointDataReferenceCacheService);
+                pollingService, retryRegistry, catalogFacade, endpointDataReferenceCacheService,
+                new SimpleMeterRegistry(),
+                new EndpointDataReferenceRefresher(config.getControlplane().getDatareference(),
+                        new SimpleMeterRegistry(), Executors.newSingleThreadScheduledExecutor()));
         testee = new EdcSubmodelFacade(client, config);
     }
 
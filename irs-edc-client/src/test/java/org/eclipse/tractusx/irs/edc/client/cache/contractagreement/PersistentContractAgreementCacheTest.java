@@ -0,0 +1,219 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.edc.client.cache.contractagreement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+import org.eclipse.tractusx.irs.common.persistence.BlobPersistence;
+import org.eclipse.tractusx.irs.common.persistence.BlobPersistenceException;
+import org.eclipse.tractusx.irs.data.StringMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PersistentContractAgreementCacheTest {
+
+    private static final ContractAgreementKey KEY = new ContractAgreementKey("https://provider", "asset", "hash");
+
+    @Mock
+    private BlobPersistence blobStore;
+
+    private PersistentContractAgreementCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PersistentContractAgreementCache(blobStore, Duration.ofDays(1));
+    }
+
+    @Test
+    void shouldStoreContractAgreementInBlobStore() throws BlobPersistenceException {
+        // arrange
+        final ArgumentCaptor<byte[]> blob = ArgumentCaptor.forClass(byte[].class);
+
+        // act
+        cache.put(KEY, "agreementId", null, null);
+
+        // assert
+        verify(blobStore).putBlob(eq("contract-agreement:" + KEY.id()), blob.capture());
+        assertThat(new String(blob.getValue(), StandardCharsets.UTF_8)).contains("agreementId");
+        assertThat(cache.findContractAgreementId(KEY)).contains("agreementId");
+    }
+
+    @Test
+    void shouldLoadContractAgreementFromBlobStoreAfterRestart() throws BlobPersistenceException {
+        // arrange
+        when(blobStore.getBlob("contract-agreement:" + KEY.id())).thenReturn(
+                Optional.of(blobOf(new ContractAgreementEntry("agreementId", Instant.now(), null))));
+
+        // act
+        final Optional<String> result = cache.findContractAgreementId(KEY);
+
+        // assert
+        assertThat(result).contains("agreementId");
+    }
+
+    @Test
+    void shouldIgnoreAndDeleteExpiredContractAgreement() throws BlobPersistenceException {
+        // arrange
+        final Instant negotiatedTwoDaysAgo = Instant.now().minus(Duration.ofDays(2));
+        when(blobStore.getBlob(anyString())).thenReturn(
+                Optional.of(blobOf(new ContractAgreementEntry("agreementId", negotiatedTwoDaysAgo, null))));
+
+        // act
+        final Optional<String> result = cache.findContractAgreementId(KEY);
+
+        // assert
+        assertThat(result).isEmpty();
+        verify(blobStore).delete(eq("contract-agreement:" + KEY.id()), any());
+    }
+
+    @Test
+    void shouldKeepContractAgreementUntilItsEndOfValidity() throws BlobPersistenceException {
+        // arrange
+        final Instant negotiatedTwoDaysAgo = Instant.now().minus(Duration.ofDays(2));
+        final Instant validForAnotherMonth = Instant.now().plus(Duration.ofDays(30));
+        when(blobStore.getBlob(anyString())).thenReturn(Optional.of(
+                blobOf(new ContractAgreementEntry("agreementId", negotiatedTwoDaysAgo, validForAnotherMonth))));
+
+        // act
+        final Optional<String> result = cache.findContractAgreementId(KEY);
+
+        // assert
+        assertThat(result).contains("agreementId");
+    }
+
+    @Test
+    void shouldIgnoreContractAgreementAfterItsEndOfValidity() throws BlobPersistenceException {
+        // arrange
+        final Instant expiredAnHourAgo = Instant.now().minus(Duration.ofHours(1));
+        when(blobStore.getBlob(anyString())).thenReturn(
+                Optional.of(blobOf(new ContractAgreementEntry("agreementId", Instant.now(), expiredAnHourAgo))));
+
+        // act
+        final Optional<String> result = cache.findContractAgreementId(KEY);
+
+        // assert
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void shouldTreatBlobStoreErrorsAsCacheMiss() throws BlobPersistenceException {
+        // arrange
+        when(blobStore.getBlob(anyString())).thenThrow(
+                new BlobPersistenceException("unavailable", new IllegalStateException()));
+
+        // act
+        final Optional<String> result = cache.findContractAgreementId(KEY);
+
+        // assert
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void shouldUseEndOfValidityOfAgreementEvenIfLongerThanTimeToLive() throws BlobPersistenceException {
+        // arrange
+        final Instant validForAnotherMonth = Instant.now().plus(Duration.ofDays(30));
+
+        // act
+        cache.put(KEY, "agreementId", validForAnotherMonth, null);
+
+        // assert
+        assertThat(storedEntry().validUntil()).isCloseTo(validForAnotherMonth, within(1, ChronoUnit.SECONDS));
+    }
+
+    @Test
+    void shouldKeepContractAgreementNoLongerThanTimeToLiveIfOnlyPolicyHasEndOfValidity()
+            throws BlobPersistenceException {
+        // arrange
+        final Instant policyValidForAnotherMonth = Instant.now().plus(Duration.ofDays(30));
+
+        // act
+        cache.put(KEY, "agreementId", null, policyValidForAnotherMonth);
+
+        // assert
+        assertThat(storedEntry().validUntil()).isBefore(Instant.now().plus(Duration.ofDays(1)).plusSeconds(1));
+    }
+
+    @Test
+    void shouldKeepContractAgreementNoLongerThanPolicyIsValid() throws BlobPersistenceException {
+        // arrange
+        final Instant policyValidForAnotherHour = Instant.now().plus(Duration.ofHours(1));
+
+        // act
+        cache.put(KEY, "agreementId", null, policyValidForAnotherHour);
+
+        // assert
+        assertThat(storedEntry().validUntil()).isCloseTo(policyValidForAnotherHour, within(1, ChronoUnit.SECONDS));
+    }
+
+    @Test
+    void shouldNotAskBlobStoreAgainForMissingContractAgreement() throws BlobPersistenceException {
+        // arrange
+        when(blobStore.getBlob(anyString())).thenReturn(Optional.empty());
+
+        // act
+        cache.findContractAgreementId(KEY);
+        final Optional<String> result = cache.findContractAgreementId(KEY);
+
+        // assert
+        assertThat(result).isEmpty();
+        verify(blobStore, times(1)).getBlob(anyString());
+    }
+
+    @Test
+    void shouldFindContractAgreementStoredAfterMiss() throws BlobPersistenceException {
+        // arrange
+        when(blobStore.getBlob(anyString())).thenReturn(Optional.empty());
+        cache.findContractAgreementId(KEY);
+
+        // act
+        cache.put(KEY, "agreementId", null, null);
+
+        // assert
+        assertThat(cache.findContractAgreementId(KEY)).contains("agreementId");
+    }
+
+    private ContractAgreementEntry storedEntry() throws BlobPersistenceException {
+        final ArgumentCaptor<byte[]> blob = ArgumentCaptor.forClass(byte[].class);
+        verify(blobStore).putBlob(anyString(), blob.capture());
+        return StringMapper.mapFromString(new String(blob.getValue(), StandardCharsets.UTF_8),
+                ContractAgreementEntry.class);
+    }
+
+    private static byte[] blobOf(final ContractAgreementEntry entry) {
+        return StringMapper.mapToString(entry).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,179 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.edc.client.cache.endpointdatareference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
+import org.eclipse.tractusx.irs.data.StringMapper;
+import org.eclipse.tractusx.irs.edc.client.EdcConfiguration;
+import org.eclipse.tractusx.irs.edc.client.exceptions.EdcClientException;
+import org.eclipse.tractusx.irs.edc.client.model.EDRAuthCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClientException;
+
+class EndpointDataReferenceRefresherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger refreshes = new AtomicInteger();
+    private EndpointDataReferenceRefresher testee;
+
+    @BeforeEach
+    void setUp() {
+        final var config = new EdcConfiguration.ControlplaneConfig.DataReferenceConfig();
+        config.setRefreshLeadTime(Duration.ofMinutes(1));
+        config.setRefreshMinUsages(2);
+        // checks are triggered explicitly by the tests
+        config.setRefreshCheckInterval(Duration.ofHours(1));
+        testee = new EndpointDataReferenceRefresher(config, meterRegistry,
+                Executors.newSingleThreadScheduledExecutor());
+    }
+
+    @AfterEach
+    void tearDown() {
+        testee.shutdown();
+    }
+
+    @Test
+    void shouldRefreshFrequentlyUsedReferenceBeforeExpiry() {
+        // arrange
+        final EndpointDataReference reference = referenceExpiringIn("edr-1", Duration.ofSeconds(30));
+        testee.recordUsage("assetId", reference, refreshes::incrementAndGet);
+        testee.recordUsage("assetId", reference, refreshes::incrementAndGet);
+
+        // act
+        testee.refreshDueReferences();
+
+        // assert
+        await().atMost(Duration.ofSeconds(5)).until(() -> refreshes.get() == 1);
+        await().atMost(Duration.ofSeconds(5))
+               .until(() -> meterRegistry.counter("edc.edr.refreshes", "result", "success").count() == 1);
+    }
+
+    @Test
+    void shouldNotRefreshRarelyUsedReference() {
+        // arrange
+        final EndpointDataReference reference = referenceExpiringIn("edr-1", Duration.ofSeconds(30));
+        testee.recordUsage("assetId", reference, refreshes::incrementAndGet);
+
+        // act
+        testee.refreshDueReferences();
+
+        // assert
+        assertThat(meterRegistry.counter("edc.edr.refreshes", "result", "skipped").count()).isEqualTo(1);
+        assertThat(refreshes.get()).isZero();
+    }
+
+    @Test
+    void shouldNotRefreshReferenceBeforeItIsDue() {
+        // arrange
+        final EndpointDataReference reference = referenceExpiringIn("edr-1", Duration.ofHours(1));
+        testee.recordUsage("assetId", reference, refreshes::incrementAndGet);
+        testee.recordUsage("assetId", reference, refreshes::incrementAndGet);
+
+        // act
+        testee.refreshDueReferences();
+
+        // assert
+        assertThat(meterRegistry.find("edc.edr.refreshes").counters()).isEmpty();
+        assertThat(meterRegistry.get("edc.edr.refresh.tracked").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldOnlyRefreshLatestReferenceOfAsset() {
+        // arrange
+        final EndpointDataReference outdated = referenceExpiringIn("edr-1", Duration.ofSeconds(30));
+        final EndpointDataReference renewed = referenceExpiringIn("edr-2", Duration.ofHours(1));
+        testee.recordUsage("assetId", outdated, refreshes::incrementAndGet);
+        testee.recordUsage("assetId", outdated, refreshes::incrementAndGet);
+        testee.recordUsage("assetId", renewed, refreshes::incrementAndGet);
+
+        // act
+        testee.refreshDueReferences();
+
+        // assert
+        assertThat(meterRegistry.find("edc.edr.refreshes").counters()).isEmpty();
+        assertThat(refreshes.get()).isZero();
+    }
+
+    @Test
+    void shouldCountFailedRefresh() {
+        // arrange
+        final EndpointDataReference reference = referenceExpiringIn("edr-1", Duration.ofSeconds(30));
+        final EndpointDataReferenceRefresher.Refresh failingRefresh = () -> {
+            throw new EdcClientException("negotiation failed");
+        };
+        testee.recordUsage("assetId", reference, failingRefresh);
+        testee.recordUsage("assetId", reference, failingRefresh);
+
+        // act
+        testee.refreshDueReferences();
+
+        // assert
+        await().atMost(Duration.ofSeconds(5))
+               .until(() -> meterRegistry.counter("edc.edr.refreshes", "result", "failure").count() == 1);
+    }
+
+    @Test
+    void shouldCountRefreshFailingWithRuntimeException() {
+        // arrange
+        final EndpointDataReference reference = referenceExpiringIn("edr-1", Duration.ofSeconds(30));
+        final EndpointDataReferenceRefresher.Refresh failingRefresh = () -> {
+            throw new RestClientException("control plane unavailable");
+        };
+        testee.recordUsage("assetId", reference, failingRefresh);
+        testee.recordUsage("assetId", reference, failingRefresh);
+
+        // act
+        testee.refreshDueReferences();
+
+        // assert
+        await().atMost(Duration.ofSeconds(5))
+               .until(() -> meterRegistry.counter("edc.edr.refreshes", "result", "failure").count() == 1);
+    }
+
+    private static EndpointDataReference referenceExpiringIn(final String id, final Duration timeToExpiry) {
+        final EDRAuthCode authCode = EDRAuthCode.builder()
+                                                .cid("contractId")
+                                                .dad("test")
+                                                .exp(Instant.now().plus(timeToExpiry).getEpochSecond())
+                                                .build();
+        final String encodedAuthCode = Base64.getUrlEncoder()
+                                             .encodeToString(StringMapper.mapToString(authCode)
+                                                                         .getBytes(StandardCharsets.UTF_8));
+        return EndpointDataReference.Builder.newInstance()
+                                            .id(id)
+                                            .endpoint("http://provider.dataplane/api/public")
+                                            .authKey("Authorization")
+                                            .authCode("eyJhbGciOiJSUzI1NiJ9." + encodedAuthCode + ".test")
+                                            .contractId("contractId")
+                                            .build();
+    }
+}
@@ -35,6 +35,7 @@ import static org.mockito.Mockito.when;
 import java.time.OffsetDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.tractusx.irs.edc.client.testutil.TestConstants;
@@ -302,4 +303,39 @@ class PolicyCheckerServiceTest {
         assertThat(result).isTrue();
     }
 
-}
\ No newline at end of file
+    @Test
+    void shouldReturnLatestEndOfValidityOfMatchingAcceptedPolicies() {
+        // given
+        final Constraint constraint = new Constraint(TestConstants.FRAMEWORK_AGREEMENT_TRACEABILITY,
+                new Operator(OperatorType.EQ), TestConstants.STATUS_ACTIVE);
+        final OffsetDateTime inOneMonth = OffsetDateTime.now().plusMonths(1);
+        final OffsetDateTime inOneYear = OffsetDateTime.now().plusYears(1);
+        final var policyList = List.of(
+                new AcceptedPolicy(policy("short-policy", List.of(constraint), List.of()), inOneMonth),
+                new AcceptedPolicy(policy("long-policy", List.of(constraint), List.of()), inOneYear));
+        when(policyStore.getAcceptedPolicies(any())).thenReturn(policyList);
+        Policy policy = createAtomicConstraintPolicy(TestConstants.FRAMEWORK_AGREEMENT_TRACEABILITY,
+                TestConstants.STATUS_ACTIVE);
+
+        // when
+        final Optional<OffsetDateTime> result = policyCheckerService.getValidUntil(policy, "bpn");
+
+        // then
+        assertThat(result).contains(inOneYear);
+    }
+
+    @Test
+    void shouldReturnNoEndOfValidityWhenNoAcceptedPolicyMatches() {
+        // given
+        when(policyStore.getAcceptedPolicies(any())).thenReturn(List.of());
+        Policy policy = createAtomicConstraintPolicy(TestConstants.FRAMEWORK_AGREEMENT_TRACEABILITY,
+                TestConstants.STATUS_ACTIVE);
+
+        // when
+        final Optional<OffsetDateTime> result = policyCheckerService.getValidUntil(policy, "bpn");
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+}
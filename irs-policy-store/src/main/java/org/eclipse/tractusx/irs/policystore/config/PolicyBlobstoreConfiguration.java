@@ -25,6 +25,7 @@ package org.eclipse.tractusx.irs.policystore.config;
 
 import lombok.Getter;
 import lombok.Setter;
+import org.eclipse.tractusx.irs.common.persistence.MinioBlobPersistence;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
@@ -40,5 +41,6 @@ public class PolicyBlobstoreConfiguration {
     private String accessKey;
     private String secretKey;
     private String bucketName;
+    private int fetchConcurrency = MinioBlobPersistence.DEFAULT_FETCH_CONCURRENCY;
     private int daysToLive;
 }
@@ -44,7 +44,7 @@ public class PolicyConfiguration {
     @Bean(POLICY_BLOB_PERSISTENCE)
     public BlobPersistence blobStore(final PolicyBlobstoreConfiguration config) throws BlobPersistenceException {
         return new MinioBlobPersistence(config.getEndpoint(), config.getAccessKey(), config.getSecretKey(),
-                config.getBucketName(), config.getDaysToLive());
+                config.getBucketName(), config.getDaysToLive(), config.getFetchConcurrency());
     }
 
     @Bean
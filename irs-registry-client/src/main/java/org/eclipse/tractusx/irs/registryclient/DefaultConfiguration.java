@@ -24,10 +24,18 @@
 package org.eclipse.tractusx.irs.registryclient;
 
 import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.eclipse.tractusx.irs.edc.client.AsyncPollingService;
 import org.eclipse.tractusx.irs.edc.client.ContractNegotiationService;
 import org.eclipse.tractusx.irs.edc.client.EDCCatalogFacade;
@@ -37,6 +45,7 @@ import org.eclipse.tractusx.irs.edc.client.EdcSubmodelClient;
 import org.eclipse.tractusx.irs.edc.client.EdcSubmodelClientImpl;
 import org.eclipse.tractusx.irs.edc.client.EdcSubmodelFacade;
 import org.eclipse.tractusx.irs.edc.client.cache.endpointdatareference.EndpointDataReferenceCacheService;
+import org.eclipse.tractusx.irs.edc.client.cache.endpointdatareference.EndpointDataReferenceRefresher;
 import org.eclipse.tractusx.irs.edc.client.exceptions.EdcClientException;
 import org.eclipse.tractusx.irs.registryclient.central.CentralDigitalTwinRegistryService;
 import org.eclipse.tractusx.irs.registryclient.central.DigitalTwinRegistryClient;
@@ -46,15 +55,19 @@ import org.eclipse.tractusx.irs.registryclient.decentral.DecentralDigitalTwinReg
 import org.eclipse.tractusx.irs.registryclient.decentral.EdcEndpointReferenceRetriever;
 import org.eclipse.tractusx.irs.registryclient.decentral.EdcRetrieverException;
 import org.eclipse.tractusx.irs.registryclient.decentral.EndpointDataForConnectorsService;
+import org.eclipse.tractusx.irs.registryclient.decentral.ShellDescriptorCache;
+import org.eclipse.tractusx.irs.registryclient.decentral.ShellIdCache;
 import org.eclipse.tractusx.irs.registryclient.discovery.ConnectorEndpointsService;
 import org.eclipse.tractusx.irs.registryclient.discovery.DiscoveryFinderClient;
 import org.eclipse.tractusx.irs.registryclient.discovery.DiscoveryFinderClientImpl;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.web.client.RestTemplate;
 
 /**
@@ -68,6 +81,7 @@ public class DefaultConfiguration {
 
     public static final String DIGITAL_TWIN_REGISTRY_REST_TEMPLATE = "digitalTwinRegistryRestTemplate";
     public static final String EDC_REST_TEMPLATE = "edcRestTemplate";
+    public static final String REGISTRY_EXECUTOR = "registryExecutor";
     private static final String CONFIG_PREFIX = "digitalTwinRegistryClient";
     private static final String CONFIG_FIELD_TYPE = "type";
     private static final String CONFIG_VALUE_DECENTRAL = "decentral";
@@ -95,9 +109,51 @@ public class DefaultConfiguration {
             final ConnectorEndpointsService connectorEndpointsService,
             final EndpointDataForConnectorsService endpointDataForConnectorsService,
             final DecentralDigitalTwinRegistryClient decentralDigitalTwinRegistryClient,
-            final EdcConfiguration edcConfiguration) {
+            final EdcConfiguration edcConfiguration, final ShellIdCache shellIdCache,
+            @Qualifier(REGISTRY_EXECUTOR) final ExecutorService registryExecutor) {
         return new DecentralDigitalTwinRegistryService(connectorEndpointsService, endpointDataForConnectorsService,
-                decentralDigitalTwinRegistryClient, edcConfiguration);
+                decentralDigitalTwinRegistryClient, edcConfiguration, shellIdCache, registryExecutor);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(ShellIdCache.class)
+    public ShellIdCache shellIdCache(
+            @Value("${digitalTwinRegistryClient.shell-id-cache.max-size:10000}") final int shellIdCacheSize) {
+        return new ShellIdCache(shellIdCacheSize);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(ShellDescriptorCache.class)
+    public ShellDescriptorCache shellDescriptorCache(
+            @Value("${digitalTwinRegistryClient.shell-descriptor-cache.ttl:PT10M}") final Duration ttl,
+            @Value("${digitalTwinRegistryClient.shell-descriptor-cache.max-size:10000}") final int maxSize,
+            final Clock clock) {
+        return new ShellDescriptorCache(ttl, maxSize, clock);
+    }
+
+    /**
+     * Executor for the blocking calls to the decentral digital twin registries, keeping them off the common
+     * fork join pool. It runs at most poolSize calls in parallel. When all threads are busy, the call is executed
+     * by the thread submitting it. Registry tasks also submit and await further registry tasks, so a queue could
+     * leave them waiting for tasks queued behind themselves.
+     * Active and completed tasks are exported as executor metrics with the tag name=irs.registry.
+     * Threads are only started on demand, so the executor costs nothing if no decentral registry is used.
+     *
+     * @param meterRegistry the registry for the executor metrics
+     * @param poolSize      the maximum number of registry calls executed in parallel
+     * @return the executor
+     */
+    @Bean(REGISTRY_EXECUTOR)
+    @ConditionalOnMissingBean(name = REGISTRY_EXECUTOR)
+    @SuppressWarnings("PMD.DoNotUseThreads")
+    public ExecutorService registryExecutor(final ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${digitalTwinRegistryClient.executor.pool-size:50}") final int poolSize) {
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 1, TimeUnit.MINUTES,
+                new SynchronousQueue<>(), new CustomizableThreadFactory("irs-registry-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return ExecutorServiceMetrics.monitor(meterRegistry.getIfAvailable(SimpleMeterRegistry::new), executor,
+                "irs.registry");
     }
 
     @Bean
@@ -140,10 +196,21 @@ public class DefaultConfiguration {
             final ContractNegotiationService contractNegotiationService, final EdcDataPlaneClient edcDataPlaneClient,
             final AsyncPollingService pollingService, final RetryRegistry retryRegistry,
             final EDCCatalogFacade catalogFacade,
-            final EndpointDataReferenceCacheService endpointDataReferenceCacheService) {
+            final EndpointDataReferenceCacheService endpointDataReferenceCacheService,
+            final ObjectProvider<MeterRegistry> meterRegistry,
+            final EndpointDataReferenceRefresher endpointDataReferenceRefresher) {
 
         return new EdcSubmodelClientImpl(edcConfiguration, contractNegotiationService, edcDataPlaneClient,
-                pollingService, retryRegistry, catalogFacade, endpointDataReferenceCacheService);
+                pollingService, retryRegistry, catalogFacade, endpointDataReferenceCacheService,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new), endpointDataReferenceRefresher);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(EndpointDataReferenceRefresher.class)
+    public EndpointDataReferenceRefresher endpointDataReferenceRefresher(final EdcConfiguration edcConfiguration,
+            final ObjectProvider<MeterRegistry> meterRegistry) {
+        return new EndpointDataReferenceRefresher(edcConfiguration.getControlplane().getDatareference(),
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new), Executors.newSingleThreadScheduledExecutor());
     }
 
     @Bean
@@ -151,8 +218,10 @@ public class DefaultConfiguration {
     public DecentralDigitalTwinRegistryClient decentralDigitalTwinRegistryClient(
             @Qualifier(EDC_REST_TEMPLATE) final RestTemplate edcRestTemplate,
             @Value("${digitalTwinRegistryClient.shellDescriptorTemplate:}") final String shellDescriptorTemplate,
-            @Value("${digitalTwinRegistryClient.lookupShellsTemplate:}") final String lookupShellsTemplate) {
-        return new DecentralDigitalTwinRegistryClient(edcRestTemplate, shellDescriptorTemplate, lookupShellsTemplate);
+            @Value("${digitalTwinRegistryClient.lookupShellsTemplate:}") final String lookupShellsTemplate,
+            final ShellDescriptorCache shellDescriptorCache) {
+        return new DecentralDigitalTwinRegistryClient(edcRestTemplate, shellDescriptorTemplate, lookupShellsTemplate,
+                shellDescriptorCache);
     }
 
     @Bean
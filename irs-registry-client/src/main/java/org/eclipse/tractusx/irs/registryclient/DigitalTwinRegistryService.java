@@ -24,6 +24,7 @@
 package org.eclipse.tractusx.irs.registryclient;
 
 import java.util.Collection;
+import java.util.Map;
 
 import org.eclipse.tractusx.irs.component.Shell;
 import org.eclipse.tractusx.irs.registryclient.exceptions.RegistryServiceException;
@@ -71,4 +72,14 @@ public interface DigitalTwinRegistryService {
      */
     Collection<Shell> fetchShells(Collection<DigitalTwinRegistryKey> identifiers)
             throws RegistryServiceException;
+
+    /**
+     * Retrieves the shell details for the given identifiers, keyed by the identifier they were retrieved for.
+     * Identifiers whose shell could not be found are missing in the result.
+     *
+     * @param identifiers the shell identifiers
+     * @return the shell descriptors by their identifier
+     */
+    Map<DigitalTwinRegistryKey, Shell> fetchShellsByKey(Collection<DigitalTwinRegistryKey> identifiers)
+            throws RegistryServiceException;
 }
@@ -25,7 +25,9 @@ package org.eclipse.tractusx.irs.registryclient.central;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -45,12 +47,21 @@ public class CentralDigitalTwinRegistryService implements DigitalTwinRegistrySer
 
     @Override
     public Collection<Shell> fetchShells(final Collection<DigitalTwinRegistryKey> keys) {
-        return keys.stream().map(key -> {
-            final String aaShellIdentification = getAAShellIdentificationOrGlobalAssetId(key.shellId());
-            log.info("Retrieved AAS Identification {} for globalAssetId {}", aaShellIdentification, key.shellId());
+        return keys.stream().map(this::fetchShell).toList();
+    }
+
+    @Override
+    public Map<DigitalTwinRegistryKey, Shell> fetchShellsByKey(final Collection<DigitalTwinRegistryKey> keys) {
+        final var shells = new LinkedHashMap<DigitalTwinRegistryKey, Shell>();
+        keys.forEach(key -> shells.put(key, fetchShell(key)));
+        return shells;
+    }
+
+    private Shell fetchShell(final DigitalTwinRegistryKey key) {
+        final String aaShellIdentification = getAAShellIdentificationOrGlobalAssetId(key.shellId());
+        log.info("Retrieved AAS Identification {} for globalAssetId {}", aaShellIdentification, key.shellId());
 
-            return new Shell("", digitalTwinRegistryClient.getAssetAdministrationShellDescriptor(aaShellIdentification));
-        }).toList();
+        return new Shell("", digitalTwinRegistryClient.getAssetAdministrationShellDescriptor(aaShellIdentification));
     }
 
     @Override
@@ -23,10 +23,12 @@
  ********************************************************************************/
 package org.eclipse.tractusx.irs.registryclient.decentral;
 
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import io.github.resilience4j.retry.annotation.Retry;
 import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
@@ -37,7 +39,9 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
@@ -52,26 +56,78 @@ public class DecentralDigitalTwinRegistryClient {
     private final RestTemplate edcRestTemplate;
     private final String shellDescriptorTemplate;
     private final String lookupShellsTemplate;
+    private final ShellDescriptorCache shellDescriptorCache;
 
     private final SerializationHelper serializationHelper = new SerializationHelper();
 
     public DecentralDigitalTwinRegistryClient(final RestTemplate edcRestTemplate,
             @Value("${digitalTwinRegistry.shellDescriptorTemplate:}") final String shellDescriptorTemplate,
             @Value("${digitalTwinRegistry.lookupShellsTemplate:}") final String lookupShellsTemplate) {
+        this(edcRestTemplate, shellDescriptorTemplate, lookupShellsTemplate, ShellDescriptorCache.disabled());
+    }
+
+    public DecentralDigitalTwinRegistryClient(final RestTemplate edcRestTemplate, final String shellDescriptorTemplate,
+            final String lookupShellsTemplate, final ShellDescriptorCache shellDescriptorCache) {
         this.edcRestTemplate = edcRestTemplate;
         this.shellDescriptorTemplate = shellDescriptorTemplate;
         this.lookupShellsTemplate = lookupShellsTemplate;
+        this.shellDescriptorCache = shellDescriptorCache;
     }
 
+    /**
+     * @param endpointDataReference the reference to access the digital twin registry
+     * @param bpn                   the BPN of the registry provider, to tell cached descriptors of registries apart
+     * @param aasIdentifier         the ID of the shell
+     * @return the shell descriptor, possibly from the cache
+     */
     @Retry(name = "registry")
     public AssetAdministrationShellDescriptor getAssetAdministrationShellDescriptor(
-            final EndpointDataReference endpointDataReference, final String aasIdentifier) {
-        final String descriptorEndpoint = endpointDataReference.getEndpoint() + shellDescriptorTemplate;
-        final UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromUriString(descriptorEndpoint);
+            final EndpointDataReference endpointDataReference, final String bpn, final String aasIdentifier) {
+        return getAssetAdministrationShellDescriptor(endpointDataReference, bpn, aasIdentifier, false);
+    }
+
+    /**
+     * @param endpointDataReference the reference to access the digital twin registry
+     * @param bpn                   the BPN of the registry provider, to tell cached descriptors of registries apart
+     * @param aasIdentifier         the ID of the shell
+     * @param bypassCache           whether the descriptor has to be fetched from the registry even if it is cached,
+     *                              e.g. because a job asks for fresh data. The fetched descriptor is cached anyway.
+     * @return the shell descriptor
+     */
+    @Retry(name = "registry")
+    public AssetAdministrationShellDescriptor getAssetAdministrationShellDescriptor(
+            final EndpointDataReference endpointDataReference, final String bpn, final String aasIdentifier,
+            final boolean bypassCache) {
+        final RegistryAssetKey registry = RegistryAssetKey.of(bpn, endpointDataReference);
+        if (!bypassCache) {
+            final Optional<AssetAdministrationShellDescriptor> cached = shellDescriptorCache.getValid(registry,
+                    aasIdentifier);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+        }
+
+        final UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromUriString(
+                endpointDataReference.getEndpoint() + shellDescriptorTemplate);
         final Map<String, String> values = Map.of(PLACEHOLDER_AAS_IDENTIFIER, encodeWithBase64(aasIdentifier));
-        return edcRestTemplate.exchange(uriBuilder.build(values), HttpMethod.GET,
-                                      new HttpEntity<>(null, headers(endpointDataReference)), AssetAdministrationShellDescriptor.class)
-                              .getBody();
+        final HttpHeaders headers = headers(endpointDataReference);
+        if (!bypassCache) {
+            shellDescriptorCache.getETag(registry, aasIdentifier).ifPresent(headers::setIfNoneMatch);
+        }
+
+        final ResponseEntity<AssetAdministrationShellDescriptor> response = edcRestTemplate.exchange(
+                uriBuilder.build(values), HttpMethod.GET, new HttpEntity<>(null, headers),
+                AssetAdministrationShellDescriptor.class);
+        if (response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+            final Optional<AssetAdministrationShellDescriptor> unchanged = shellDescriptorCache.revalidate(registry,
+                    aasIdentifier);
+            if (unchanged.isPresent()) {
+                return unchanged.get();
+            }
+            return getAssetAdministrationShellDescriptorWithoutCache(uriBuilder.build(values), endpointDataReference);
+        }
+        shellDescriptorCache.put(registry, aasIdentifier, response.getBody(), response.getHeaders().getETag());
+        return response.getBody();
     }
 
     @Retry(name = "registry")
@@ -84,6 +140,12 @@ public class DecentralDigitalTwinRegistryClient {
                 new HttpEntity<>(null, headers(endpointDataReference)), LookupShellsResponse.class).getBody();
     }
 
+    private AssetAdministrationShellDescriptor getAssetAdministrationShellDescriptorWithoutCache(final URI uri,
+            final EndpointDataReference endpointDataReference) {
+        return edcRestTemplate.exchange(uri, HttpMethod.GET, new HttpEntity<>(null, headers(endpointDataReference)),
+                AssetAdministrationShellDescriptor.class).getBody();
+    }
+
     private String encodeWithBase64(final String aasIdentifier) {
         return Base64.getEncoder().encodeToString(aasIdentifier.getBytes(StandardCharsets.UTF_8));
     }
@@ -25,16 +25,23 @@ package org.eclipse.tractusx.irs.registryclient.decentral;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
@@ -50,6 +57,7 @@ import org.eclipse.tractusx.irs.registryclient.exceptions.RegistryServiceExcepti
 import org.eclipse.tractusx.irs.registryclient.exceptions.ShellNotFoundException;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.util.StopWatch;
+import org.springframework.web.client.HttpClientErrorException;
 
 /**
  * Decentral implementation of DigitalTwinRegistryService
@@ -57,17 +65,36 @@ import org.springframework.util.StopWatch;
 @RequiredArgsConstructor
 @Slf4j
 @SuppressWarnings("PMD.TooManyMethods")
-public class DecentralDigitalTwinRegistryService implements DigitalTwinRegistryService {
+public class DecentralDigitalTwinRegistryService implements DigitalTwinRegistryService, MeterBinder {
 
     private static final String TOOK_MS = "{} took {} ms";
+    private static final int DEFAULT_SHELL_ID_CACHE_SIZE = 10_000;
 
     private final ConnectorEndpointsService connectorEndpointsService;
     private final EndpointDataForConnectorsService endpointDataForConnectorsService;
     private final DecentralDigitalTwinRegistryClient decentralDigitalTwinRegistryClient;
     private final EdcConfiguration config;
+    private final ShellIdCache shellIdCache;
+    private final Executor registryExecutor;
 
     private ResultFinder resultFinder = new ResultFinder();
 
+    public DecentralDigitalTwinRegistryService(final ConnectorEndpointsService connectorEndpointsService,
+            final EndpointDataForConnectorsService endpointDataForConnectorsService,
+            final DecentralDigitalTwinRegistryClient decentralDigitalTwinRegistryClient,
+            final EdcConfiguration config) {
+        this(connectorEndpointsService, endpointDataForConnectorsService, decentralDigitalTwinRegistryClient, config,
+                new ShellIdCache(DEFAULT_SHELL_ID_CACHE_SIZE));
+    }
+
+    public DecentralDigitalTwinRegistryService(final ConnectorEndpointsService connectorEndpointsService,
+            final EndpointDataForConnectorsService endpointDataForConnectorsService,
+            final DecentralDigitalTwinRegistryClient decentralDigitalTwinRegistryClient,
+            final EdcConfiguration config, final ShellIdCache shellIdCache) {
+        this(connectorEndpointsService, endpointDataForConnectorsService, decentralDigitalTwinRegistryClient, config,
+                shellIdCache, ForkJoinPool.commonPool());
+    }
+
     private static Stream<Map.Entry<String, List<DigitalTwinRegistryKey>>> groupKeysByBpn(
             final Collection<DigitalTwinRegistryKey> keys) {
         return keys.stream().collect(Collectors.groupingBy(DigitalTwinRegistryKey::bpn)).entrySet().stream();
@@ -83,10 +110,27 @@ public class DecentralDigitalTwinRegistryService implements DigitalTwinRegistryS
         this.resultFinder = resultFinder;
     }
 
+    /**
+     * Binds the metrics of the {@link ResultFinder}, i.e. the number of endpoint requests cancelled
+     * because another endpoint delivered the result first.
+     *
+     * @param registry the meter registry
+     */
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        resultFinder.bindTo(registry);
+    }
+
     @Override
-    @SuppressWarnings("PMD.AvoidCatchingGenericException")
     public Collection<Shell> fetchShells(final Collection<DigitalTwinRegistryKey> keys)
             throws RegistryServiceException {
+        return List.copyOf(fetchShellsByKey(keys).values());
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public Map<DigitalTwinRegistryKey, Shell> fetchShellsByKey(final Collection<DigitalTwinRegistryKey> keys)
+            throws RegistryServiceException {
 
         final var watch = new StopWatch();
         final String msg = "Fetching shell(s) for %s key(s)".formatted(keys.size());
@@ -96,18 +140,18 @@ public class DecentralDigitalTwinRegistryService implements DigitalTwinRegistryS
         try {
             final var calledEndpoints = new HashSet<String>();
 
-            final var collectedShells = groupKeysByBpn(keys).flatMap(entry -> {
+            final var collectedShells = new LinkedHashMap<DigitalTwinRegistryKey, Shell>();
+            groupKeysByBpn(keys).forEach(entry -> {
 
                 try {
-                    return fetchShellDescriptors(entry, calledEndpoints);
-                } catch (TimeoutException | RuntimeException e) {
+                    collectedShells.putAll(fetchShellDescriptors(entry, calledEndpoints));
+                } catch (RuntimeException e) {
                     // catching generic exception is intended here,
                     // otherwise Jobs stay in state RUNNING forever
                     log.warn(e.getMessage(), e);
-                    return Stream.empty();
                 }
 
-            }).toList();
+            });
 
             if (collectedShells.isEmpty()) {
                 log.info("No shells found");
@@ -123,27 +167,36 @@ public class DecentralDigitalTwinRegistryService implements DigitalTwinRegistryS
         }
     }
 
-    private Stream<Shell> fetchShellDescriptors(final Map.Entry<String, List<DigitalTwinRegistryKey>> entry,
-            final Set<String> calledEndpoints) throws TimeoutException {
+    private Map<DigitalTwinRegistryKey, Shell> fetchShellDescriptors(
+            final Map.Entry<String, List<DigitalTwinRegistryKey>> entry, final Set<String> calledEndpoints) {
 
+        final var keys = entry.getValue();
+        final var fetchedShells = new ConcurrentHashMap<DigitalTwinRegistryKey, Shell>();
         try {
 
-            final var futures = fetchShellDescriptors(calledEndpoints, entry.getKey(), entry.getValue());
-            final var shellDescriptors = futures.get(config.getAsyncTimeoutMillis(), TimeUnit.MILLISECONDS);
-            return shellDescriptors.stream();
+            awaitFastestResult(fetchShellDescriptors(calledEndpoints, entry.getKey(), keys, fetchedShells));
 
         } catch (InterruptedException e) {
             log.error(e.getMessage(), e);
             Thread.currentThread().interrupt();
-            return Stream.empty();
-        } catch (ExecutionException e) {
+            return Map.of();
+        } catch (ExecutionException | TimeoutException e) {
+            // the shells found by the endpoints which did not fail or time out are still returned
             log.warn(e.getMessage(), e);
-            return Stream.empty();
         }
+        return inKeyOrder(keys, fetchedShells);
     }
 
-    private CompletableFuture<List<Shell>> fetchShellDescriptors(final Set<String> calledEndpoints, final String bpn,
-            final List<DigitalTwinRegistryKey> keys) {
+    private static Map<DigitalTwinRegistryKey, Shell> inKeyOrder(final List<DigitalTwinRegistryKey> keys,
+            final Map<DigitalTwinRegistryKey, Shell> shells) {
+        final var orderedShells = new LinkedHashMap<DigitalTwinRegistryKey, Shell>();
+        keys.stream().filter(shells::containsKey).forEach(key -> orderedShells.put(key, shells.get(key)));
+        return orderedShells;
+    }
+
+    private CompletableFuture<Map<DigitalTwinRegistryKey, Shell>> fetchShellDescriptors(
+            final Set<String> calledEndpoints, final String bpn, final List<DigitalTwinRegistryKey> keys,
+            final Map<DigitalTwinRegistryKey, Shell> fetchedShells) {
 
         final var watch = new StopWatch();
         final String msg = "Fetching %s shells for bpn '%s'".formatted(keys.size(), bpn);
@@ -157,7 +210,7 @@ public class DecentralDigitalTwinRegistryService implements DigitalTwinRegistryS
             log.info("Found {} connector endpoints for bpn '{}'", edcUrls.size(), bpn);
             calledEndpoints.addAll(edcUrls);
 
-            return fetchShellDescriptorsForConnectorEndpoints(keys, edcUrls, bpn);
+            return fetchShellDescriptorsForConnectorEndpoints(keys, edcUrls, bpn, fetchedShells);
 
         } finally {
             watch.stop();
@@ -165,14 +218,17 @@ public class DecentralDigitalTwinRegistryService implements DigitalTwinRegistryS
         }
     }
 
-    private CompletableFuture<List<Shell>> fetchShellDescriptorsForConnectorEndpoints(
-            final List<DigitalTwinRegistryKey> keys, final List<String> edcUrls, final String bpn) {
+    private CompletableFuture<Map<DigitalTwinRegistryKey, Shell>> fetchShellDescriptorsForConnectorEndpoints(
+            final List<DigitalTwinRegistryKey> keys, final List<String> edcUrls, final String bpn,
+            final Map<DigitalTwinRegistryKey, Shell> fetchedShells) {
 
         final var service = endpointDataForConnectorsService;
         final var shellsFuture = service.createFindEndpointDataForConnectorsFutures(edcUrls, bpn)
                                         .stream()
-                                        .map(edrFuture -> edrFuture.thenCompose(edr -> CompletableFuture.supplyAsync(
-                                                () -> fetchShellDescriptorsForKey(keys, edr))))
+                                        .map(edrFuture -> cancellingSource(edrFuture.thenCompose(
+                                                edr -> CompletableFuture.supplyAsync(
+                                                        () -> mergeShells(keys, fetchShellDescriptorsForKey(keys, edr),
+                                                                fetchedShells), registryExecutor)), edrFuture))
                                         .toList();
 
         log.debug("Created {} futures", shellsFuture.size());
@@ -180,7 +236,50 @@ public class DecentralDigitalTwinRegistryService implements DigitalTwinRegistryS
         return resultFinder.getFastestResult(shellsFuture);
     }
 
-    private List<Shell> fetchShellDescriptorsForKey(final List<DigitalTwinRegistryKey> keys,
+    /**
+     * Merges the shells fetched from one endpoint into the shells fetched from the other endpoints of the BPN.
+     * The keys may be registered in different registries, so an endpoint only delivers the result if the shells
+     * of all keys have been found. Otherwise, the other endpoints are awaited.
+     *
+     * @return the shells of all keys, or null if shells are still missing, which the {@link ResultFinder} does not
+     *         take as result
+     */
+    @SuppressWarnings("PMD.ReturnEmptyCollectionRatherThanNull")
+    private static Map<DigitalTwinRegistryKey, Shell> mergeShells(final List<DigitalTwinRegistryKey> keys,
+            final Map<DigitalTwinRegistryKey, Shell> endpointShells,
+            final Map<DigitalTwinRegistryKey, Shell> fetchedShells) {
+        endpointShells.forEach(fetchedShells::putIfAbsent);
+        return fetchedShells.keySet().containsAll(keys) ? fetchedShells : null;
+    }
+
+    /**
+     * Cancels the source future when the dependent future is cancelled, e.g. because another endpoint was faster.
+     * This stops the polling for the endpoint data reference of the source if it has not arrived yet.
+     */
+    private static <T> CompletableFuture<T> cancellingSource(final CompletableFuture<T> dependent,
+            final CompletableFuture<?> source) {
+        dependent.whenComplete((result, throwable) -> {
+            if (dependent.isCancelled()) {
+                source.cancel(true);
+            }
+        });
+        return dependent;
+    }
+
+    /**
+     * Waits for the fastest result. If it does not arrive in time, the pending work of all endpoints is cancelled.
+     */
+    private <T> T awaitFastestResult(final CompletableFuture<T> fastestResult)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        try {
+            return fastestResult.get(config.getAsyncTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException | TimeoutException e) {
+            fastestResult.cancel(true);
+            throw e;
+        }
+    }
+
+    private Map<DigitalTwinRegistryKey, Shell> fetchShellDescriptorsForKey(final List<DigitalTwinRegistryKey> keys,
             final EndpointDataReference endpointDataReference) {
 
         final var watch = new StopWatch();
@@ -190,16 +289,47 @@ public class DecentralDigitalTwinRegistryService implements DigitalTwinRegistryS
         log.info(msg);
 
         try {
-            return keys.stream()
-                       .map(key -> new Shell(endpointDataReference.getContractId(),
-                               fetchShellDescriptor(endpointDataReference, key)))
-                       .toList();
+            if (keys.size() == 1) {
+                return Map.of(keys.get(0), fetchShell(endpointDataReference, keys.get(0)));
+            }
+            // the keys share the endpoint data reference, so their shells are fetched concurrently
+            final var shellFutures = keys.stream()
+                                         .map(key -> CompletableFuture.supplyAsync(
+                                                 () -> fetchShell(endpointDataReference, key), registryExecutor))
+                                         .toList();
+            return collectShells(keys, shellFutures);
         } finally {
             watch.stop();
             log.info(TOOK_MS, watch.getLastTaskName(), watch.getLastTaskTimeMillis());
         }
     }
 
+    private Shell fetchShell(final EndpointDataReference endpointDataReference, final DigitalTwinRegistryKey key) {
+        return new Shell(endpointDataReference.getContractId(), fetchShellDescriptor(endpointDataReference, key));
+    }
+
+    /**
+     * Collects the shells which could be fetched. A shell which could not be fetched does not fail the shells
+     * of the other keys, only if none of them could be fetched the failure is propagated.
+     */
+    private static Map<DigitalTwinRegistryKey, Shell> collectShells(final List<DigitalTwinRegistryKey> keys,
+            final List<CompletableFuture<Shell>> shellFutures) {
+        final var shells = new LinkedHashMap<DigitalTwinRegistryKey, Shell>();
+        RuntimeException failure = null;
+        for (int i = 0; i < keys.size(); i++) {
+            try {
+                shells.put(keys.get(i), shellFutures.get(i).join());
+            } catch (CompletionException e) {
+                log.warn("Shell could not be fetched", e.getCause());
+                failure = e;
+            }
+        }
+        if (shells.isEmpty() && failure != null) {
+            throw failure;
+        }
+        return shells;
+    }
+
     private AssetAdministrationShellDescriptor fetchShellDescriptor(final EndpointDataReference endpointDataReference,
             final DigitalTwinRegistryKey key) {
 
@@ -208,26 +338,42 @@ public class DecentralDigitalTwinRegistryService implements DigitalTwinRegistryS
         watch.start(msg);
         log.info(msg);
         try {
-            final String aaShellIdentification = mapToShellId(endpointDataReference, key.shellId());
-            return decentralDigitalTwinRegistryClient.getAssetAdministrationShellDescriptor(endpointDataReference,
-                    aaShellIdentification);
+            final RegistryAssetKey registry = RegistryAssetKey.of(key.bpn(), endpointDataReference);
+            final String aaShellIdentification = mapToShellId(endpointDataReference, registry, key.shellId());
+            return fetchShellDescriptor(endpointDataReference, registry, key.shellId(), aaShellIdentification);
         } finally {
             watch.stop();
             log.info(TOOK_MS, watch.getLastTaskName(), watch.getLastTaskTimeMillis());
         }
     }
 
+    private AssetAdministrationShellDescriptor fetchShellDescriptor(final EndpointDataReference endpointDataReference,
+            final RegistryAssetKey registry, final String providedId, final String shellId) {
+        try {
+            return decentralDigitalTwinRegistryClient.getAssetAdministrationShellDescriptor(endpointDataReference,
+                    registry.bpn(), shellId);
+        } catch (HttpClientErrorException.NotFound e) {
+            // the shell was deleted or registered anew, so the next request has to look up the shell ID again
+            log.info("Shell {} not found, evicting the cached shellId of globalAssetId {}", shellId, providedId);
+            shellIdCache.remove(registry, providedId);
+            throw e;
+        }
+    }
+
     /**
      * This method takes the provided ID and maps it to the corresponding asset administration shell ID.
      * If the ID is already a shellId, the same ID will be returned.
      * If the ID is a globalAssetId, the corresponding shellId will be returned.
+     * Mappings found in the registry are cached per registry.
      *
      * @param endpointDataReference the reference to access the digital twin registry
+     * @param registry              the digital twin registry the reference grants access to
      * @param providedId            the ambiguous ID (shellId or globalAssetId)
      * @return the corresponding asset administration shell ID
      */
     @NotNull
-    private String mapToShellId(final EndpointDataReference endpointDataReference, final String providedId) {
+    private String mapToShellId(final EndpointDataReference endpointDataReference, final RegistryAssetKey registry,
+            final String providedId) {
 
         final var watch = new StopWatch();
         final String msg = "Mapping '%s' to shell ID for endpoint '%s'".formatted(providedId,
@@ -237,6 +383,12 @@ public class DecentralDigitalTwinRegistryService implements DigitalTwinRegistryS
 
         try {
 
+            final var cachedShellId = shellIdCache.get(registry, providedId);
+            if (cachedShellId.isPresent()) {
+                log.info("Found cached shellId {} for globalAssetId {}", cachedShellId.get(), providedId);
+                return cachedShellId.get();
+            }
+
             final var identifierKeyValuePair = IdentifierKeyValuePair.builder()
                                                                      .name("globalAssetId")
                                                                      .value(providedId)
@@ -257,6 +409,8 @@ public class DecentralDigitalTwinRegistryService implements DigitalTwinRegistryS
                 log.info("Found shell with shellId {} in registry", shellId);
             } else {
                 log.info("Retrieved shellId {} for globalAssetId {}", shellId, providedId);
+                // only found mappings are cached, the part may still be registered later
+                shellIdCache.put(registry, providedId, shellId);
             }
 
             return shellId;
@@ -299,12 +453,12 @@ public class DecentralDigitalTwinRegistryService implements DigitalTwinRegistryS
 
         try {
             final var futures = endpointDataReferenceFutures.stream()
-                                                            .map(edrFuture -> edrFuture.thenCompose(
+                                                            .map(edrFuture -> cancellingSource(edrFuture.thenCompose(
                                                                     edr -> CompletableFuture.supplyAsync(
-                                                                            () -> lookupShellIds(bpn, edr))))
+                                                                            () -> lookupShellIds(bpn, edr),
+                                                                            registryExecutor)), edrFuture))
                                                             .toList();
-            final var shellIds = resultFinder.getFastestResult(futures)
-                                             .get(config.getAsyncTimeoutMillis(), TimeUnit.MILLISECONDS);
+            final var shellIds = awaitFastestResult(resultFinder.getFastestResult(futures));
 
             log.info("Found {} shell id(s) in total", shellIds.size());
             return shellIds;
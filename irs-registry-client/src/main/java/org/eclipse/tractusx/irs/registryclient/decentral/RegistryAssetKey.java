@@ -0,0 +1,68 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.registryclient.decentral;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
+
+/**
+ * Identifies a digital twin registry by the BPN of its provider and the ID of the EDC asset it is offered as.
+ * The endpoint of an {@link EndpointDataReference} is the data plane of the consumer connector, which is shared by
+ * all registries, so it cannot tell registries apart.
+ *
+ * @param bpn     the BPN of the registry provider
+ * @param assetId the ID of the registry asset, or the contract agreement ID if the asset ID is not known
+ */
+public record RegistryAssetKey(String bpn, String assetId) {
+
+    private static final String CONTRACT_ID_SEPARATOR = ":";
+    private static final int CONTRACT_ID_PARTS = 3;
+
+    /**
+     * @param bpn                   the BPN of the registry provider
+     * @param endpointDataReference the reference to access the registry
+     * @return the key of the registry the reference grants access to
+     */
+    public static RegistryAssetKey of(final String bpn, final EndpointDataReference endpointDataReference) {
+        final String contractId = endpointDataReference.getContractId();
+        if (contractId == null) {
+            return new RegistryAssetKey(bpn, endpointDataReference.getEndpoint());
+        }
+        return new RegistryAssetKey(bpn, assetIdOf(contractId));
+    }
+
+    /**
+     * EDC contract agreement IDs consist of the Base64 encoded contract definition ID, asset ID and a UUID.
+     * The asset ID is used, since it stays the same when the agreement is negotiated anew.
+     */
+    private static String assetIdOf(final String contractId) {
+        final String[] parts = contractId.split(CONTRACT_ID_SEPARATOR);
+        if (parts.length != CONTRACT_ID_PARTS) {
+            return contractId;
+        }
+        try {
+            return new String(Base64.getDecoder().decode(parts[1]), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            // not issued by an EDC, so the agreement ID itself identifies the registry
+            return contractId;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.registryclient.decentral;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.eclipse.tractusx.irs.component.assetadministrationshell.AssetAdministrationShellDescriptor;
+
+/**
+ * Bounded in-memory cache of shell descriptors, shared by all jobs. Descriptors are served from the cache for the
+ * configured time to live. Afterwards they are revalidated with the ETag the registry sent along with the
+ * descriptor, so an unchanged descriptor does not need to be transferred and deserialized again.
+ * The least recently used descriptors are evicted first.
+ * Jobs get their own copy of a cached descriptor, so that changing its lists does not affect other jobs.
+ */
+public class ShellDescriptorCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "dtr-shell-descriptors";
+
+    private final Duration ttl;
+    private final int maxSize;
+    private final Clock clock;
+    private final Map<CacheKey, CachedDescriptor> descriptors;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong revalidations = new AtomicLong();
+
+    /**
+     * @param ttl     how long a descriptor is used without asking the registry, zero disables the cache
+     * @param maxSize the maximum number of cached descriptors
+     * @param clock   the clock used to expire descriptors
+     */
+    public ShellDescriptorCache(final Duration ttl, final int maxSize, final Clock clock) {
+        this.ttl = ttl;
+        this.maxSize = maxSize;
+        this.clock = clock;
+        this.descriptors = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<CacheKey, CachedDescriptor> eldest) {
+                return size() > ShellDescriptorCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * @return a cache which does not keep any descriptors
+     */
+    public static ShellDescriptorCache disabled() {
+        return new ShellDescriptorCache(Duration.ZERO, 0, Clock.systemUTC());
+    }
+
+    /**
+     * @param registry      the digital twin registry
+     * @param aasIdentifier the ID of the shell
+     * @return the cached descriptor if it is still within its time to live
+     */
+    public Optional<AssetAdministrationShellDescriptor> getValid(final RegistryAssetKey registry,
+            final String aasIdentifier) {
+        final Optional<CachedDescriptor> cached = get(registry, aasIdentifier).filter(
+                descriptor -> descriptor.isValid(clock.instant()));
+        (cached.isPresent() ? hits : misses).incrementAndGet();
+        return cached.map(descriptor -> copy(descriptor.descriptor()));
+    }
+
+    /**
+     * @param registry      the digital twin registry
+     * @param aasIdentifier the ID of the shell
+     * @return the ETag of the cached descriptor, to ask the registry whether it changed
+     */
+    public Optional<String> getETag(final RegistryAssetKey registry, final String aasIdentifier) {
+        return get(registry, aasIdentifier).map(CachedDescriptor::eTag);
+    }
+
+    /**
+     * Marks the cached descriptor as unchanged, restarting its time to live.
+     *
+     * @param registry      the digital twin registry
+     * @param aasIdentifier the ID of the shell
+     * @return the cached descriptor, or empty if it has been evicted in the meantime
+     */
+    public Optional<AssetAdministrationShellDescriptor> revalidate(final RegistryAssetKey registry,
+            final String aasIdentifier) {
+        final Optional<CachedDescriptor> cached = get(registry, aasIdentifier);
+        cached.ifPresent(descriptor -> {
+            revalidations.incrementAndGet();
+            store(registry, aasIdentifier, descriptor.descriptor(), descriptor.eTag());
+        });
+        return cached.map(descriptor -> copy(descriptor.descriptor()));
+    }
+
+    public void put(final RegistryAssetKey registry, final String aasIdentifier,
+            final AssetAdministrationShellDescriptor descriptor, final String eTag) {
+        if (!isEnabled() || descriptor == null) {
+            return;
+        }
+        store(registry, aasIdentifier, copy(descriptor), eTag);
+    }
+
+    public boolean isEnabled() {
+        return !ttl.isZero() && maxSize > 0;
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", hits, AtomicLong::get)
+                       .tags("cache", CACHE_NAME, "result", "hit")
+                       .description("The number of shell descriptors served from the cache")
+                       .register(registry);
+        FunctionCounter.builder("cache.gets", misses, AtomicLong::get)
+                       .tags("cache", CACHE_NAME, "result", "miss")
+                       .description("The number of shell descriptors requested from the registry")
+                       .register(registry);
+        FunctionCounter.builder("cache.revalidations", revalidations, AtomicLong::get)
+                       .tag("cache", CACHE_NAME)
+                       .description("The number of cached shell descriptors the registry reported as unchanged")
+                       .register(registry);
+        Gauge.builder("cache.size", this, ShellDescriptorCache::size)
+             .tag("cache", CACHE_NAME)
+             .description("The number of cached shell descriptors")
+             .register(registry);
+    }
+
+    private void store(final RegistryAssetKey registry, final String aasIdentifier,
+            final AssetAdministrationShellDescriptor descriptor, final String eTag) {
+        final CachedDescriptor cached = new CachedDescriptor(descriptor, eTag, clock.instant().plus(ttl));
+        synchronized (descriptors) {
+            descriptors.put(new CacheKey(registry, aasIdentifier), cached);
+        }
+    }
+
+    private static AssetAdministrationShellDescriptor copy(final AssetAdministrationShellDescriptor descriptor) {
+        return descriptor.toBuilder()
+                         .description(copy(descriptor.getDescription()))
+                         .specificAssetIds(copy(descriptor.getSpecificAssetIds()))
+                         .submodelDescriptors(copy(descriptor.getSubmodelDescriptors()))
+                         .build();
+    }
+
+    private static <T> List<T> copy(final List<T> list) {
+        return list == null ? null : new ArrayList<>(list);
+    }
+
+    private Optional<CachedDescriptor> get(final RegistryAssetKey registry, final String aasIdentifier) {
+        synchronized (descriptors) {
+            return Optional.ofNullable(descriptors.get(new CacheKey(registry, aasIdentifier)));
+        }
+    }
+
+    private int size() {
+        synchronized (descriptors) {
+            return descriptors.size();
+        }
+    }
+
+    private record CacheKey(RegistryAssetKey registry, String aasIdentifier) {
+    }
+
+    private record CachedDescriptor(AssetAdministrationShellDescriptor descriptor, String eTag, Instant validUntil) {
+
+        private boolean isValid(final Instant now) {
+            return now.isBefore(validUntil);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.registryclient.decentral;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Bounded in-memory cache of the shell IDs registered for globalAssetIds, per digital twin registry.
+ * The mapping of a globalAssetId to its shell does not change, so a cached shell ID saves the lookup call to the
+ * registry on every further request of the same part. The least recently used mappings are evicted first.
+ * Hits and misses are counted per registry provider.
+ */
+public class ShellIdCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "dtr-shell-ids";
+    private static final String UNKNOWN_PROVIDER = "unknown";
+
+    private final int maxSize;
+    private final Map<CacheKey, String> shellIds;
+    private final Map<String, ProviderStatistics> statisticsByProvider = new ConcurrentHashMap<>();
+    private volatile MeterRegistry meterRegistry;
+
+    public ShellIdCache(final int maxSize) {
+        this.maxSize = maxSize;
+        this.shellIds = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<CacheKey, String> eldest) {
+                return size() > ShellIdCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * @param registry      the digital twin registry
+     * @param globalAssetId the globalAssetId of the shell
+     * @return the cached shell ID, or empty if the mapping is not cached
+     */
+    public Optional<String> get(final RegistryAssetKey registry, final String globalAssetId) {
+        final String shellId;
+        synchronized (shellIds) {
+            shellId = shellIds.get(new CacheKey(registry, globalAssetId));
+        }
+        final ProviderStatistics statistics = statistics(registry);
+        (shellId == null ? statistics.misses : statistics.hits).incrementAndGet();
+        return Optional.ofNullable(shellId);
+    }
+
+    public void put(final RegistryAssetKey registry, final String globalAssetId, final String shellId) {
+        if (maxSize <= 0) {
+            return;
+        }
+        synchronized (shellIds) {
+            shellIds.put(new CacheKey(registry, globalAssetId), shellId);
+        }
+    }
+
+    /**
+     * Removes the cached shell ID of the globalAssetId, e.g. because the shell was not found anymore.
+     *
+     * @param registry      the digital twin registry
+     * @param globalAssetId the globalAssetId of the shell
+     */
+    public void remove(final RegistryAssetKey registry, final String globalAssetId) {
+        synchronized (shellIds) {
+            shellIds.remove(new CacheKey(registry, globalAssetId));
+        }
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        this.meterRegistry = registry;
+        Gauge.builder("cache.size", this, ShellIdCache::size)
+             .tag("cache", CACHE_NAME)
+             .description("The number of cached shell IDs")
+             .register(registry);
+        statisticsByProvider.forEach((bpn, statistics) -> statistics.register(registry, bpn));
+    }
+
+    private int size() {
+        synchronized (shellIds) {
+            return shellIds.size();
+        }
+    }
+
+    private ProviderStatistics statistics(final RegistryAssetKey registry) {
+        final String provider = registry.bpn() == null ? UNKNOWN_PROVIDER : registry.bpn();
+        return statisticsByProvider.computeIfAbsent(provider, bpn -> {
+            final ProviderStatistics statistics = new ProviderStatistics();
+            final MeterRegistry meters = meterRegistry;
+            if (meters != null) {
+                statistics.register(meters, bpn);
+            }
+            return statistics;
+        });
+    }
+
+    private record CacheKey(RegistryAssetKey registry, String globalAssetId) {
+    }
+
+    /**
+     * Hits and misses of the lookups in the registries of one provider.
+     */
+    private static final class ProviderStatistics {
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicLong misses = new AtomicLong();
+
+        private void register(final MeterRegistry registry, final String bpn) {
+            FunctionCounter.builder("cache.gets", hits, AtomicLong::get)
+                           .tags("cache", CACHE_NAME, "result", "hit", "bpn", bpn)
+                           .description("The number of shell ID lookups answered from the cache")
+                           .register(registry);
+            FunctionCounter.builder("cache.gets", misses, AtomicLong::get)
+                           .tags("cache", CACHE_NAME, "result", "miss", "bpn", bpn)
+                           .description("The number of shell ID lookups which had to call the registry")
+                           .register(registry);
+        }
+    }
+}
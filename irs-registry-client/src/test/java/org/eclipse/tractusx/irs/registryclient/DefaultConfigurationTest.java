@@ -41,7 +41,9 @@ import org.eclipse.tractusx.irs.edc.client.EdcSubmodelClient;
 import org.eclipse.tractusx.irs.edc.client.EdcSubmodelFacade;
 import org.eclipse.tractusx.irs.edc.client.exceptions.EdcClientException;
 import org.eclipse.tractusx.irs.registryclient.decentral.EdcRetrieverException;
+import org.eclipse.tractusx.irs.registryclient.decentral.ShellDescriptorCache;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.web.client.RestTemplate;
 
 class DefaultConfigurationTest {
@@ -66,8 +68,9 @@ class DefaultConfigurationTest {
         final var service = testee.decentralDigitalTwinRegistryService(
                 testee.connectorEndpointsService(testee.discoveryFinderClient(new RestTemplate(), "finder")),
                 testee.endpointDataForConnectorsService(facadeMock),
-                testee.decentralDigitalTwinRegistryClient(new RestTemplate(), descriptorTemplate, shellLookupTemplate),
-                edcConfiguration);
+                testee.decentralDigitalTwinRegistryClient(new RestTemplate(), descriptorTemplate, shellLookupTemplate,
+                        ShellDescriptorCache.disabled()), edcConfiguration, testee.shellIdCache(100),
+                testee.registryExecutor(mock(ObjectProvider.class), 2));
 
         assertThat(service).isNotNull();
     }
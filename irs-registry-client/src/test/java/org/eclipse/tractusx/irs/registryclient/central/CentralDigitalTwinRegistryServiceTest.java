@@ -36,6 +36,7 @@ import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.tractusx.irs.SemanticModelNames;
 import org.eclipse.tractusx.irs.component.Shell;
@@ -110,6 +111,28 @@ class CentralDigitalTwinRegistryServiceTest extends LocalTestDataConfigurationAw
                 () -> dtRegistryFacadeWithMock.fetchShells(keys));
     }
 
+    @Test
+    void shouldReturnShellsByTheirKey() {
+        final DigitalTwinRegistryKey first = new DigitalTwinRegistryKey("first", "");
+        final DigitalTwinRegistryKey second = new DigitalTwinRegistryKey("second", "");
+        final AssetAdministrationShellDescriptor firstShell = AssetAdministrationShellDescriptor.builder()
+                                                                                               .id("first")
+                                                                                               .build();
+        final AssetAdministrationShellDescriptor secondShell = AssetAdministrationShellDescriptor.builder()
+                                                                                                .id("second")
+                                                                                                .build();
+        when(dtRegistryClientMock.getAssetAdministrationShellDescriptor("first")).thenReturn(firstShell);
+        when(dtRegistryClientMock.getAssetAdministrationShellDescriptor("second")).thenReturn(secondShell);
+        when(dtRegistryClientMock.getAllAssetAdministrationShellIdsByAssetLink(any())).thenReturn(
+                LookupShellsResponse.builder().result(Collections.emptyList()).build());
+
+        final Map<DigitalTwinRegistryKey, Shell> shells = dtRegistryFacadeWithMock.fetchShellsByKey(
+                List.of(first, second));
+
+        assertThat(shells.get(first).payload()).isEqualTo(firstShell);
+        assertThat(shells.get(second).payload()).isEqualTo(secondShell);
+    }
+
     @Test
     void shouldReturnTombstoneWhenClientReturnsEmptyDescriptor() {
         final String catenaXId = "test";
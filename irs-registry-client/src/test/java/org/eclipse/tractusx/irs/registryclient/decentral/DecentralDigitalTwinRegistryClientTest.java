@@ -1,22 +1,34 @@
 package org.eclipse.tractusx.irs.registryclient.decentral;
 
 import static org.eclipse.tractusx.irs.registryclient.TestMother.endpointDataReference;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
 import org.eclipse.tractusx.irs.component.assetadministrationshell.AssetAdministrationShellDescriptor;
 import org.eclipse.tractusx.irs.component.assetadministrationshell.IdentifierKeyValuePair;
+import org.eclipse.tractusx.irs.component.assetadministrationshell.SubmodelDescriptor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.RestTemplate;
 
@@ -43,13 +55,139 @@ class DecentralDigitalTwinRegistryClientTest {
                 ResponseEntity.of(Optional.of(AssetAdministrationShellDescriptor.builder().build())));
 
         // when
-        client.getAssetAdministrationShellDescriptor(endpointDataReference, "aas-id");
+        client.getAssetAdministrationShellDescriptor(endpointDataReference, "bpn", "aas-id");
 
         // then
         verify(restTemplate).exchange(eq(URI.create("url.to.host/shell-descriptors/YWFzLWlk")), eq(HttpMethod.GET),
                 any(), eq(AssetAdministrationShellDescriptor.class));
     }
 
+    @Test
+    void shouldServeCachedDescriptorWithinTimeToLive() {
+        // given
+        final var cachingClient = new DecentralDigitalTwinRegistryClient(restTemplate, SHELL_DESCRIPTORS,
+                LOOKUP_SHELLS, new ShellDescriptorCache(Duration.ofMinutes(10), 10, Clock.systemUTC()));
+        final EndpointDataReference endpointDataReference = endpointDataReference("contractAgreementId", "url.to.host");
+        final var descriptor = AssetAdministrationShellDescriptor.builder().id("aas-id").build();
+        when(restTemplate.exchange(any(), eq(HttpMethod.GET), any(),
+                eq(AssetAdministrationShellDescriptor.class))).thenReturn(ResponseEntity.of(Optional.of(descriptor)));
+
+        // when
+        cachingClient.getAssetAdministrationShellDescriptor(endpointDataReference, "bpn", "aas-id");
+        final var cached = cachingClient.getAssetAdministrationShellDescriptor(endpointDataReference, "bpn", "aas-id");
+
+        // then
+        assertThat(cached).isEqualTo(descriptor).isNotSameAs(descriptor);
+        verify(restTemplate, times(1)).exchange(any(), eq(HttpMethod.GET), any(),
+                eq(AssetAdministrationShellDescriptor.class));
+    }
+
+    @Test
+    void shouldNotShareCachedDescriptorBetweenCallers() {
+        // given
+        final var cachingClient = new DecentralDigitalTwinRegistryClient(restTemplate, SHELL_DESCRIPTORS,
+                LOOKUP_SHELLS, new ShellDescriptorCache(Duration.ofMinutes(10), 10, Clock.systemUTC()));
+        final EndpointDataReference endpointDataReference = endpointDataReference("contractAgreementId", "url.to.host");
+        final var submodelDescriptors = new ArrayList<>(List.of(SubmodelDescriptor.builder().id("submodel").build()));
+        final var descriptor = AssetAdministrationShellDescriptor.builder()
+                                                                 .id("aas-id")
+                                                                 .submodelDescriptors(submodelDescriptors)
+                                                                 .build();
+        when(restTemplate.exchange(any(), eq(HttpMethod.GET), any(),
+                eq(AssetAdministrationShellDescriptor.class))).thenReturn(ResponseEntity.of(Optional.of(descriptor)));
+
+        // when
+        cachingClient.getAssetAdministrationShellDescriptor(endpointDataReference, "bpn", "aas-id")
+                     .getSubmodelDescriptors()
+                     .clear();
+        final var cached = cachingClient.getAssetAdministrationShellDescriptor(endpointDataReference, "bpn",
+                "aas-id");
+        cached.getSubmodelDescriptors().clear();
+
+        // then
+        assertThat(cachingClient.getAssetAdministrationShellDescriptor(endpointDataReference, "bpn",
+                "aas-id").getSubmodelDescriptors()).hasSize(1);
+    }
+
+    @Test
+    void shouldFetchCachedDescriptorAgainWhenBypassingTheCache() {
+        // given
+        final var cachingClient = new DecentralDigitalTwinRegistryClient(restTemplate, SHELL_DESCRIPTORS,
+                LOOKUP_SHELLS, new ShellDescriptorCache(Duration.ofMinutes(10), 10, Clock.systemUTC()));
+        final EndpointDataReference endpointDataReference = endpointDataReference("contractAgreementId", "url.to.host");
+        final var outdated = AssetAdministrationShellDescriptor.builder().id("aas-id").idShort("outdated").build();
+        final var fresh = AssetAdministrationShellDescriptor.builder().id("aas-id").idShort("fresh").build();
+        when(restTemplate.exchange(any(), eq(HttpMethod.GET), any(),
+                eq(AssetAdministrationShellDescriptor.class))).thenReturn(ResponseEntity.of(Optional.of(outdated)),
+                ResponseEntity.of(Optional.of(fresh)));
+
+        // when
+        cachingClient.getAssetAdministrationShellDescriptor(endpointDataReference, "bpn", "aas-id");
+        final var bypassed = cachingClient.getAssetAdministrationShellDescriptor(endpointDataReference, "bpn",
+                "aas-id", true);
+        final var cached = cachingClient.getAssetAdministrationShellDescriptor(endpointDataReference, "bpn",
+                "aas-id");
+
+        // then
+        assertThat(bypassed.getIdShort()).isEqualTo("fresh");
+        assertThat(cached.getIdShort()).isEqualTo("fresh");
+        verify(restTemplate, times(2)).exchange(any(), eq(HttpMethod.GET), any(),
+                eq(AssetAdministrationShellDescriptor.class));
+    }
+
+    @Test
+    void shouldNotServeCachedDescriptorOfOtherRegistryBehindTheSameDataPlane() {
+        // given
+        final var cachingClient = new DecentralDigitalTwinRegistryClient(restTemplate, SHELL_DESCRIPTORS,
+                LOOKUP_SHELLS, new ShellDescriptorCache(Duration.ofMinutes(10), 10, Clock.systemUTC()));
+        final var descriptor = AssetAdministrationShellDescriptor.builder().id("aas-id").build();
+        when(restTemplate.exchange(any(), eq(HttpMethod.GET), any(),
+                eq(AssetAdministrationShellDescriptor.class))).thenReturn(ResponseEntity.of(Optional.of(descriptor)));
+
+        // when
+        cachingClient.getAssetAdministrationShellDescriptor(endpointDataReference("contract", "url.to.host"), "bpn",
+                "aas-id");
+        cachingClient.getAssetAdministrationShellDescriptor(endpointDataReference("contract", "url.to.host"),
+                "otherBpn", "aas-id");
+        cachingClient.getAssetAdministrationShellDescriptor(endpointDataReference("otherContract", "url.to.host"),
+                "bpn", "aas-id");
+
+        // then
+        verify(restTemplate, times(3)).exchange(any(), eq(HttpMethod.GET), any(),
+                eq(AssetAdministrationShellDescriptor.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldRevalidateExpiredDescriptorWithETag() {
+        // given
+        final Clock clock = mock(Clock.class);
+        final Instant fetchedAt = Instant.parse("2024-01-01T10:00:00Z");
+        when(clock.instant()).thenReturn(fetchedAt, fetchedAt.plus(Duration.ofMinutes(11)));
+        final var cachingClient = new DecentralDigitalTwinRegistryClient(restTemplate, SHELL_DESCRIPTORS,
+                LOOKUP_SHELLS, new ShellDescriptorCache(Duration.ofMinutes(10), 10, clock));
+        final EndpointDataReference endpointDataReference = endpointDataReference("contractAgreementId", "url.to.host");
+        final var descriptor = AssetAdministrationShellDescriptor.builder().id("aas-id").build();
+        final HttpHeaders responseHeaders = new HttpHeaders();
+        responseHeaders.setETag("\"v1\"");
+        when(restTemplate.exchange(any(), eq(HttpMethod.GET), any(),
+                eq(AssetAdministrationShellDescriptor.class))).thenReturn(
+                new ResponseEntity<>(descriptor, responseHeaders, HttpStatus.OK),
+                new ResponseEntity<>(HttpStatus.NOT_MODIFIED));
+
+        // when
+        cachingClient.getAssetAdministrationShellDescriptor(endpointDataReference, "bpn", "aas-id");
+        final var revalidated = cachingClient.getAssetAdministrationShellDescriptor(endpointDataReference, "bpn", "aas-id");
+
+        // then
+        final ArgumentCaptor<HttpEntity<Void>> requests = ArgumentCaptor.forClass(HttpEntity.class);
+        verify(restTemplate, times(2)).exchange(any(), eq(HttpMethod.GET), requests.capture(),
+                eq(AssetAdministrationShellDescriptor.class));
+        assertThat(requests.getAllValues().get(0).getHeaders().getIfNoneMatch()).isEmpty();
+        assertThat(requests.getAllValues().get(1).getHeaders().getIfNoneMatch()).containsExactly("\"v1\"");
+        assertThat(revalidated).isEqualTo(descriptor);
+    }
+
     @Test
     void shouldCallForAllAssetAdministrationShellIdsByAssetLink() {
         // given
@@ -31,16 +31,22 @@ import static org.eclipse.tractusx.irs.registryclient.TestMother.endpointDataRef
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
 import org.eclipse.tractusx.irs.common.util.concurrent.ResultFinder;
 import org.eclipse.tractusx.irs.component.Shell;
 import org.eclipse.tractusx.irs.component.assetadministrationshell.AssetAdministrationShellDescriptor;
@@ -56,6 +62,10 @@ import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
 class DecentralDigitalTwinRegistryServiceTest {
@@ -104,8 +114,8 @@ class DecentralDigitalTwinRegistryServiceTest {
 
             when(decentralDigitalTwinRegistryClient.getAllAssetAdministrationShellIdsByAssetLink(any(),
                     any(IdentifierKeyValuePair.class))).thenReturn(lookupShellsResponse);
-            when(decentralDigitalTwinRegistryClient.getAssetAdministrationShellDescriptor(any(), any())).thenReturn(
-                    expectedShell);
+            when(decentralDigitalTwinRegistryClient.getAssetAdministrationShellDescriptor(any(), any(),
+                    any())).thenReturn(expectedShell);
 
             // when
             final var actualShell = sut.fetchShells(List.of(digitalTwinRegistryKey)).stream().map(Shell::payload);
@@ -114,6 +124,201 @@ class DecentralDigitalTwinRegistryServiceTest {
             assertThat(actualShell).containsExactly(expectedShell);
         }
 
+        @Test
+        void shouldLookUpShellIdOfGlobalAssetIdOnlyOnce() throws RegistryServiceException {
+            // given
+            final var digitalTwinRegistryKey = new DigitalTwinRegistryKey("urn:uuid:global-asset-id", "bpn");
+            final var expectedShell = shellDescriptor(emptyList());
+            final var lookupShellsResponse = LookupShellsResponse.builder().result(List.of("shell-id")).build();
+
+            when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(List.of("address"));
+            when(endpointDataForConnectorsService.createFindEndpointDataForConnectorsFutures(anyList(),
+                    any())).thenReturn(List.of(completedFuture(endpointDataReference("url.to.host"))));
+            when(decentralDigitalTwinRegistryClient.getAllAssetAdministrationShellIdsByAssetLink(any(),
+                    any(IdentifierKeyValuePair.class))).thenReturn(lookupShellsResponse);
+            when(decentralDigitalTwinRegistryClient.getAssetAdministrationShellDescriptor(any(), any(),
+                    eq("shell-id"))).thenReturn(expectedShell);
+
+            // when
+            sut.fetchShells(List.of(digitalTwinRegistryKey));
+            final var actualShell = sut.fetchShells(List.of(digitalTwinRegistryKey)).stream().map(Shell::payload);
+
+            // then
+            assertThat(actualShell).containsExactly(expectedShell);
+            verify(decentralDigitalTwinRegistryClient, times(1)).getAllAssetAdministrationShellIdsByAssetLink(any(),
+                    any(IdentifierKeyValuePair.class));
+            verify(decentralDigitalTwinRegistryClient, times(2)).getAssetAdministrationShellDescriptor(any(), any(),
+                    eq("shell-id"));
+        }
+
+        @Test
+        void shouldLookUpShellIdAgainIfCachedShellIsNotFound() throws RegistryServiceException {
+            // given
+            final var digitalTwinRegistryKey = new DigitalTwinRegistryKey("urn:uuid:global-asset-id", "bpn");
+            final var expectedShell = shellDescriptor(emptyList());
+            final var lookupShellsResponse = LookupShellsResponse.builder().result(List.of("shell-id")).build();
+            final var notFound = HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not found",
+                    new HttpHeaders(), new byte[0], null);
+
+            when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(List.of("address"));
+            when(endpointDataForConnectorsService.createFindEndpointDataForConnectorsFutures(anyList(),
+                    any())).thenReturn(List.of(completedFuture(endpointDataReference("url.to.host"))));
+            when(decentralDigitalTwinRegistryClient.getAllAssetAdministrationShellIdsByAssetLink(any(),
+                    any(IdentifierKeyValuePair.class))).thenReturn(lookupShellsResponse);
+            when(decentralDigitalTwinRegistryClient.getAssetAdministrationShellDescriptor(any(), any(),
+                    eq("shell-id"))).thenThrow(notFound).thenReturn(expectedShell);
+            final var keys = List.of(digitalTwinRegistryKey);
+
+            // when
+            assertThatThrownBy(() -> sut.fetchShells(keys)).isInstanceOf(ShellNotFoundException.class);
+            final var actualShell = sut.fetchShells(keys).stream().map(Shell::payload);
+
+            // then
+            assertThat(actualShell).containsExactly(expectedShell);
+            verify(decentralDigitalTwinRegistryClient, times(2)).getAllAssetAdministrationShellIdsByAssetLink(any(),
+                    any(IdentifierKeyValuePair.class));
+        }
+
+        @Test
+        void shouldNotShareCachedShellIdsBetweenRegistriesBehindTheSameDataPlane() throws RegistryServiceException {
+            // given
+            final var digitalTwinRegistryKey = new DigitalTwinRegistryKey("urn:uuid:global-asset-id", "bpn");
+            final var lookupShellsResponse = LookupShellsResponse.builder().result(List.of("shell-id")).build();
+
+            when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(List.of("address"));
+            when(endpointDataForConnectorsService.createFindEndpointDataForConnectorsFutures(anyList(),
+                    any())).thenReturn(List.of(completedFuture(endpointDataReference("first-contract", "dataplane"))),
+                    List.of(completedFuture(endpointDataReference("second-contract", "dataplane"))));
+            when(decentralDigitalTwinRegistryClient.getAllAssetAdministrationShellIdsByAssetLink(any(),
+                    any(IdentifierKeyValuePair.class))).thenReturn(lookupShellsResponse);
+            when(decentralDigitalTwinRegistryClient.getAssetAdministrationShellDescriptor(any(), any(),
+                    eq("shell-id"))).thenReturn(shellDescriptor(emptyList()));
+
+            // when
+            sut.fetchShells(List.of(digitalTwinRegistryKey));
+            sut.fetchShells(List.of(digitalTwinRegistryKey));
+
+            // then
+            verify(decentralDigitalTwinRegistryClient, times(2)).getAllAssetAdministrationShellIdsByAssetLink(any(),
+                    any(IdentifierKeyValuePair.class));
+        }
+
+        @Test
+        void shouldReturnShellsOfOtherKeysIfOneCannotBeFetched() throws RegistryServiceException {
+            // given
+            final var foundKey = new DigitalTwinRegistryKey("urn:uuid:found", "bpn");
+            final var failingKey = new DigitalTwinRegistryKey("urn:uuid:failing", "bpn");
+            final var expectedShell = shellDescriptor(emptyList());
+            final var lookupShellsResponse = LookupShellsResponse.builder().result(emptyList()).build();
+
+            when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(List.of("address"));
+            when(endpointDataForConnectorsService.createFindEndpointDataForConnectorsFutures(anyList(),
+                    any())).thenReturn(List.of(completedFuture(endpointDataReference("url.to.host"))));
+            when(decentralDigitalTwinRegistryClient.getAllAssetAdministrationShellIdsByAssetLink(any(),
+                    any(IdentifierKeyValuePair.class))).thenReturn(lookupShellsResponse);
+            when(decentralDigitalTwinRegistryClient.getAssetAdministrationShellDescriptor(any(), any(),
+                    eq("urn:uuid:found"))).thenReturn(expectedShell);
+            when(decentralDigitalTwinRegistryClient.getAssetAdministrationShellDescriptor(any(), any(),
+                    eq("urn:uuid:failing"))).thenThrow(new RestClientException("Shell not found"));
+
+            // when
+            final var actualShells = sut.fetchShells(List.of(foundKey, failingKey)).stream().map(Shell::payload);
+
+            // then
+            assertThat(actualShells).containsExactly(expectedShell);
+        }
+
+        @Test
+        void shouldMergeShellsOfKeysRegisteredInDifferentRegistries() throws RegistryServiceException {
+            // given
+            final var firstKey = new DigitalTwinRegistryKey("urn:uuid:first", "bpn");
+            final var secondKey = new DigitalTwinRegistryKey("urn:uuid:second", "bpn");
+            final var firstShell = AssetAdministrationShellDescriptor.builder().id("urn:uuid:first").build();
+            final var secondShell = AssetAdministrationShellDescriptor.builder().id("urn:uuid:second").build();
+            final var firstRegistry = endpointDataReference("first-contract", "dtr.one");
+            final var secondRegistry = endpointDataReference("second-contract", "dtr.two");
+            final var lookupShellsResponse = LookupShellsResponse.builder().result(emptyList()).build();
+
+            when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(List.of("one", "two"));
+            when(endpointDataForConnectorsService.createFindEndpointDataForConnectorsFutures(anyList(),
+                    any())).thenReturn(List.of(completedFuture(firstRegistry), completedFuture(secondRegistry)));
+            when(decentralDigitalTwinRegistryClient.getAllAssetAdministrationShellIdsByAssetLink(any(),
+                    any(IdentifierKeyValuePair.class))).thenReturn(lookupShellsResponse);
+            when(decentralDigitalTwinRegistryClient.getAssetAdministrationShellDescriptor(firstRegistry, "bpn",
+                    "urn:uuid:first")).thenReturn(firstShell);
+            when(decentralDigitalTwinRegistryClient.getAssetAdministrationShellDescriptor(firstRegistry, "bpn",
+                    "urn:uuid:second")).thenThrow(new RestClientException("Shell not found"));
+            when(decentralDigitalTwinRegistryClient.getAssetAdministrationShellDescriptor(secondRegistry, "bpn",
+                    "urn:uuid:first")).thenThrow(new RestClientException("Shell not found"));
+            when(decentralDigitalTwinRegistryClient.getAssetAdministrationShellDescriptor(secondRegistry, "bpn",
+                    "urn:uuid:second")).thenReturn(secondShell);
+
+            // when
+            final var actualShells = sut.fetchShellsByKey(List.of(firstKey, secondKey));
+
+            // then
+            assertThat(actualShells).containsOnlyKeys(firstKey, secondKey);
+            assertThat(actualShells.get(firstKey).payload()).isEqualTo(firstShell);
+            assertThat(actualShells.get(firstKey).contractAgreementId()).isEqualTo("first-contract");
+            assertThat(actualShells.get(secondKey).payload()).isEqualTo(secondShell);
+            assertThat(actualShells.get(secondKey).contractAgreementId()).isEqualTo("second-contract");
+        }
+
+        @Test
+        void shouldCallRegistryOnGivenExecutor() throws RegistryServiceException {
+            // given
+            final var executedTasks = new AtomicInteger();
+            final Executor countingExecutor = task -> {
+                executedTasks.incrementAndGet();
+                task.run();
+            };
+            final var service = new DecentralDigitalTwinRegistryService(connectorEndpointsService,
+                    endpointDataForConnectorsService, decentralDigitalTwinRegistryClient, new EdcConfiguration(),
+                    new ShellIdCache(10), countingExecutor);
+            final var lookupShellsResponse = LookupShellsResponse.builder().result(emptyList()).build();
+
+            when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(List.of("address"));
+            when(endpointDataForConnectorsService.createFindEndpointDataForConnectorsFutures(anyList(),
+                    any())).thenReturn(List.of(completedFuture(endpointDataReference("url.to.host"))));
+            when(decentralDigitalTwinRegistryClient.getAllAssetAdministrationShellIdsByAssetLink(any(),
+                    any(IdentifierKeyValuePair.class))).thenReturn(lookupShellsResponse);
+            when(decentralDigitalTwinRegistryClient.getAssetAdministrationShellDescriptor(any(), any(),
+                    any())).thenReturn(shellDescriptor(emptyList()));
+
+            // when
+            service.fetchShells(List.of(new DigitalTwinRegistryKey("urn:uuid:first", "bpn"),
+                    new DigitalTwinRegistryKey("urn:uuid:second", "bpn")));
+
+            // then
+            // one task for the endpoint and one per key
+            assertThat(executedTasks).hasValue(3);
+        }
+
+        @Test
+        void shouldCancelEndpointDataReferenceOfSlowerEndpoint() throws RegistryServiceException {
+            // given
+            final var expectedShell = shellDescriptor(emptyList());
+            final var lookupShellsResponse = LookupShellsResponse.builder().result(emptyList()).build();
+            final CompletableFuture<EndpointDataReference> slowerEndpoint = new CompletableFuture<>();
+
+            when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(List.of("fast", "slow"));
+            when(endpointDataForConnectorsService.createFindEndpointDataForConnectorsFutures(anyList(),
+                    any())).thenReturn(List.of(completedFuture(endpointDataReference("url.to.host")), slowerEndpoint));
+            when(decentralDigitalTwinRegistryClient.getAllAssetAdministrationShellIdsByAssetLink(any(),
+                    any(IdentifierKeyValuePair.class))).thenReturn(lookupShellsResponse);
+            when(decentralDigitalTwinRegistryClient.getAssetAdministrationShellDescriptor(any(), any(),
+                    any())).thenReturn(expectedShell);
+
+            // when
+            final var actualShells = sut.fetchShells(List.of(new DigitalTwinRegistryKey("urn:uuid:id", "bpn")))
+                                        .stream()
+                                        .map(Shell::payload);
+
+            // then
+            assertThat(actualShells).containsExactly(expectedShell);
+            assertThat(slowerEndpoint).isCancelled();
+        }
+
         @Test
         void whenInterruptedExceptionOccurs() throws ExecutionException, InterruptedException, TimeoutException {
 
@@ -133,8 +338,8 @@ class DecentralDigitalTwinRegistryServiceTest {
 
             when(decentralDigitalTwinRegistryClient.getAllAssetAdministrationShellIdsByAssetLink(any(),
                     any(IdentifierKeyValuePair.class))).thenReturn(lookupShellsResponse);
-            when(decentralDigitalTwinRegistryClient.getAssetAdministrationShellDescriptor(any(), any())).thenReturn(
-                    shellDescriptor(emptyList()));
+            when(decentralDigitalTwinRegistryClient.getAssetAdministrationShellDescriptor(any(), any(),
+                    any())).thenReturn(shellDescriptor(emptyList()));
 
             // when
             final ThrowingCallable call = () -> sut.fetchShells(
@@ -167,8 +372,8 @@ class DecentralDigitalTwinRegistryServiceTest {
 
             when(decentralDigitalTwinRegistryClient.getAllAssetAdministrationShellIdsByAssetLink(any(),
                     any(IdentifierKeyValuePair.class))).thenReturn(lookupShellsResponse);
-            when(decentralDigitalTwinRegistryClient.getAssetAdministrationShellDescriptor(any(), any())).thenReturn(
-                    shellDescriptor(emptyList()));
+            when(decentralDigitalTwinRegistryClient.getAssetAdministrationShellDescriptor(any(), any(),
+                    any())).thenReturn(shellDescriptor(emptyList()));
 
             // when
             final var bpn = "dummyBpn";
@@ -228,8 +433,8 @@ class DecentralDigitalTwinRegistryServiceTest {
                     any())).thenReturn(dataRefFutures);
             when(decentralDigitalTwinRegistryClient.getAllAssetAdministrationShellIdsByAssetLink(any(),
                     any(IdentifierKeyValuePair.class))).thenReturn(lookupShellsResponse);
-            when(decentralDigitalTwinRegistryClient.getAssetAdministrationShellDescriptor(any(), any())).thenReturn(
-                    expectedShell);
+            when(decentralDigitalTwinRegistryClient.getAssetAdministrationShellDescriptor(any(), any(),
+                    any())).thenReturn(expectedShell);
 
             // when
             final var assetAdministrationShellDescriptors = sut.lookupShellsByBPN(digitalTwinRegistryKey.bpn());
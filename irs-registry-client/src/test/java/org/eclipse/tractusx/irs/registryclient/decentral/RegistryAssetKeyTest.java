@@ -0,0 +1,55 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.registryclient.decentral;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.tractusx.irs.registryclient.TestMother.endpointDataReference;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+class RegistryAssetKeyTest {
+
+    @Test
+    void shouldUseAssetIdOfEdcContractAgreementId() {
+        // arrange
+        final String contractId = String.join(":", base64("definition"), base64("registry-asset"), base64("uuid"));
+
+        // act
+        final RegistryAssetKey key = RegistryAssetKey.of("BPNL00000000001", endpointDataReference(contractId));
+
+        // assert
+        assertThat(key).isEqualTo(new RegistryAssetKey("BPNL00000000001", "registry-asset"));
+    }
+
+    @Test
+    void shouldUseContractAgreementIdIfItContainsNoAssetId() {
+        // act
+        final RegistryAssetKey key = RegistryAssetKey.of("BPNL00000000001", endpointDataReference("contractId"));
+
+        // assert
+        assertThat(key).isEqualTo(new RegistryAssetKey("BPNL00000000001", "contractId"));
+    }
+
+    private static String base64(final String value) {
+        return Base64.getEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,152 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.registryclient.decentral;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.tractusx.irs.component.assetadministrationshell.AssetAdministrationShellDescriptor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ShellDescriptorCacheTest {
+
+    private static final RegistryAssetKey REGISTRY = new RegistryAssetKey("BPNL00000000001", "registry-asset");
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-01-01T10:00:00Z"));
+    private final AssetAdministrationShellDescriptor descriptor = AssetAdministrationShellDescriptor.builder()
+                                                                                                   .id("shellId")
+                                                                                                   .build();
+    private ShellDescriptorCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ShellDescriptorCache(TTL, 2, clock);
+        cache.bindTo(meterRegistry);
+    }
+
+    @Test
+    void shouldReturnDescriptorWithinTimeToLive() {
+        // arrange
+        cache.put(REGISTRY, "shellId", descriptor, "\"v1\"");
+
+        // act & assert
+        assertThat(cache.getValid(REGISTRY, "shellId")).contains(descriptor);
+        assertThat(cache.getValid(new RegistryAssetKey("BPNL00000000002", "registry-asset"), "shellId")).isEmpty();
+        assertThat(count("hit")).isEqualTo(1);
+        assertThat(count("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepETagOfExpiredDescriptorForRevalidation() {
+        // arrange
+        cache.put(REGISTRY, "shellId", descriptor, "\"v1\"");
+
+        // act
+        clock.advance(TTL.plusSeconds(1));
+
+        // assert
+        assertThat(cache.getValid(REGISTRY, "shellId")).isEmpty();
+        assertThat(cache.getETag(REGISTRY, "shellId")).contains("\"v1\"");
+    }
+
+    @Test
+    void shouldRestartTimeToLiveWhenRevalidated() {
+        // arrange
+        cache.put(REGISTRY, "shellId", descriptor, "\"v1\"");
+        clock.advance(TTL.plusSeconds(1));
+
+        // act
+        final var revalidated = cache.revalidate(REGISTRY, "shellId");
+
+        // assert
+        assertThat(revalidated).contains(descriptor);
+        assertThat(cache.getValid(REGISTRY, "shellId")).contains(descriptor);
+        assertThat(meterRegistry.get("cache.revalidations").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedDescriptorWhenFull() {
+        // arrange
+        cache.put(REGISTRY, "first", descriptor, null);
+        cache.put(REGISTRY, "second", descriptor, null);
+        cache.getValid(REGISTRY, "first");
+
+        // act
+        cache.put(REGISTRY, "third", descriptor, null);
+
+        // assert
+        assertThat(cache.getValid(REGISTRY, "second")).isEmpty();
+        assertThat(cache.getValid(REGISTRY, "first")).isPresent();
+        assertThat(meterRegistry.get("cache.size").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotCacheWhenDisabled() {
+        // arrange
+        final ShellDescriptorCache disabled = ShellDescriptorCache.disabled();
+
+        // act
+        disabled.put(REGISTRY, "shellId", descriptor, "\"v1\"");
+
+        // assert
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(disabled.getValid(REGISTRY, "shellId")).isEmpty();
+    }
+
+    private double count(final String result) {
+        return meterRegistry.get("cache.gets").tag("result", result).functionCounter().count();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(final Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(final Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.registryclient.decentral;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ShellIdCacheTest {
+
+    private static final RegistryAssetKey REGISTRY = new RegistryAssetKey("BPNL00000000001", "registry-asset");
+    private static final RegistryAssetKey OTHER_REGISTRY = new RegistryAssetKey("BPNL00000000002", "registry-asset");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ShellIdCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ShellIdCache(2);
+        cache.bindTo(meterRegistry);
+    }
+
+    @Test
+    void shouldReturnCachedShellIdOnlyForSameRegistry() {
+        // arrange
+        cache.put(REGISTRY, "globalAssetId", "shellId");
+
+        // act & assert
+        assertThat(cache.get(REGISTRY, "globalAssetId")).contains("shellId");
+        assertThat(cache.get(OTHER_REGISTRY, "globalAssetId")).isEmpty();
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedShellIdWhenFull() {
+        // arrange
+        cache.put(REGISTRY, "first", "shell1");
+        cache.put(REGISTRY, "second", "shell2");
+        cache.get(REGISTRY, "first");
+
+        // act
+        cache.put(REGISTRY, "third", "shell3");
+
+        // assert
+        assertThat(cache.get(REGISTRY, "first")).contains("shell1");
+        assertThat(cache.get(REGISTRY, "second")).isEmpty();
+        assertThat(cache.get(REGISTRY, "third")).contains("shell3");
+        assertThat(meterRegistry.get("cache.size").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRemoveShellIdOnlyForSameRegistry() {
+        // arrange
+        cache.put(REGISTRY, "globalAssetId", "shellId");
+        cache.put(OTHER_REGISTRY, "globalAssetId", "otherShellId");
+
+        // act
+        cache.remove(REGISTRY, "globalAssetId");
+
+        // assert
+        assertThat(cache.get(REGISTRY, "globalAssetId")).isEmpty();
+        assertThat(cache.get(OTHER_REGISTRY, "globalAssetId")).contains("otherShellId");
+    }
+
+    @Test
+    void shouldCountHitsAndMissesPerRegistryProvider() {
+        // arrange
+        cache.put(REGISTRY, "globalAssetId", "shellId");
+
+        // act
+        cache.get(REGISTRY, "globalAssetId");
+        cache.get(REGISTRY, "globalAssetId");
+        cache.get(REGISTRY, "unknown");
+        cache.get(OTHER_REGISTRY, "globalAssetId");
+
+        // assert
+        assertThat(count("BPNL00000000001", "hit")).isEqualTo(2);
+        assertThat(count("BPNL00000000001", "miss")).isEqualTo(1);
+        assertThat(count("BPNL00000000002", "hit")).isZero();
+        assertThat(count("BPNL00000000002", "miss")).isEqualTo(1);
+    }
+
+    private double count(final String bpn, final String result) {
+        return meterRegistry.get("cache.gets").tag("bpn", bpn).tag("result", result).functionCounter().count();
+    }
+}